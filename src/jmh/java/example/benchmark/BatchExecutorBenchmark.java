@@ -0,0 +1,177 @@
+package example.benchmark;
+
+import example.domain.Money;
+import example.domain.Product;
+import example.mapper.ProductMapper;
+import example.mybatis.BulkSqlSessions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 트랜잭션 안의 statement N개: SIMPLE vs BATCH vs REUSE Executor
+ *
+ * - updateSimple: 기본 Mapper로 재고 UPDATE N번 (statement마다 prepare + execute 왕복)
+ * - updateBatch: BATCH Mapper로 N번 addBatch 후 flush (executeBatch 한 번, 변경 행 수 확인)
+ * - insertSimple / insertBatch: 상품 INSERT N번 (BATCH는 flush 후 자동 생성 키가 채워졌는지 확인)
+ * - findSimple / findReuse: 상품 findById N번 (REUSE는 PreparedStatement를 트랜잭션 동안 재사용)
+ *
+ * 각 호출은 롤백되므로 반복해도 데이터 크기가 변하지 않음
+ * 인메모리 H2는 왕복 비용이 메서드 호출 수준이라 차이가 네트워크 DB보다 훨씬 작게 나타남
+ * (네트워크 DB에서는 왕복당 지연 x N이 절감되는 몫)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BatchExecutorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchExecutorBenchmark {
+
+    /**
+     * 트랜잭션당 statement 수
+     */
+    @Param({"10", "100", "1000"})
+    public int statements;
+
+    private BenchmarkDatabase database;
+    private BulkSqlSessions bulkSqlSessions;
+    private ProductMapper productMapper;
+    private ProductMapper batchProductMapper;
+    private ProductMapper reuseProductMapper;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(10, 1000, 10);
+        bulkSqlSessions = database.getBulkSqlSessions();
+        productMapper = database.getMapper(ProductMapper.class);
+        batchProductMapper = bulkSqlSessions.batchMapper(ProductMapper.class);
+        reuseProductMapper = bulkSqlSessions.reuseMapper(ProductMapper.class);
+        transactionTemplate = database.getTransactionTemplate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public int updateSimple() {
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < statements; i++) {
+                productMapper.updateStock(productId(i), -1);
+            }
+            status.setRollbackOnly();
+            return statements;
+        });
+    }
+
+    @Benchmark
+    public int updateBatch() {
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < statements; i++) {
+                batchProductMapper.updateStock(productId(i), -1);
+            }
+            int updated = 0;
+            for (int count : BulkSqlSessions.updateCounts(bulkSqlSessions.flush())) {
+                updated += count;
+            }
+            if (updated != statements) {
+                throw new IllegalStateException("Expected " + statements + " updated rows but was " + updated);
+            }
+            status.setRollbackOnly();
+            return updated;
+        });
+    }
+
+    @Benchmark
+    public long insertSimple() {
+        return transactionTemplate.execute(status -> {
+            long keys = 0;
+            for (int i = 0; i < statements; i++) {
+                Product product = newProduct(i);
+                productMapper.insert(product);
+                keys += product.getId();
+            }
+            status.setRollbackOnly();
+            return keys;
+        });
+    }
+
+    @Benchmark
+    public long insertBatch() {
+        return transactionTemplate.execute(status -> {
+            List<Product> products = new ArrayList<>(statements);
+            for (int i = 0; i < statements; i++) {
+                Product product = newProduct(i);
+                batchProductMapper.insert(product);
+                products.add(product);
+            }
+            bulkSqlSessions.flush();
+            long keys = 0;
+            for (Product product : products) {
+                if (product.getId() == null) {
+                    throw new IllegalStateException("Generated key was not populated after flush");
+                }
+                keys += product.getId();
+            }
+            status.setRollbackOnly();
+            return keys;
+        });
+    }
+
+    @Benchmark
+    public int findSimple() {
+        return transactionTemplate.execute(status -> find(productMapper));
+    }
+
+    @Benchmark
+    public int findReuse() {
+        return transactionTemplate.execute(status -> find(reuseProductMapper));
+    }
+
+    private int find(ProductMapper mapper) {
+        int found = 0;
+        for (int i = 0; i < statements; i++) {
+            Optional<Product> product = mapper.findById(productId(i));
+            if (product.isPresent()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private long productId(int i) {
+        return 1 + i % database.getProductCount();
+    }
+
+    private static Product newProduct(int i) {
+        return Product.builder()
+                .name("Batch Product " + i)
+                .description("BatchExecutorBenchmark")
+                .price(Money.parse("9.99"))
+                .stockQuantity(100)
+                .category("Benchmark")
+                .status("AVAILABLE")
+                .build();
+    }
+}
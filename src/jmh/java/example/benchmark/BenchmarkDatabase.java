@@ -0,0 +1,142 @@
+package example.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import example.config.MyBatisConfig;
+import example.datagen.DataGenerationSpec;
+import example.datagen.SyntheticDataGenerator;
+import example.mapper.TokenRevocationMapper;
+import example.mybatis.BulkSqlSessions;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 임베디드 H2 + MyBatis 구성
+ *
+ * - Spring 컨텍스트 없이 schema.sql, Mapper XML, MyBatisConfig 설정만으로 MyBatis 계층 구성
+ * - SyntheticDataGenerator로 고정 시드의 사용자/상품/주문 데이터를 생성하므로 실행마다 같은 데이터
+ * - SqlSessionTemplate + DataSourceTransactionManager 조합이라 @Transactional과 같은 방식으로 트랜잭션 참여
+ */
+public final class BenchmarkDatabase {
+
+    /**
+     * BCrypt로 암호화된 'password123' (data.sql과 동일)
+     */
+    static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    private final HikariDataSource dataSource;
+    private final SqlSessionTemplate sqlSession;
+    private final BulkSqlSessions bulkSqlSessions;
+    private final TransactionTemplate transactionTemplate;
+    private final int userCount;
+    private final int productCount;
+    private final int orderCount;
+
+    private BenchmarkDatabase(HikariDataSource dataSource, SqlSessionFactory sqlSessionFactory,
+                              int userCount, int productCount, int orderCount) {
+        this.dataSource = dataSource;
+        this.sqlSession = new SqlSessionTemplate(sqlSessionFactory);
+        this.bulkSqlSessions = new BulkSqlSessions(sqlSessionFactory);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.userCount = userCount;
+        this.productCount = productCount;
+        this.orderCount = orderCount;
+    }
+
+    /**
+     * 새 인메모리 DB 생성 후 데이터 적재
+     *
+     * @param userCount    사용자 수 (user1 ~ userN, ID 1 ~ N)
+     * @param productCount 상품 수 (ID 1 ~ N)
+     * @param orderCount   주문 수 (ID 1 ~ N, 주문당 1~5개 항목)
+     * @param plugins      MyBatis 플러그인 (MyBatisConfig.sqlSessionFactory와 같은 방식으로 등록)
+     */
+    public static BenchmarkDatabase create(int userCount, int productCount, int orderCount,
+                                           Interceptor... plugins) throws Exception {
+        // 애플리케이션과 같은 HikariCP 커넥션 풀 사용
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        // 로그인/주문이 비활성 계정이나 재고 부족으로 실패하지 않도록 모든 계정 활성, 재고는 넉넉히 설정
+        new SyntheticDataGenerator(dataSource).generate(DataGenerationSpec.builder()
+                .users(userCount)
+                .products(productCount)
+                .orders(orderCount)
+                .inactivePercent(0)
+                .minStock(1_000_000_000)
+                .maxStock(1_000_000_000)
+                .passwordHash(PASSWORD_HASH)
+                .build());
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(MyBatisConfig.mybatisConfiguration());
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath:mapper/**/*.xml"));
+        factoryBean.setTypeAliasesPackage("example.domain");
+        factoryBean.setPlugins(plugins);
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+
+        // XML이 없는 어노테이션 전용 Mapper는 직접 등록 (@MapperScan 역할)
+        sqlSessionFactory.getConfiguration().addMapper(TokenRevocationMapper.class);
+
+        return new BenchmarkDatabase(dataSource, sqlSessionFactory, userCount, productCount, orderCount);
+    }
+
+    /**
+     * Mapper 프록시 (스레드 안전, 트랜잭션 밖에서는 호출마다 자동 커밋)
+     */
+    public <T> T getMapper(Class<T> type) {
+        return sqlSession.getMapper(type);
+    }
+
+    /**
+     * BATCH/REUSE Executor 세션 (MyBatisConfig.bulkSqlSessions와 같은 구성)
+     */
+    public BulkSqlSessions getBulkSqlSessions() {
+        return bulkSqlSessions;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @Transactional 대신 사용할 트랜잭션 템플릿
+     */
+    public TransactionTemplate getTransactionTemplate() {
+        return transactionTemplate;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * 인메모리 DB 종료
+     */
+    public void shutdown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        dataSource.close();
+    }
+}
@@ -0,0 +1,149 @@
+package example.benchmark;
+
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.dto.BulkOrderResult;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.service.BulkOrderService;
+import example.service.OrderDetailAssembler;
+import example.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 접수 처리량: 주문마다 createOrder (주문당 트랜잭션) vs BulkOrderService.ingestOrders (요청당 트랜잭션)
+ *
+ * 호출 한 번에 orders개 주문을 처리하고 @OperationsPerInvocation으로 나누므로 결과는 두 방식 모두 초당 주문 수
+ * - single: 주문마다 상품 조회(항목 수) + 주문 INSERT + 항목 INSERT + 재고 UPDATE(항목 수) + 커밋
+ * - bulk: 사용자 확인 1 + 상품 잠금 조회 1 + 재고 UPDATE(상품 수, executeBatch 한 번) + 다중 행 INSERT + 커밋 1
+ * 상품은 hotProducts개 중에서 고르므로 값이 작을수록 주문 사이에 겹치는 상품이 많아 bulk의 재고 UPDATE가 줄어듦
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BulkOrderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkOrderBenchmark {
+
+    /**
+     * 호출당 주문 수 (@OperationsPerInvocation과 같은 값)
+     */
+    private static final int ORDERS = 1000;
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    /**
+     * 주문에 사용하는 상품 수
+     */
+    @Param({"50", "1000"})
+    public int hotProducts;
+
+    private BenchmarkDatabase database;
+    private OrderDetailAssembler orderDetailAssembler;
+    private OrderService orderService;
+    private BulkOrderService bulkOrderService;
+    private TransactionTemplate transactionTemplate;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 1000, 1000);
+        transactionTemplate = database.getTransactionTemplate();
+        orderDetailAssembler = new OrderDetailAssembler(
+                database.getMapper(OrderMapper.class),
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                database.getMapper(UserMapper.class),
+                transactionTemplate.getTransactionManager(),
+                true, Duration.ofSeconds(2), Duration.ofSeconds(5), 10_000);
+        orderService = new OrderService(
+                database.getMapper(OrderMapper.class),
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                orderDetailAssembler,
+                database.getBulkSqlSessions(),
+                10_000);
+        bulkOrderService = new BulkOrderService(
+                database.getMapper(OrderMapper.class),
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                database.getMapper(UserMapper.class),
+                database.getBulkSqlSessions(),
+                ORDERS);
+        random = new SplittableRandom(17);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderDetailAssembler.close();
+        database.shutdown();
+    }
+
+    /**
+     * 호출마다 새 주문 목록 (생성 시 id/가격이 채워지므로 재사용하지 않음)
+     */
+    private List<Order> newOrders() {
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(OrderItem.builder()
+                        .productId(1L + random.nextInt(hotProducts))
+                        .quantity(1 + random.nextInt(3))
+                        .build());
+            }
+            orders.add(Order.builder()
+                    .userId(1L + random.nextInt(database.getUserCount()))
+                    .shippingAddress("123 Main St, New York, NY 10001")
+                    .orderItems(items)
+                    .build());
+        }
+        return orders;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public long single() {
+        long created = 0;
+        for (Order order : newOrders()) {
+            created += transactionTemplate.execute(status -> orderService.createOrder(order)).getId();
+        }
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public BulkOrderResult bulk() {
+        List<Order> orders = newOrders();
+        BulkOrderResult result = transactionTemplate.execute(status -> bulkOrderService.ingestOrders(orders));
+        if (result.getAccepted() != ORDERS) {
+            throw new IllegalStateException("Expected all orders to be accepted: " + result.getRejected() + " rejected");
+        }
+        return result;
+    }
+}
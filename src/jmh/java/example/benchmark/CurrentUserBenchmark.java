@@ -0,0 +1,91 @@
+package example.benchmark;
+
+import example.JwtLoginApplication;
+import example.dto.AuthResponse;
+import example.dto.SignupRequest;
+import example.service.AuthService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/auth/me/claims 지연 시간 벤치마크
+ *
+ * embedUserClaims=false: 토큰에 사용자 클레임이 없으므로 매 요청마다 userMapper.findByUsername 조회
+ * embedUserClaims=true : JWT 클레임만으로 사용자 정보 구성 (DB 조회 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CurrentUserBenchmark {
+
+    @Param({"false", "true"})
+    public boolean embedUserClaims;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest meRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(JwtLoginApplication.class)
+                .properties(
+                        "server.port=0",
+                        "jwt.claims.embed-user=" + embedUserClaims,
+                        "logging.level.root=WARN",
+                        "logging.level.example.mapper=WARN")
+                .run();
+
+        AuthResponse signup = context.getBean(AuthService.class).signup(SignupRequest.builder()
+                .username("bench_me")
+                .password("password123")
+                .email("bench_me@example.com")
+                .fullName("Bench Me")
+                .build());
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newHttpClient();
+        meRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/me/claims"))
+                .header("Authorization", "Bearer " + signup.getToken())
+                .GET()
+                .build();
+
+        HttpResponse<String> response = client.send(meRequest, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("/api/auth/me/claims returned " + response.statusCode());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String currentUser() throws IOException, InterruptedException {
+        return client.send(meRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,95 @@
+package example.benchmark;
+
+import example.domain.User;
+import example.security.CachingJwtDecoder;
+import example.security.JwtSigningKeys;
+import example.security.JwtTokenProvider;
+import example.security.SigningAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급 및 JwtDecoder 검증 벤치마크 (애플리케이션 기본값 RS256)
+ *
+ * - generateToken*: 클레임 구성 + 서명
+ * - decode: 매번 서명 검증 + 기본 검증기(exp, nbf)
+ * - decodeCached: CachingJwtDecoder 적중 (digest 계산 + 검증기만 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private NimbusJwtDecoder decoder;
+    private CachingJwtDecoder cachingDecoder;
+    private Authentication authentication;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtSigningKeys keys = SigningAlgorithmBenchmark.loadKeys(SigningAlgorithm.RS256);
+        tokenProvider = new JwtTokenProvider(keys.createEncoder(), keys, true);
+
+        OAuth2TokenValidator<Jwt> validator = JwtValidators.createDefault();
+        decoder = keys.createDecoder();
+        decoder.setJwtValidator(validator);
+        cachingDecoder = new CachingJwtDecoder(decoder, validator, 10_000);
+
+        authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "john_doe", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        user = User.builder()
+                .id(2L)
+                .username("john_doe")
+                .email("john@example.com")
+                .fullName("John Doe")
+                .role("ROLE_USER")
+                .build();
+
+        token = tokenProvider.generateToken(user);
+        cachingDecoder.decode(token);
+    }
+
+    @Benchmark
+    public String generateTokenFromAuthentication() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateTokenFromUser() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCached() {
+        return cachingDecoder.decode(token);
+    }
+}
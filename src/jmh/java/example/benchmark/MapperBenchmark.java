@@ -0,0 +1,181 @@
+package example.benchmark;
+
+import example.datagen.SyntheticDataGenerator;
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.domain.OrderStatus;
+import example.domain.Product;
+import example.domain.TokenRevocation;
+import example.domain.User;
+import example.dto.OrderSearchCriteria;
+import example.dto.ProductSearchCriteria;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.TokenRevocationMapper;
+import example.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapper 조회 쿼리 벤치마크 (임베디드 H2, 생성 데이터)
+ *
+ * SQL 실행 + ResultMap 매핑 비용을 함께 측정
+ * - orderFindById: orderDetailResultMap (Association + Collection + 중첩 Association)
+ * - orderFindByUserId/orderSearch: orderWithUserResultMap (Association)
+ * - orderItemFindByOrderId: orderItemWithProductResultMap
+ * - product*, user*: resultType + autoMapping / 어노테이션 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    /**
+     * 데이터 규모 (사용자 수, 상품 수는 1/2, 주문 수는 10배)
+     */
+    @Param({"1000"})
+    public int users;
+
+    private BenchmarkDatabase database;
+    private UserMapper userMapper;
+    private ProductMapper productMapper;
+    private OrderMapper orderMapper;
+    private OrderItemMapper orderItemMapper;
+    private TokenRevocationMapper tokenRevocationMapper;
+
+    /**
+     * 조회 대상 ID (스레드마다 고정 시드로 생성)
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(7);
+        }
+
+        long next(int bound) {
+            return 1 + random.nextInt(bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(users, users / 2, users * 10);
+        userMapper = database.getMapper(UserMapper.class);
+        productMapper = database.getMapper(ProductMapper.class);
+        orderMapper = database.getMapper(OrderMapper.class);
+        orderItemMapper = database.getMapper(OrderItemMapper.class);
+        tokenRevocationMapper = database.getMapper(TokenRevocationMapper.class);
+
+        // 시작 시 적재되는 폐기 정보 (findActive)
+        Instant now = Instant.now();
+        for (int i = 0; i < 100; i++) {
+            tokenRevocationMapper.upsert(TokenRevocation.builder()
+                    .revocationKey("jti-" + i)
+                    .type(TokenRevocation.TYPE_TOKEN)
+                    .revokedAt(now)
+                    .expiresAt(now.plusSeconds(3600))
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Optional<User> userFindById(Keys keys) {
+        return userMapper.findById(keys.next(database.getUserCount()));
+    }
+
+    @Benchmark
+    public Optional<User> userFindByUsername(Keys keys) {
+        return userMapper.findByUsername("user" + keys.next(database.getUserCount()));
+    }
+
+    @Benchmark
+    public boolean userExistsByUsername(Keys keys) {
+        return userMapper.existsByUsername("user" + keys.next(database.getUserCount()));
+    }
+
+    @Benchmark
+    public Optional<Product> productFindById(Keys keys) {
+        return productMapper.findById(keys.next(database.getProductCount()));
+    }
+
+    @Benchmark
+    public List<Product> productFindByCategory(Keys keys) {
+        return productMapper.findByCategory(SyntheticDataGenerator.CATEGORIES[(int) keys.next(SyntheticDataGenerator.CATEGORIES.length) - 1]);
+    }
+
+    @Benchmark
+    public List<Product> productSearch(Keys keys) {
+        return productMapper.search(ProductSearchCriteria.builder()
+                .categories(List.of(SyntheticDataGenerator.CATEGORIES[(int) keys.next(SyntheticDataGenerator.CATEGORIES.length) - 1]))
+                .minPrice(new BigDecimal("100.00"))
+                .maxPrice(new BigDecimal("200.00"))
+                .inStockOnly(true)
+                .statuses(List.of("AVAILABLE"))
+                .build());
+    }
+
+    @Benchmark
+    public Optional<Order> orderFindById(Keys keys) {
+        return orderMapper.findById(keys.next(database.getOrderCount()));
+    }
+
+    @Benchmark
+    public List<Order> orderFindByUserId(Keys keys) {
+        return orderMapper.findByUserId(keys.next(database.getUserCount()));
+    }
+
+    @Benchmark
+    public List<Order> orderSearch(Keys keys) {
+        return orderMapper.search(OrderSearchCriteria.builder()
+                .userId(keys.next(database.getUserCount()))
+                .status(OrderStatus.PENDING)
+                .sortBy("total_amount")
+                .sortDirection("DESC")
+                .build());
+    }
+
+    @Benchmark
+    public BigDecimal orderTotalAmountByUserId(Keys keys) {
+        return orderMapper.getTotalAmountByUserId(keys.next(database.getUserCount()));
+    }
+
+    @Benchmark
+    public List<OrderItem> orderItemFindByOrderId(Keys keys) {
+        return orderItemMapper.findByOrderId(keys.next(database.getOrderCount()));
+    }
+
+    @Benchmark
+    public List<TokenRevocation> tokenRevocationFindActive() {
+        return tokenRevocationMapper.findActive(Instant.now());
+    }
+}
@@ -0,0 +1,187 @@
+package example.benchmark;
+
+import example.domain.OrderStatus;
+import example.domain.Product;
+import example.domain.User;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.service.OrderDetailAssembler;
+import example.service.OrderService;
+import example.service.ProductService;
+import example.service.UserService;
+import example.service.UserUniquenessFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수정/삭제 처리량: 존재 확인 조회 후 쓰기(이전 방식) vs 변경된 행 수로 존재 확인(현재 서비스)
+ *
+ * - *ReadFirst: findById로 존재를 확인한 뒤 쓰기 (주문 findById는 4개 테이블 조인)
+ * - 나머지: 서비스 메서드 그대로 (쓰기 statement 하나, 0행이면 not found)
+ * - 주문 상태: 모든 주문을 CONFIRMED로 맞춰 두고 SHIPPED로 전이 (ReadFirst는 조회한 상태를 Java에서 확인)
+ * 각 호출은 한 트랜잭션이며, 주문 상태 변경과 삭제는 롤백하므로 반복해도 데이터가 바뀌지 않음
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MutationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MutationBenchmark {
+
+    private BenchmarkDatabase database;
+    private UserMapper userMapper;
+    private ProductMapper productMapper;
+    private OrderMapper orderMapper;
+    private OrderItemMapper orderItemMapper;
+    private OrderDetailAssembler orderDetailAssembler;
+    private UserService userService;
+    private ProductService productService;
+    private OrderService orderService;
+    private TransactionTemplate transactionTemplate;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 1000, 10_000);
+        transactionTemplate = database.getTransactionTemplate();
+        userMapper = database.getMapper(UserMapper.class);
+        productMapper = database.getMapper(ProductMapper.class);
+        orderMapper = database.getMapper(OrderMapper.class);
+        orderItemMapper = database.getMapper(OrderItemMapper.class);
+        orderDetailAssembler = new OrderDetailAssembler(orderMapper, orderItemMapper, productMapper, userMapper,
+                transactionTemplate.getTransactionManager(),
+                true, Duration.ofSeconds(2), Duration.ofSeconds(5), 10_000);
+        userService = new UserService(userMapper, new UserUniquenessFilter(userMapper, 10_000, 0.01));
+        productService = new ProductService(productMapper, database.getBulkSqlSessions());
+        orderService = new OrderService(orderMapper, orderItemMapper, productMapper, orderDetailAssembler,
+                database.getBulkSqlSessions(), 10_000);
+        new JdbcTemplate(database.getDataSource()).update("UPDATE orders SET status = 'CONFIRMED'");
+        random = new SplittableRandom(23);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderDetailAssembler.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public void productUpdateReadFirst() {
+        Product product = nextProduct();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (productMapper.findById(product.getId()).isEmpty()) {
+                throw new IllegalArgumentException("Product not found with id: " + product.getId());
+            }
+            productMapper.update(product);
+        });
+    }
+
+    @Benchmark
+    public void productUpdate() {
+        Product product = nextProduct();
+        transactionTemplate.executeWithoutResult(status -> productService.updateProduct(product));
+    }
+
+    @Benchmark
+    public void userUpdateReadFirst() {
+        User user = nextUser();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userMapper.findById(user.getId()).isEmpty()) {
+                throw new IllegalArgumentException("User not found with id: " + user.getId());
+            }
+            userMapper.update(user);
+        });
+    }
+
+    @Benchmark
+    public void userUpdate() {
+        User user = nextUser();
+        transactionTemplate.executeWithoutResult(status -> userService.updateUser(user));
+    }
+
+    @Benchmark
+    public void orderStatusReadFirst() {
+        long orderId = orderId();
+        transactionTemplate.executeWithoutResult(status -> {
+            OrderStatus current = orderMapper.findById(orderId)
+                    .orElseThrow(() -> new IllegalArgumentException("Order not found with id: " + orderId))
+                    .getStatus();
+            if (!current.canTransitionTo(OrderStatus.SHIPPED)) {
+                throw new IllegalStateException("Cannot change order status from " + current);
+            }
+            orderMapper.updateStatus(orderId, OrderStatus.SHIPPED, EnumSet.of(current));
+            status.setRollbackOnly();
+        });
+    }
+
+    @Benchmark
+    public void orderStatus() {
+        long orderId = orderId();
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.updateOrderStatus(orderId, OrderStatus.SHIPPED);
+            status.setRollbackOnly();
+        });
+    }
+
+    @Benchmark
+    public void orderDeleteReadFirst() {
+        long orderId = orderId();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (orderMapper.findById(orderId).isEmpty()) {
+                throw new IllegalArgumentException("Order not found with id: " + orderId);
+            }
+            orderItemMapper.deleteByOrderId(orderId);
+            orderMapper.delete(orderId);
+            status.setRollbackOnly();
+        });
+    }
+
+    @Benchmark
+    public void orderDelete() {
+        long orderId = orderId();
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.deleteOrder(orderId);
+            status.setRollbackOnly();
+        });
+    }
+
+    private Product nextProduct() {
+        Product product = new Product();
+        product.setId(1L + random.nextInt(database.getProductCount()));
+        product.setStockQuantity(100 + random.nextInt(100));
+        return product;
+    }
+
+    private User nextUser() {
+        User user = new User();
+        user.setId(1L + random.nextInt(database.getUserCount()));
+        user.setFullName("Updated User " + random.nextInt(1000));
+        return user;
+    }
+
+    private long orderId() {
+        return 1L + random.nextInt(database.getOrderCount());
+    }
+}
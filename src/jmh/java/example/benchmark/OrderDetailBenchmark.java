@@ -0,0 +1,139 @@
+package example.benchmark;
+
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.service.OrderDetailAssembler;
+import example.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 항목이 많은 주문의 상세 조회: 단일 조인 vs 병렬 조립 (OrderDetailAssembler)
+ *
+ * SampleTime 모드라 결과에 p50/p90/p99 등 분위수가 함께 출력됨
+ * - join: OrderMapper.findById (readOnly 트랜잭션, 항목 수만큼 사용자/상품 컬럼이 반복되는 결과 행)
+ * - assembledCold: 매번 캐시를 비우고 조립 (헤더/사용자 ∥ 항목/상품 두 갈래 모두 DB 조회)
+ * - assembledWarm: 캐시된 항목/상품을 사용 (헤더/사용자만 조회)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderDetailBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDetailBenchmark {
+
+    /**
+     * 큰 주문의 항목 수 (서로 다른 상품)
+     */
+    @Param({"20", "100", "500"})
+    public int itemsPerOrder;
+
+    /**
+     * 벤치마크 대상 주문 수 (순서대로 돌아가며 조회)
+     */
+    private static final int LARGE_ORDERS = 50;
+
+    private BenchmarkDatabase database;
+    private OrderDetailAssembler orderDetailAssembler;
+    private OrderMapper orderMapper;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private long[] orderIds;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int bound) {
+            int index = next;
+            next = (next + 1) % bound;
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 1000, 1000);
+        TransactionTemplate transactionTemplate = database.getTransactionTemplate();
+        orderMapper = database.getMapper(OrderMapper.class);
+        orderDetailAssembler = new OrderDetailAssembler(
+                orderMapper,
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                database.getMapper(UserMapper.class),
+                transactionTemplate.getTransactionManager(),
+                true, Duration.ofSeconds(10), Duration.ofHours(1), 100_000);
+        OrderService orderService = new OrderService(
+                orderMapper,
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                orderDetailAssembler,
+                database.getBulkSqlSessions(),
+                10_000);
+
+        orderIds = new long[LARGE_ORDERS];
+        for (int order = 0; order < LARGE_ORDERS; order++) {
+            List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+            for (int i = 0; i < itemsPerOrder; i++) {
+                long productId = 1 + (order * 7L + i) % database.getProductCount();
+                items.add(OrderItem.builder().productId(productId).quantity(1).build());
+            }
+            Order created = Order.builder()
+                    .userId(1L + order)
+                    .shippingAddress("123 Main St, New York, NY 10001")
+                    .orderItems(items)
+                    .build();
+            orderIds[order] = transactionTemplate.execute(status -> orderService.createOrder(created)).getId();
+        }
+
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderDetailAssembler.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Optional<Order> join(Cursor cursor) {
+        long orderId = orderIds[cursor.next(LARGE_ORDERS)];
+        return readOnlyTransactionTemplate.execute(status -> orderMapper.findById(orderId));
+    }
+
+    @Benchmark
+    public Optional<Order> assembledCold(Cursor cursor) {
+        orderDetailAssembler.clearCaches();
+        return orderDetailAssembler.assemble(orderIds[cursor.next(LARGE_ORDERS)]);
+    }
+
+    @Benchmark
+    public Optional<Order> assembledWarm(Cursor cursor) {
+        return orderDetailAssembler.assemble(orderIds[cursor.next(LARGE_ORDERS)]);
+    }
+}
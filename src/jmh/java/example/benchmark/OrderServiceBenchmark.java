@@ -0,0 +1,125 @@
+package example.benchmark;
+
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.service.OrderDetailAssembler;
+import example.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService 주문 흐름 벤치마크
+ *
+ * createOrder: 상품 조회(항목 수만큼) + 주문 INSERT + 항목 배치 INSERT + 재고 UPDATE(항목 수만큼)를 한 트랜잭션으로 실행
+ * getOrderById: @Transactional(readOnly = true) 조회 (orderDetailResultMap)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    /**
+     * 주문당 항목 수
+     */
+    @Param({"1", "5", "20"})
+    public int itemsPerOrder;
+
+    private BenchmarkDatabase database;
+    private OrderDetailAssembler orderDetailAssembler;
+    private OrderService orderService;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @State(Scope.Thread)
+    public static class Keys {
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(11);
+        }
+
+        long next(int bound) {
+            return 1 + random.nextInt(bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 500, 10_000);
+        transactionTemplate = database.getTransactionTemplate();
+        orderDetailAssembler = new OrderDetailAssembler(
+                database.getMapper(OrderMapper.class),
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                database.getMapper(UserMapper.class),
+                transactionTemplate.getTransactionManager(),
+                true, Duration.ofSeconds(2), Duration.ofSeconds(5), 10_000);
+        // 서비스 프록시 대신 생성자로 만들고, @Transactional은 TransactionTemplate으로 대체
+        orderService = new OrderService(
+                database.getMapper(OrderMapper.class),
+                database.getMapper(OrderItemMapper.class),
+                database.getMapper(ProductMapper.class),
+                orderDetailAssembler,
+                database.getBulkSqlSessions(),
+                10_000);
+
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderDetailAssembler.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Order createOrder(Keys keys) {
+        List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(OrderItem.builder()
+                    .productId(keys.next(database.getProductCount()))
+                    .quantity(1)
+                    .build());
+        }
+        Order order = Order.builder()
+                .userId(keys.next(database.getUserCount()))
+                .shippingAddress("123 Main St, New York, NY 10001")
+                .orderItems(items)
+                .build();
+
+        return transactionTemplate.execute(status -> orderService.createOrder(order));
+    }
+
+    @Benchmark
+    public Optional<Order> getOrderById(Keys keys) {
+        return readOnlyTransactionTemplate.execute(status -> orderService.getOrderById(keys.next(database.getOrderCount())));
+    }
+}
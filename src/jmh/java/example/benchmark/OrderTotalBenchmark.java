@@ -0,0 +1,89 @@
+package example.benchmark;
+
+import example.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 총액 계산 (createOrder/BulkOrderService의 항목별 소계 + 총액): BigDecimal vs Money
+ *
+ * - bigDecimal: 이전 방식, 항목마다 BigDecimal.valueOf(수량) + multiply + add (소계와 누적 총액이 항목마다 새 BigDecimal)
+ * - money: 소계는 Money.times(수량) (long 곱셈), 총액은 long으로 누적해 마지막에 한 번만 Money 생성
+ * 두 방식 모두 항목에 소계를 저장하므로 소계 객체 할당은 양쪽에 있음
+ * 가격은 DB에서 읽은 값과 같이 scale 2 (BigDecimal.valueOf(cents, 2) / Money.ofMinor(cents))
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderTotalBenchmark
+ * 할당량 비교: ./gradlew jmh -PjmhIncludes=OrderTotalBenchmark -PjmhProfilers=gc (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    /**
+     * 주문당 항목 수
+     */
+    @Param({"1", "5", "20"})
+    public int itemsPerOrder;
+
+    private BigDecimal[] decimalPrices;
+    private BigDecimal[] decimalSubtotals;
+    private Money[] moneyPrices;
+    private Money[] moneySubtotals;
+    private int[] quantities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(41);
+        decimalPrices = new BigDecimal[itemsPerOrder];
+        decimalSubtotals = new BigDecimal[itemsPerOrder];
+        moneyPrices = new Money[itemsPerOrder];
+        moneySubtotals = new Money[itemsPerOrder];
+        quantities = new int[itemsPerOrder];
+        for (int i = 0; i < itemsPerOrder; i++) {
+            long cents = 100 + random.nextLong(200_000);
+            decimalPrices[i] = BigDecimal.valueOf(cents, 2);
+            moneyPrices[i] = Money.ofMinor(cents);
+            quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (int i = 0; i < itemsPerOrder; i++) {
+            BigDecimal subtotal = decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            decimalSubtotals[i] = subtotal;
+            totalAmount = totalAmount.add(subtotal);
+        }
+        return totalAmount;
+    }
+
+    @Benchmark
+    public Money money() {
+        long totalAmount = 0;
+        for (int i = 0; i < itemsPerOrder; i++) {
+            Money subtotal = moneyPrices[i].times(quantities[i]);
+            moneySubtotals[i] = subtotal;
+            totalAmount = Math.addExact(totalAmount, subtotal.minorUnits());
+        }
+        return Money.ofMinor(totalAmount);
+    }
+}
@@ -0,0 +1,167 @@
+package example.benchmark;
+
+import example.domain.OrderItem;
+import example.domain.OrderStatus;
+import example.dto.OrderStatusTransitionResult;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.service.OrderDetailAssembler;
+import example.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 일괄 전이와 취소
+ *
+ * 출고 처리 (CONFIRMED -> SHIPPED)
+ * - perOrder: 주문 수만큼 guarded UPDATE (한 트랜잭션)
+ * - bulk: UPDATE ... WHERE id IN (...) AND status IN (...) 한 번
+ * 취소 (재고 복구 포함)
+ * - cancelPerItem: 이전 방식, 주문마다 상태 UPDATE + 주문 상세 항목 조회(상품 조인) + 항목마다 재고 UPDATE
+ * - cancelPerOrder: 주문마다 cancelOrder (guarded UPDATE + 재고 복구 MERGE)
+ * - cancelBulk: cancelOrders (잠금 조회 + UPDATE + MERGE, 주문 수와 관계없이 statement 세 개)
+ * 모든 주문을 CONFIRMED로 맞춰 두고 호출마다 임의 구간의 주문을 처리한 뒤 롤백
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OrderTransitionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTransitionBenchmark {
+
+    /**
+     * 호출당 전이할 주문 수
+     */
+    @Param({"100", "1000", "5000"})
+    public int orders;
+
+    private BenchmarkDatabase database;
+    private OrderDetailAssembler orderDetailAssembler;
+    private OrderService orderService;
+    private OrderMapper orderMapper;
+    private OrderItemMapper orderItemMapper;
+    private ProductMapper productMapper;
+    private TransactionTemplate transactionTemplate;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 100, 20_000);
+        transactionTemplate = database.getTransactionTemplate();
+        orderMapper = database.getMapper(OrderMapper.class);
+        orderItemMapper = database.getMapper(OrderItemMapper.class);
+        productMapper = database.getMapper(ProductMapper.class);
+        orderDetailAssembler = new OrderDetailAssembler(orderMapper, orderItemMapper,
+                productMapper, database.getMapper(UserMapper.class),
+                transactionTemplate.getTransactionManager(),
+                true, Duration.ofSeconds(2), Duration.ofSeconds(5), 10_000);
+        orderService = new OrderService(orderMapper, orderItemMapper, productMapper, orderDetailAssembler,
+                database.getBulkSqlSessions(), 10_000);
+        new JdbcTemplate(database.getDataSource()).update("UPDATE orders SET status = 'CONFIRMED'");
+        random = new SplittableRandom(31);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderDetailAssembler.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public int perOrder() {
+        List<Long> ids = orderIds();
+        return transactionTemplate.execute(status -> {
+            for (Long id : ids) {
+                orderService.updateOrderStatus(id, OrderStatus.SHIPPED);
+            }
+            status.setRollbackOnly();
+            return ids.size();
+        });
+    }
+
+    @Benchmark
+    public OrderStatusTransitionResult bulk() {
+        List<Long> ids = orderIds();
+        return transactionTemplate.execute(status -> {
+            OrderStatusTransitionResult result = orderService.transitionOrders(ids, OrderStatus.SHIPPED);
+            if (result.getUpdated() != ids.size()) {
+                throw new IllegalStateException("Expected all orders to be transitioned: " + result);
+            }
+            status.setRollbackOnly();
+            return result;
+        });
+    }
+
+    @Benchmark
+    public int cancelPerItem() {
+        List<Long> ids = orderIds();
+        return transactionTemplate.execute(status -> {
+            for (Long id : ids) {
+                orderMapper.updateStatus(id, OrderStatus.CANCELLED, OrderStatus.sourcesOf(OrderStatus.CANCELLED));
+                for (OrderItem item : orderItemMapper.findByOrderId(id)) {
+                    productMapper.updateStock(item.getProductId(), item.getQuantity());
+                }
+            }
+            status.setRollbackOnly();
+            return ids.size();
+        });
+    }
+
+    @Benchmark
+    public int cancelPerOrder() {
+        List<Long> ids = orderIds();
+        return transactionTemplate.execute(status -> {
+            for (Long id : ids) {
+                orderService.cancelOrder(id);
+            }
+            status.setRollbackOnly();
+            return ids.size();
+        });
+    }
+
+    @Benchmark
+    public OrderStatusTransitionResult cancelBulk() {
+        List<Long> ids = orderIds();
+        return transactionTemplate.execute(status -> {
+            OrderStatusTransitionResult result = orderService.cancelOrders(ids);
+            if (result.getUpdated() != ids.size()) {
+                throw new IllegalStateException("Expected all orders to be cancelled: " + result);
+            }
+            status.setRollbackOnly();
+            return result;
+        });
+    }
+
+    private List<Long> orderIds() {
+        long first = 1L + random.nextInt(database.getOrderCount() - orders + 1);
+        List<Long> ids = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            ids.add(first + i);
+        }
+        return ids;
+    }
+}
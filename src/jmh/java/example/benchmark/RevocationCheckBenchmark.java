@@ -0,0 +1,75 @@
+package example.benchmark;
+
+import example.security.RevocationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 목록 확인 비용 벤치마크 (RevokedTokenValidator가 요청마다 수행하는 작업)
+ *
+ * - activeToken : 폐기되지 않은 토큰 (대부분의 요청, Bloom Filter에서 바로 통과)
+ * - revokedToken: 폐기된 토큰 (Bloom Filter + Map 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    @Param({"0", "1000000"})
+    public int revokedTokens;
+
+    private RevocationList revocationList;
+    private String[] activeIds;
+    private String revokedId;
+    private Instant issuedAt;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        revocationList = new RevocationList(Math.max(revokedTokens, 1000), 0.01);
+        for (int i = 0; i < revokedTokens; i++) {
+            String jti = UUID.randomUUID().toString();
+            revocationList.revokeToken(jti, expiresAt);
+            revokedId = jti;
+        }
+        if (revokedId == null) {
+            revokedId = UUID.randomUUID().toString();
+            revocationList.revokeToken(revokedId, expiresAt);
+        }
+
+        activeIds = new String[1024];
+        for (int i = 0; i < activeIds.length; i++) {
+            activeIds[i] = UUID.randomUUID().toString();
+        }
+        issuedAt = Instant.now();
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        String jti = activeIds[cursor++ & (activeIds.length - 1)];
+        return revocationList.isRevoked(jti, "john_doe", issuedAt);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return revocationList.isRevoked(revokedId, "john_doe", issuedAt);
+    }
+}
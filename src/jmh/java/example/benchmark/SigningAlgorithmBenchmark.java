@@ -0,0 +1,90 @@
+package example.benchmark;
+
+import example.domain.User;
+import example.security.JwtSigningKeys;
+import example.security.JwtTokenProvider;
+import example.security.SigningAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 JWT 발급/검증 처리량 벤치마크
+ * 토큰 크기(바이트)는 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    public SigningAlgorithm algorithm;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtDecoder decoder;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtSigningKeys keys = loadKeys(algorithm);
+        tokenProvider = new JwtTokenProvider(keys.createEncoder(), keys, true);
+        decoder = keys.createDecoder();
+
+        user = User.builder()
+                .id(2L)
+                .username("john_doe")
+                .email("john@example.com")
+                .fullName("John Doe")
+                .role("ROLE_USER")
+                .build();
+        token = tokenProvider.generateToken(user);
+        System.out.printf("%n%s token size: %d bytes%n", algorithm.getName(), token.length());
+    }
+
+    /**
+     * 애플리케이션과 같은 키 파일로 JwtSigningKeys 구성
+     */
+    static JwtSigningKeys loadKeys(SigningAlgorithm active) throws Exception {
+        return JwtSigningKeys.builder()
+                .rsa((RSAPublicKey) JwtSigningKeys.readPublicKey(new ClassPathResource("app.pub"), "RSA"),
+                        (RSAPrivateKey) JwtSigningKeys.readPrivateKey(new ClassPathResource("app.key"), "RSA"))
+                .ec((ECPublicKey) JwtSigningKeys.readPublicKey(new ClassPathResource("app-ec.pub"), "EC"),
+                        (ECPrivateKey) JwtSigningKeys.readPrivateKey(new ClassPathResource("app-ec.key"), "EC"))
+                .ed25519(JwtSigningKeys.readPublicKey(new ClassPathResource("app-ed25519.pub"), "Ed25519"),
+                        JwtSigningKeys.readPrivateKey(new ClassPathResource("app-ed25519.key"), "Ed25519"))
+                .active(active)
+                .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+}
@@ -0,0 +1,91 @@
+package example.benchmark;
+
+import example.domain.User;
+import example.mapper.UserMapper;
+import example.service.UserUniquenessFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 중복 확인 비용 (INSERT 전까지)
+ *
+ * - queries: 기존 방식, existsByUsername + findByEmail (전체 행 조회) 두 번 왕복
+ * - filter: UserUniquenessFilter가 둘 다 없다고 하면 쿼리 생략, 있을 수도 있으면 findByUsernamesOrEmails 한 번
+ * - filterTaken: 이미 있는 사용자명으로 가입 시도 (필터가 "있을 수도 있음"이라 쿼리 한 번)
+ * 가입 요청은 대부분 새 사용자명/이메일이므로 queries vs filter가 일반적인 경우의 차이
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=SignupCheckBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignupCheckBenchmark {
+
+    /**
+     * 기존 사용자 수
+     */
+    @Param({"100000"})
+    public int users;
+
+    private BenchmarkDatabase database;
+    private UserMapper userMapper;
+    private UserUniquenessFilter userUniquenessFilter;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(users, 10, 10);
+        userMapper = database.getMapper(UserMapper.class);
+        userUniquenessFilter = new UserUniquenessFilter(userMapper, users, 0.01);
+        userUniquenessFilter.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public boolean queries() {
+        long n = sequence++;
+        return userMapper.existsByUsername("new-" + n)
+                || userMapper.findByEmail("new-" + n + "@example.com").isPresent();
+    }
+
+    @Benchmark
+    public boolean filter() {
+        long n = sequence++;
+        return taken("new-" + n, "new-" + n + "@example.com");
+    }
+
+    @Benchmark
+    public boolean filterTaken() {
+        long n = sequence++;
+        return taken("user" + (1 + n % users), "new-" + n + "@example.com");
+    }
+
+    private boolean taken(String username, String email) {
+        if (!userUniquenessFilter.mightContainUsername(username) && !userUniquenessFilter.mightContainEmail(email)) {
+            return false;
+        }
+        List<User> existing = userMapper.findByUsernamesOrEmails(List.of(username), List.of(email));
+        return !existing.isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package example.benchmark;
+
+import example.domain.Product;
+import example.mapper.ProductMapper;
+import example.mybatis.SqlMetricsInterceptor;
+import org.apache.ibatis.plugin.Interceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SqlMetricsInterceptor 오버헤드 벤치마크
+ *
+ * 가장 가벼운 조회(productFindById)를 플러그인 유무로 비교
+ * 여러 스레드가 같은 statement의 카운터를 갱신하는 경우까지 보기 위해 4 스레드로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SqlMetricsInterceptorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean sqlMetrics;
+
+    private BenchmarkDatabase database;
+    private ProductMapper productMapper;
+
+    @State(Scope.Thread)
+    public static class Keys {
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+
+        long next(int bound) {
+            return 1 + random.nextInt(bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Interceptor[] plugins = sqlMetrics ? new Interceptor[]{new SqlMetricsInterceptor()} : new Interceptor[0];
+        database = BenchmarkDatabase.create(100, 1000, 0, plugins);
+        productMapper = database.getMapper(ProductMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Optional<Product> productFindById(Keys keys) {
+        return productMapper.findById(keys.next(database.getProductCount()));
+    }
+}
@@ -0,0 +1,136 @@
+package example.benchmark;
+
+import example.domain.User;
+import example.dto.UserProvisionRequest;
+import example.dto.UserProvisioningResult;
+import example.mapper.UserMapper;
+import example.security.BoundedPasswordEncoder;
+import example.service.UserProvisioningService;
+import example.service.UserService;
+import example.service.UserUniquenessFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 등록 처리량: 사용자마다 encode + createUser (사용자당 트랜잭션) vs UserProvisioningService.provisionUsers
+ *
+ * 호출 한 번에 USERS명을 등록하고 @OperationsPerInvocation으로 나누므로 결과는 두 방식 모두 초당 사용자 수
+ * - single: 회원가입과 같은 순서 (호출 스레드에서 BCrypt, 사용자명 확인 쿼리, INSERT, 커밋)
+ * - bulk: 중복 확인 쿼리 1 + 병렬 BCrypt + 다중 행 INSERT + 커밋 1
+ * 두 방식 모두 운영과 같은 BoundedPasswordEncoder(코어 수 - 1 허가)를 사용
+ * strength 4는 DB 쪽 비용, 10(기본값)은 해시 병렬화의 효과가 드러남
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UserProvisioningBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserProvisioningBenchmark {
+
+    /**
+     * 호출당 등록할 사용자 수 (@OperationsPerInvocation과 같은 값)
+     */
+    private static final int USERS = 64;
+
+    /**
+     * BCrypt strength (log2 라운드 수)
+     */
+    @Param({"4", "10"})
+    public int strength;
+
+    private BenchmarkDatabase database;
+    private PasswordEncoder passwordEncoder;
+    private UserService userService;
+    private UserProvisioningService userProvisioningService;
+    private TransactionTemplate transactionTemplate;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create(1000, 10, 10);
+        transactionTemplate = database.getTransactionTemplate();
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        UserUniquenessFilter userUniquenessFilter = new UserUniquenessFilter(database.getMapper(UserMapper.class), 100_000, 0.01);
+        userService = new UserService(database.getMapper(UserMapper.class), userUniquenessFilter);
+        userProvisioningService = new UserProvisioningService(
+                database.getMapper(UserMapper.class),
+                userUniquenessFilter,
+                passwordEncoder,
+                transactionTemplate.getTransactionManager(),
+                500, USERS, 100, 0, Duration.ofMinutes(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        userProvisioningService.close();
+        database.shutdown();
+    }
+
+    /**
+     * 호출마다 새 사용자 목록 (사용자명/이메일이 UNIQUE라 재사용하지 않음)
+     */
+    private List<UserProvisionRequest> newUsers() {
+        List<UserProvisionRequest> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            long n = sequence++;
+            users.add(UserProvisionRequest.builder()
+                    .username("bench-" + n)
+                    .password("password" + n)
+                    .email("bench-" + n + "@example.com")
+                    .fullName("Bench User " + n)
+                    .build());
+        }
+        return users;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public long single() {
+        long created = 0;
+        for (UserProvisionRequest request : newUsers()) {
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .password(passwordEncoder.encode(request.getPassword()))
+                    .email(request.getEmail())
+                    .fullName(request.getFullName())
+                    .role("ROLE_USER")
+                    .build();
+            created += transactionTemplate.execute(status -> userService.createUser(user)).getId();
+        }
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public UserProvisioningResult bulk() {
+        UserProvisioningResult result = userProvisioningService.provisionUsers(newUsers());
+        if (result.getCreated() != USERS) {
+            throw new IllegalStateException("Expected all users to be created: " + result.getErrors());
+        }
+        return result;
+    }
+}
@@ -18,6 +18,7 @@ package example;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The application entry point.
@@ -25,6 +26,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Josh Cummings
  */
 @SpringBootApplication
+@EnableScheduling
 public class JwtLoginApplication {
 
 	public static void main(String[] args) {
@@ -16,19 +16,24 @@
 
 package example;
 
+import java.io.IOException;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import example.security.BoundedPasswordEncoder;
+import example.security.CachingJwtDecoder;
+import example.security.JwtSigningKeys;
+import example.security.JwtUserAuthenticationConverter;
+import example.security.RevokedTokenValidator;
+import example.security.SigningAlgorithm;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -36,10 +41,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
@@ -58,8 +66,33 @@ public class RestConfig {
 	@Value("${jwt.private.key}")
 	RSAPrivateKey priv;
 
+	@Value("${jwt.ec.public.key}")
+	Resource ecPublicKey;
+
+	@Value("${jwt.ec.private.key}")
+	Resource ecPrivateKey;
+
+	@Value("${jwt.ed25519.public.key}")
+	Resource ed25519PublicKey;
+
+	@Value("${jwt.ed25519.private.key}")
+	Resource ed25519PrivateKey;
+
+	@Value("${jwt.signing.algorithm:RS256}")
+	SigningAlgorithm signingAlgorithm;
+
+	@Value("${jwt.cache.enabled:true}")
+	boolean jwtCacheEnabled;
+
+	@Value("${jwt.cache.max-entries:10000}")
+	int jwtCacheMaxEntries;
+
+	@Value("${security.password.max-concurrent-hashes:0}")
+	int maxConcurrentHashes;
+
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http,
+			JwtUserAuthenticationConverter jwtUserAuthenticationConverter) throws Exception {
 		// @formatter:off
 		http
 				.authorizeHttpRequests((authorize) -> authorize
@@ -68,6 +101,10 @@ public class RestConfig {
 						.requestMatchers("/h2-console/**").permitAll()
 						// Swagger UI 접근 허용
 						.requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
+						// 관리자 전용 (메트릭 등)
+						.requestMatchers("/api/admin/**").hasRole("ADMIN")
+						// 사용자 일괄 등록은 역할을 지정할 수 있으므로 관리자만
+						.requestMatchers(HttpMethod.POST, "/api/users/bulk").hasRole("ADMIN")
 						// 나머지는 인증 필요
 						.anyRequest().authenticated()
 				)
@@ -78,7 +115,8 @@ public class RestConfig {
 				.headers((headers) -> headers
 						.frameOptions((frame) -> frame.sameOrigin()))
 				.httpBasic(Customizer.withDefaults())
-				.oauth2ResourceServer((jwt) -> jwt.jwt(Customizer.withDefaults()))
+				.oauth2ResourceServer((oauth2) -> oauth2
+						.jwt((jwt) -> jwt.jwtAuthenticationConverter(jwtUserAuthenticationConverter)))
 				.sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.exceptionHandling((exceptions) -> exceptions
 						.authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint())
@@ -90,7 +128,11 @@ public class RestConfig {
 
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		// BCrypt 동시 계산 수 제한 (0이면 코어 수 - 1), 로그인이 몰려도 다른 요청이 실행될 CPU를 남김
+		int permits = maxConcurrentHashes > 0
+				? maxConcurrentHashes
+				: Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), permits);
 	}
 
 	@Bean
@@ -99,15 +141,35 @@ public class RestConfig {
 	}
 
 	@Bean
-	JwtDecoder jwtDecoder() {
-		return NimbusJwtDecoder.withPublicKey(this.key).build();
+	JwtSigningKeys jwtSigningKeys() throws IOException {
+		// 모든 키로 검증, 서명은 jwt.signing.algorithm의 키로만 수행
+		return JwtSigningKeys.builder()
+				.rsa(this.key, this.priv)
+				.ec((ECPublicKey) JwtSigningKeys.readPublicKey(this.ecPublicKey, "EC"),
+						(ECPrivateKey) JwtSigningKeys.readPrivateKey(this.ecPrivateKey, "EC"))
+				.ed25519(JwtSigningKeys.readPublicKey(this.ed25519PublicKey, "Ed25519"),
+						JwtSigningKeys.readPrivateKey(this.ed25519PrivateKey, "Ed25519"))
+				.active(this.signingAlgorithm)
+				.build();
+	}
+
+	@Bean
+	JwtDecoder jwtDecoder(JwtSigningKeys jwtSigningKeys, RevokedTokenValidator revokedTokenValidator) {
+		NimbusJwtDecoder decoder = jwtSigningKeys.createDecoder();
+		// 기본 검증(exp, nbf) + 폐기 목록 확인 (메모리, O(1))
+		OAuth2TokenValidator<Jwt> validator = new DelegatingOAuth2TokenValidator<>(
+				JwtValidators.createDefault(), revokedTokenValidator);
+		decoder.setJwtValidator(validator);
+		if (!this.jwtCacheEnabled) {
+			return decoder;
+		}
+		// 같은 토큰의 RSA 서명 검증을 반복하지 않도록 검증된 Jwt 캐시 (검증기는 적중 시에도 재실행)
+		return new CachingJwtDecoder(decoder, validator, this.jwtCacheMaxEntries);
 	}
 
 	@Bean
-	JwtEncoder jwtEncoder() {
-		JWK jwk = new RSAKey.Builder(this.key).privateKey(this.priv).build();
-		JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-		return new NimbusJwtEncoder(jwks);
+	JwtEncoder jwtEncoder(JwtSigningKeys jwtSigningKeys) {
+		return jwtSigningKeys.createEncoder();
 	}
 
 }
@@ -0,0 +1,138 @@
+package example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import example.datasource.PoolMetrics;
+import example.datasource.StatementReplicator;
+import example.mybatis.ReplicationInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 설정
+ *
+ * 1. 기본(쓰기) 커넥션 풀: spring.datasource.*, spring.datasource.hikari.* (풀 이름 primary)
+ * 2. 풀별 메트릭: 커넥션 대기/사용 시간, 사용률 (PoolMetrics, /api/admin/metrics/pools, Prometheus hikari_*)
+ * 3. 읽기/쓰기 라우팅 (datasource.routing.enabled=true)
+ *    - @Transactional(readOnly = true)는 레플리카 풀(replica), 나머지는 기본 풀로 보냄
+ *      목록/검색 조회가 주문 생성과 같은 풀의 커넥션을 두고 경쟁하지 않음
+ *    - LazyConnectionDataSourceProxy가 첫 statement 실행 시점까지 커넥션 획득을 미루므로
+ *      트랜잭션의 readOnly 여부가 정해진 뒤 풀이 선택됨
+ *    - 로컬에서는 레플리카도 인메모리 H2이며, StatementReplicator가 커밋된 쓰기를 비동기로 다시 실행
+ *      (복제 지연이 있으므로 쓰기 직후 같은 데이터를 readOnly 트랜잭션으로 읽으면 이전 값이 보일 수 있음)
+ *
+ * 참고: DataSource를 직접 정의하면 Spring Boot의 DataSource 자동 설정은 동작하지 않지만
+ *       schema.sql/data.sql 초기화는 @Primary DataSource(쓰기는 기본 풀)로 그대로 실행됨
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * HikariCP 풀별 메트릭 (풀 생성 시 Hikari가 MetricsTracker를 요청)
+     */
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+    /**
+     * 기본(쓰기) 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, PoolMetrics poolMetrics) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        dataSource.setMetricsTrackerFactory(poolMetrics);
+        return dataSource;
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource (MyBatis, 트랜잭션 관리자, SQL 초기화)
+     *
+     * @param replicaDataSource 라우팅이 꺼져 있으면 없음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return primaryDataSource;
+        }
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        // 트랜잭션 관리자가 readOnly 트랜잭션의 커넥션에 setReadOnly(true)를 호출하면 레플리카 풀에서 커넥션을 가져옴
+        routing.setReadOnlyDataSource(replica);
+        log.info("Read-only transactions are routed to the replica pool");
+        return routing;
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 구성 (레플리카 풀 + 복제 대역)
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+    static class ReplicaConfiguration {
+
+        @Value("${datasource.replica.url:jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1}")
+        private String replicaUrl;
+
+        /**
+         * 읽기 전용 커넥션 풀 (datasource.replica.hikari.*로 풀 크기 등 설정)
+         */
+        @Bean
+        @ConfigurationProperties("datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(DataSourceProperties properties, PoolMetrics poolMetrics) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrl)
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            dataSource.setPoolName("replica");
+            dataSource.setMetricsTrackerFactory(poolMetrics);
+            return dataSource;
+        }
+
+        /**
+         * 복제 대역 (적용 스레드는 레플리카 풀과 별개의 커넥션 사용)
+         */
+        @Bean
+        public StatementReplicator statementReplicator(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                       DataSourceProperties properties) {
+            return new StatementReplicator(primaryDataSource, new DriverManagerDataSource(
+                    replicaUrl, properties.determineUsername(), properties.determinePassword()));
+        }
+
+        /**
+         * MyBatis 쓰기를 StatementReplicator로 전달하는 플러그인 (MyBatisConfig에서 등록)
+         */
+        @Bean
+        public ReplicationInterceptor replicationInterceptor(StatementReplicator statementReplicator) {
+            return new ReplicationInterceptor(statementReplicator);
+        }
+
+        /**
+         * 모든 싱글톤 생성 후(schema.sql/data.sql 실행 후) 레플리카 초기 복사
+         */
+        @Bean
+        public SmartInitializingSingleton replicaInitialCopy(StatementReplicator statementReplicator) {
+            return statementReplicator::resync;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package example.config;
+
+import example.web.HttpMetricsInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.connector.Connector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 메트릭 수집/노출 설정
+ *
+ * 1. 라우트별 처리 중인 요청 수 집계 (HttpMetricsInterceptor)
+ * 2. Prometheus 관리 포트: 내장 Tomcat에 커넥터를 하나 더 추가 (/metrics는 PrometheusEndpointFilter가 응답)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final HttpMetricsInterceptor httpMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(httpMetricsInterceptor);
+    }
+
+    /**
+     * metrics.prometheus.port로 수신하는 추가 커넥터
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> prometheusConnectorCustomizer(
+            @Value("${metrics.prometheus.enabled:true}") boolean enabled,
+            @Value("${metrics.prometheus.port:9464}") int port) {
+        return factory -> {
+            if (!enabled) {
+                return;
+            }
+            if (port <= 0 || port == factory.getPort()) {
+                throw new IllegalStateException("metrics.prometheus.port must be a fixed port different from server.port: " + port);
+            }
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(port);
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+}
@@ -1,16 +1,42 @@
 package example.config;
 
+import example.mybatis.BulkSqlSessions;
+import example.mybatis.MapperCaches;
+import example.mybatis.MoneyTypeHandler;
+import example.mybatis.OrderStatusTypeHandler;
+import example.mybatis.ReplicationInterceptor;
+import example.mybatis.SlowQueryInterceptor;
+import example.mybatis.SlowQueryLog;
+import example.mybatis.SqlMetricsInterceptor;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.AutoMappingBehavior;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.JdbcType;
 import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.unit.DataSize;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * MyBatis 설정 클래스
@@ -19,8 +45,15 @@ import javax.sql.DataSource;
  * 1. Mapper 스캔: @MapperScan으로 Mapper 인터페이스 자동 등록
  * 2. SqlSessionFactory 설정: MyBatis의 핵심 객체 생성
  * 3. 트랜잭션 관리자 설정: @Transactional 지원
+ * 4. SQL 메트릭 플러그인: Mapped Statement별 지연 시간/행 수 수집 (/api/admin/metrics/sql)
+ * 5. 느린 쿼리 플러그인: 바인딩된 SQL/파라미터와 실행 계획 기록 (/api/admin/metrics/slow-queries)
+ * 6. 복제 플러그인: 읽기/쓰기 라우팅 사용 시 커밋된 쓰기를 레플리카로 전달 (DataSourceConfig 참조)
+ * 7. 2차 캐시: 네임스페이스별 SegmentedLruCache (sql.mapper-cache, /api/admin/metrics/mapper-caches)
+ * 8. 대량 작업용 BATCH/REUSE Executor 세션 (BulkSqlSessions, 서비스가 명시적으로 선택)
+ * 9. TypeHandler: 주문 상태 enum (OrderStatusTypeHandler), 금액 (MoneyTypeHandler)
  *
- * 참고: application.yml의 mybatis 설정과 함께 작동
+ * 참고: SqlSessionFactory를 직접 정의하면 MyBatis 자동 설정이 동작하지 않으므로
+ *       application.yml의 mybatis.configuration 값은 mybatisConfiguration()에서 동일하게 설정
  */
 @Configuration
 @EnableTransactionManagement  // @Transactional 어노테이션 활성화
@@ -31,16 +64,35 @@ public class MyBatisConfig {
      * SqlSessionFactory Bean 설정
      *
      * MyBatis의 핵심 객체로, 데이터베이스 연결 및 SQL 실행을 담당
-     * application.yml의 mybatis 설정이 자동으로 적용되지만,
-     * 추가적인 커스터마이징이 필요한 경우 여기서 설정 가능
+     * JMH 벤치마크(src/jmh)도 같은 설정으로 SqlSessionFactory를 구성
      *
-     * @param dataSource Spring Boot가 자동 생성한 DataSource
+     * @param dataSource             DataSourceConfig의 DataSource (라우팅 사용 시 readOnly 트랜잭션은 레플리카)
+     * @param sqlMetricsInterceptor  SQL 메트릭 플러그인
+     * @param slowQueryInterceptor   느린 쿼리 플러그인
+     * @param replicationInterceptor 복제 플러그인 (datasource.routing.enabled=true일 때만 존재)
+     * @param mapperCaches           네임스페이스별 2차 캐시
+     * @param slowQueryEnabled       느린 쿼리 기록 여부 (sql.slow-query.enabled)
      * @return SqlSessionFactory
      */
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource,
+                                               SqlMetricsInterceptor sqlMetricsInterceptor,
+                                               SlowQueryInterceptor slowQueryInterceptor,
+                                               ObjectProvider<ReplicationInterceptor> replicationInterceptor,
+                                               MapperCaches mapperCaches,
+                                               @Value("${sql.slow-query.enabled:true}") boolean slowQueryEnabled) throws Exception {
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(dataSource);
+        sessionFactory.setConfiguration(mybatisConfiguration(mapperCaches));
+
+        // Interceptor 등록 (Executor.query/update 실행 시간 측정, 쓰기 복제)
+        List<Interceptor> plugins = new ArrayList<>();
+        plugins.add(sqlMetricsInterceptor);
+        if (slowQueryEnabled) {
+            plugins.add(slowQueryInterceptor);
+        }
+        replicationInterceptor.ifAvailable(plugins::add);
+        sessionFactory.setPlugins(plugins.toArray(new Interceptor[0]));
 
         // Mapper XML 파일 위치 설정
         // application.yml의 mybatis.mapper-locations 설정과 동일
@@ -55,29 +107,120 @@ public class MyBatisConfig {
         /*
          * 추가 설정 예시 (필요시 주석 해제):
          *
-         * // Configuration 객체를 통한 세부 설정
-         * org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
-         * configuration.setMapUnderscoreToCamelCase(true);  // 언더스코어를 카멜케이스로
-         * configuration.setLazyLoadingEnabled(true);         // 지연 로딩 활성화
-         * sessionFactory.setConfiguration(configuration);
-         *
          * // TypeHandler 등록 (커스텀 타입 변환)
          * sessionFactory.setTypeHandlers(new TypeHandler[]{new CustomTypeHandler()});
-         *
-         * // Interceptor 등록 (SQL 실행 전후 처리)
-         * sessionFactory.setPlugins(new Interceptor[]{new CustomInterceptor()});
          */
 
         return sessionFactory.getObject();
     }
 
+    /**
+     * 기본 SqlSessionTemplate (SIMPLE Executor)
+     * BulkSqlSessions도 SqlSessionTemplate을 만들므로 @MapperScan의 Mapper가 이 템플릿을 쓰도록 명시
+     */
+    @Bean
+    @Primary
+    public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    /**
+     * 대량 작업용 BATCH/REUSE Executor 세션
+     */
+    @Bean
+    public BulkSqlSessions bulkSqlSessions(SqlSessionFactory sqlSessionFactory) {
+        return new BulkSqlSessions(sqlSessionFactory);
+    }
+
+    /**
+     * 네임스페이스별 2차 캐시 (sql.mapper-cache."[네임스페이스]".*)
+     */
+    @Bean
+    public MapperCaches mapperCaches(Environment environment) {
+        Map<String, MapperCacheProperties> properties = Binder.get(environment)
+                .bind("sql.mapper-cache", Bindable.mapOf(String.class, MapperCacheProperties.class))
+                .orElse(Map.of());
+        return new MapperCaches(properties.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toSpec())));
+    }
+
+    /**
+     * Mapped Statement별 SQL 메트릭 수집 플러그인
+     */
+    @Bean
+    public SqlMetricsInterceptor sqlMetricsInterceptor() {
+        return new SqlMetricsInterceptor();
+    }
+
+    /**
+     * 느린 쿼리 기록 (최근 capacity개, statement별 실행 계획은 explain-interval에 한 번 수집)
+     */
+    @Bean
+    public SlowQueryLog slowQueryLog(DataSource dataSource,
+                                     @Value("${sql.slow-query.capacity:100}") int capacity,
+                                     @Value("${sql.slow-query.explain-interval:PT1M}") Duration explainInterval,
+                                     @Value("${sql.slow-query.log-parameter-values:false}") boolean logParameterValues) {
+        return new SlowQueryLog(dataSource, capacity, explainInterval, logParameterValues);
+    }
+
+    /**
+     * threshold 이상 걸린 statement를 SlowQueryLog에 기록하는 플러그인
+     */
+    @Bean
+    public SlowQueryInterceptor slowQueryInterceptor(SlowQueryLog slowQueryLog,
+                                                     @Value("${sql.slow-query.threshold:50ms}") Duration threshold) {
+        return new SlowQueryInterceptor(slowQueryLog, threshold);
+    }
+
+    /**
+     * MyBatis 세부 설정 (application.yml의 mybatis.configuration과 동일), 2차 캐시는 모두 꺼짐
+     *
+     * 호출할 때마다 새 객체를 반환 (Configuration은 SqlSessionFactory마다 하나씩 필요)
+     */
+    public static org.apache.ibatis.session.Configuration mybatisConfiguration() {
+        return mybatisConfiguration(MapperCaches.disabled());
+    }
+
+    /**
+     * MyBatis 세부 설정 + 네임스페이스별 2차 캐시
+     * Mapper XML의 cache-ref가 참조하므로 캐시는 XML을 읽기 전에 등록되어 있어야 함
+     */
+    public static org.apache.ibatis.session.Configuration mybatisConfiguration(MapperCaches mapperCaches) {
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);             // 언더스코어를 카멜케이스로 (created_at -> createdAt)
+        configuration.setAutoMappingBehavior(AutoMappingBehavior.PARTIAL);
+        configuration.setCallSettersOnNulls(true);                   // NULL 값이 있는 컬럼도 매핑
+        configuration.setJdbcTypeForNull(JdbcType.NULL);
+        configuration.setLazyLoadingEnabled(true);                   // 지연 로딩 활성화
+        configuration.setAggressiveLazyLoading(false);
+        configuration.setMultipleResultSetsEnabled(true);
+        configuration.setLogImpl(Slf4jImpl.class);
+        configuration.getTypeHandlerRegistry().register(new OrderStatusTypeHandler());  // 주문 상태 enum <-> VARCHAR
+        configuration.getTypeHandlerRegistry().register(new MoneyTypeHandler());        // 금액 <-> DECIMAL(10, 2)
+        mapperCaches.registerWith(configuration);
+        return configuration;
+    }
+
+    /**
+     * sql.mapper-cache의 네임스페이스별 설정
+     */
+    record MapperCacheProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue("10000") int maxEntries,
+                                 @DefaultValue("32MB") DataSize maxBytes,
+                                 @DefaultValue("PT1M") Duration ttl) {
+
+        MapperCaches.Spec toSpec() {
+            return new MapperCaches.Spec(enabled, maxEntries, maxBytes.toBytes(), ttl);
+        }
+    }
+
     /**
      * 트랜잭션 관리자 설정
      *
      * @Transactional 어노테이션을 사용한 선언적 트랜잭션 관리를 위해 필요
      * DataSourceTransactionManager: JDBC 기반 트랜잭션 관리
      *
-     * @param dataSource Spring Boot가 자동 생성한 DataSource
+     * @param dataSource DataSourceConfig의 DataSource
      * @return PlatformTransactionManager
      */
     @Bean
@@ -103,11 +246,5 @@ public class MyBatisConfig {
      * public TypeHandler<?> customTypeHandler() {
      *     return new CustomTypeHandler();
      * }
-     *
-     * 3. SqlSessionTemplate (멀티 스레드 환경에서 안전한 SqlSession)
-     * @Bean
-     * public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
-     *     return new SqlSessionTemplate(sqlSessionFactory);
-     * }
      */
 }
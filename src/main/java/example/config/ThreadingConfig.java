@@ -0,0 +1,63 @@
+package example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * 요청/예약 작업 스레드 설정
+ *
+ * spring.threads.virtual.enabled=true (Java 21+)면 Spring Boot가 다음을 가상 스레드로 실행
+ * 1. Tomcat 요청 처리 (server.tomcat.threads.max 상한 없이 요청마다 가상 스레드)
+ * 2. @Scheduled 작업 (만료 폐기 정보 정리 등)
+ *
+ * 가상 스레드에서 주의할 점 (pinning: synchronized 안에서 대기하면 캐리어 스레드가 함께 묶임)
+ * - 애플리케이션 코드의 락은 ReentrantLock/Semaphore/원자 변수만 사용 (synchronized 없음)
+ * - HikariCP 커넥션 대기는 park 기반이라 대기 중에는 캐리어를 놓음
+ * - 임베디드 H2의 SQL 실행은 호출 스레드에서 수행되며 드라이버 내부 락에 묶일 수 있음
+ *   동시에 JDBC를 실행하는 스레드 수는 풀 크기로 제한되므로, 풀 크기가 캐리어 수 이상이면 기동 시 알림
+ *   기본 설정(풀 10개)에서는 코어가 10개 이하인 장비면 항상 해당되며, 이는 예상된 상태라 경고가 아닌 INFO로 기록
+ *   모든 커넥션이 동시에 드라이버 안에서 묶여 있을 때만 캐리어가 모두 점유되고, 그 시간은 쿼리 실행 시간으로 짧음
+ *   가상 스레드 모드에서 쿼리가 길거나 pinning이 관찰되면 풀 크기를 줄이거나 캐리어 수를 늘림
+ * - BCrypt는 BoundedPasswordEncoder로 동시 계산 수를 제한 (가상 스레드 스케줄러는 시분할하지 않음)
+ * - pinning 확인: JVM 옵션 -Djdk.tracePinnedThreads=short (Java 21~23)
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+    /**
+     * 스레드 모드 기록 및 설정 점검
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (requested) {
+                log.warn("spring.threads.virtual.enabled=true requires Java 21+, running on Java {} with platform threads",
+                        Runtime.version().feature());
+            } else {
+                log.info("Request handling uses platform threads");
+            }
+            return;
+        }
+
+        int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+        ObjectProvider<HikariDataSource> pools = event.getApplicationContext().getBeanProvider(HikariDataSource.class);
+        int poolSize = pools.stream().distinct().mapToInt(HikariDataSource::getMaximumPoolSize).sum();
+        log.info("Request handling uses virtual threads ({} carrier threads, {} pooled connections)", carriers, poolSize);
+        if (poolSize >= carriers) {
+            // 기본 풀 크기에서는 대부분의 장비에서 해당되는 예상된 상태 (클래스 주석 참조)
+            log.info("Connection pools ({}) are not smaller than the carrier count ({}); threads pinned inside the "
+                    + "JDBC driver can briefly occupy every carrier. If pinning shows up under load, lower the pool "
+                    + "size or raise -Djdk.virtualThreadScheduler.parallelism", poolSize, carriers);
+        }
+    }
+}
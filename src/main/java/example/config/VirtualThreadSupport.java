@@ -0,0 +1,106 @@
+package example.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드(Java 21+) 지원 유틸리티
+ *
+ * 빌드 대상은 Java 17이므로 가상 스레드 API를 리플렉션으로 찾고,
+ * 실행 JVM에 없으면 플랫폼 스레드(daemon)로 대체
+ */
+public final class VirtualThreadSupport {
+
+    /**
+     * Thread.ofVirtual()
+     */
+    private static final Method OF_VIRTUAL;
+
+    /**
+     * Thread.Builder.OfVirtual.name(String prefix, long start)
+     */
+    private static final Method NAME;
+
+    /**
+     * Thread.Builder.factory()
+     */
+    private static final Method FACTORY;
+
+    /**
+     * Executors.newThreadPerTaskExecutor(ThreadFactory)
+     */
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = virtualBuilderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreadSupport() {
+    }
+
+    /**
+     * 현재 JVM에서 가상 스레드 사용 가능 여부
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 작업마다 새 스레드를 만드는 Executor
+     * 가상 스레드를 쓸 수 없으면 캐시 스레드 풀(플랫폼 스레드)로 대체
+     *
+     * @param namePrefix 스레드 이름 접두사
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = threadFactory(namePrefix);
+        if (!isAvailable()) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * 이름이 namePrefix-N인 스레드를 만드는 ThreadFactory
+     * 가상 스레드를 쓸 수 없으면 daemon 플랫폼 스레드 생성
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        if (!isAvailable()) {
+            AtomicLong sequence = new AtomicLong();
+            return runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + "-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-", 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create virtual thread factory", e);
+        }
+    }
+}
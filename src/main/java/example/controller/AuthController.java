@@ -14,7 +14,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
@@ -66,18 +65,19 @@ public class AuthController {
         }
     }
 
-    @Operation(summary = "로그아웃", description = "현재 세션을 종료합니다. JWT는 stateless이므로 클라이언트에서 토큰을 삭제해야 합니다")
+    @Operation(summary = "로그아웃", description = "현재 JWT를 폐기합니다. 폐기된 토큰은 만료 전이라도 더 이상 인증에 사용할 수 없습니다")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "로그아웃 성공",
             content = @Content(schema = @Schema(implementation = MessageResponse.class)))
     })
     @PostMapping("/logout")
     public ResponseEntity<MessageResponse> logout() {
+        authService.logout(SecurityContextHolder.getContext().getAuthentication());
         SecurityContextHolder.clearContext();
         return ResponseEntity.ok(new MessageResponse("로그아웃되었습니다"));
     }
 
-    @Operation(summary = "회원탈퇴", description = "현재 로그인한 사용자의 계정을 삭제합니다")
+    @Operation(summary = "회원탈퇴", description = "현재 로그인한 사용자의 계정을 삭제하고 발급된 모든 토큰을 폐기합니다")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "회원탈퇴 성공",
             content = @Content(schema = @Schema(implementation = MessageResponse.class))),
@@ -86,10 +86,7 @@ public class AuthController {
     @DeleteMapping("/account")
     public ResponseEntity<MessageResponse> deleteAccount() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
-
-            authService.deleteAccount(username);
+            authService.deleteAccount(SecurityContextHolder.getContext().getAuthentication());
             SecurityContextHolder.clearContext();
 
             return ResponseEntity.ok(new MessageResponse("회원탈퇴가 완료되었습니다"));
@@ -113,4 +110,21 @@ public class AuthController {
                     .body(new MessageResponse("인증되지 않은 사용자입니다"));
         }
     }
+
+    @Operation(summary = "토큰 기준 현재 사용자 정보 조회",
+            description = "JWT 클레임의 사용자 정보(id, username, email, fullName, role)를 DB 조회 없이 반환합니다. "
+                    + "토큰 발급 시점의 값이므로 이후 변경 사항은 토큰을 다시 발급받기 전까지 반영되지 않습니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/me/claims")
+    public ResponseEntity<?> getCurrentUserClaims() {
+        try {
+            return ResponseEntity.ok(authService.getCurrentUserClaims());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(401)
+                    .body(new MessageResponse("인증되지 않은 사용자입니다"));
+        }
+    }
 }
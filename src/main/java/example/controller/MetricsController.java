@@ -0,0 +1,136 @@
+package example.controller;
+
+import example.datasource.PoolMetrics;
+import example.datasource.StatementReplicator;
+import example.mybatis.MapperCaches;
+import example.mybatis.SlowQueryLog;
+import example.mybatis.SqlMetricsInterceptor;
+import example.security.CachingJwtDecoder;
+import example.web.QueryCountFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자용 메트릭 REST API Controller
+ * ROLE_ADMIN 권한 필요 (RestConfig 참조)
+ */
+@Tag(name = "관리자 메트릭", description = "성능 메트릭 조회 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final JwtDecoder jwtDecoder;
+    private final SqlMetricsInterceptor sqlMetricsInterceptor;
+    private final SlowQueryLog slowQueryLog;
+    private final QueryCountFilter queryCountFilter;
+    private final PoolMetrics poolMetrics;
+    private final ObjectProvider<StatementReplicator> statementReplicator;
+    private final MapperCaches mapperCaches;
+
+    @Operation(summary = "JWT 캐시 메트릭", description = "검증된 JWT 캐시의 적중/미스 횟수와 서명 검증 지연 시간을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/jwt-cache")
+    public ResponseEntity<Map<String, Object>> getJwtCacheMetrics() {
+        if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+            return ResponseEntity.ok(cachingJwtDecoder.stats());
+        }
+        return ResponseEntity.ok(Map.of("enabled", false));
+    }
+
+    @Operation(summary = "SQL 메트릭",
+        description = "Mapped Statement별 실행 횟수, 지연 시간 분포, 조회/변경 행 수를 누적 실행 시간 순으로 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/sql")
+    public ResponseEntity<List<Map<String, Object>>> getSqlMetrics() {
+        return ResponseEntity.ok(sqlMetricsInterceptor.stats());
+    }
+
+    @Operation(summary = "SQL 메트릭 초기화", description = "수집된 SQL 메트릭을 초기화합니다")
+    @ApiResponse(responseCode = "204", description = "초기화 성공")
+    @DeleteMapping("/sql")
+    public ResponseEntity<Void> resetSqlMetrics() {
+        sqlMetricsInterceptor.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "느린 쿼리",
+        description = "실행 시간이 기준을 넘은 SQL의 바인딩된 파라미터와 H2 실행 계획(EXPLAIN ANALYZE)을 최근 순으로 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<Map<String, Object>>> getSlowQueries() {
+        return ResponseEntity.ok(slowQueryLog.stats());
+    }
+
+    @Operation(summary = "느린 쿼리 초기화", description = "기록된 느린 쿼리를 초기화합니다")
+    @ApiResponse(responseCode = "204", description = "초기화 성공")
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> clearSlowQueries() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "요청당 SQL 실행 횟수",
+        description = "엔드포인트별 요청당 SQL 실행 횟수와 N+1 의심(같은 statement 반복) 요청 수를 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/queries")
+    public ResponseEntity<List<Map<String, Object>>> getQueryCountMetrics() {
+        return ResponseEntity.ok(queryCountFilter.stats());
+    }
+
+    @Operation(summary = "요청당 SQL 실행 횟수 초기화", description = "수집된 엔드포인트별 SQL 실행 횟수를 초기화합니다")
+    @ApiResponse(responseCode = "204", description = "초기화 성공")
+    @DeleteMapping("/queries")
+    public ResponseEntity<Void> resetQueryCountMetrics() {
+        queryCountFilter.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "커넥션 풀 메트릭",
+        description = "HikariCP 풀별(primary, replica) 활성/유휴/대기 커넥션 수, 사용률, 커넥션 대기/사용 시간 분포를 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/pools")
+    public ResponseEntity<List<Map<String, Object>>> getPoolMetrics() {
+        return ResponseEntity.ok(poolMetrics.stats());
+    }
+
+    @Operation(summary = "레플리카 복제 메트릭",
+        description = "읽기/쓰기 라우팅 사용 시 레플리카에 적용된 트랜잭션 수, 미적용 트랜잭션 수, 복제 지연 시간을 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/replication")
+    public ResponseEntity<Map<String, Object>> getReplicationMetrics() {
+        StatementReplicator replicator = statementReplicator.getIfAvailable();
+        if (replicator != null) {
+            return ResponseEntity.ok(replicator.stats());
+        }
+        return ResponseEntity.ok(Map.of("enabled", false));
+    }
+
+    @Operation(summary = "Mapper 2차 캐시 메트릭",
+        description = "네임스페이스별 2차 캐시의 적중률, 용량 초과로 제거된 항목 수, 항목 수와 추정 크기를 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/mapper-caches")
+    public ResponseEntity<List<Map<String, Object>>> getMapperCacheMetrics() {
+        return ResponseEntity.ok(mapperCaches.stats());
+    }
+
+    @Operation(summary = "Mapper 2차 캐시 비우기", description = "모든 네임스페이스의 2차 캐시를 비웁니다 (DB를 직접 수정한 뒤 사용)")
+    @ApiResponse(responseCode = "204", description = "비우기 성공")
+    @DeleteMapping("/mapper-caches")
+    public ResponseEntity<Void> clearMapperCaches() {
+        mapperCaches.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,13 @@
 package example.controller;
 
 import example.domain.Order;
+import example.domain.OrderStatus;
+import example.dto.BulkOrderResult;
 import example.dto.OrderSearchCriteria;
+import example.dto.OrderStatusTransitionRequest;
+import example.dto.OrderStatusTransitionResult;
+import example.service.BulkOrderService;
+import example.service.OrderDetailTimeoutException;
 import example.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +39,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final BulkOrderService bulkOrderService;
 
     @Operation(summary = "모든 주문 조회", description = "모든 주문 목록을 사용자 정보와 함께 조회합니다 (MyBatis Association 활용)")
     @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -45,19 +52,26 @@ public class OrderController {
     }
 
     @Operation(summary = "ID로 주문 상세 조회",
-        description = "주문 ID로 주문 상세 정보를 조회합니다. 사용자 정보, 주문 상세 항목, 상품 정보를 모두 포함합니다 (MyBatis Association + Collection)")
+        description = "주문 ID로 주문 상세 정보를 조회합니다. 사용자 정보, 주문 상세 항목, 상품 정보를 모두 포함합니다 "
+            + "(주문 헤더/사용자와 주문 상세 항목/상품을 동시에 조회)")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(schema = @Schema(implementation = Order.class))),
-        @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+        @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+        @ApiResponse(responseCode = "503", description = "제한 시간(order.detail.timeout) 안에 조회하지 못함")
     })
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(
             @Parameter(description = "주문 ID", example = "1") @PathVariable Long id) {
         log.info("GET /api/orders/{} - Fetching order by id", id);
-        return orderService.getOrderById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return orderService.getOrderDetail(id)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (OrderDetailTimeoutException e) {
+            log.error("Failed to fetch order: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
 
     @Operation(summary = "사용자별 주문 조회", description = "특정 사용자의 모든 주문 목록을 조회합니다")
@@ -92,16 +106,40 @@ public class OrderController {
         }
     }
 
-    @Operation(summary = "주문 상태 업데이트", description = "주문의 상태를 변경합니다")
+    @Operation(summary = "대량 주문 접수",
+        description = "여러 주문을 한 트랜잭션으로 접수합니다. 상품별 수요를 합산해 상품마다 한 번 잠그고 재고를 차감하며, "
+            + "주문과 주문 상세 항목은 다중 행 INSERT로 생성합니다. 재고 부족 등으로 접수할 수 없는 주문은 주문별 결과에 거절 사유가 포함됩니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "접수 완료 (일부 주문 거절 포함)",
+            content = @Content(schema = @Schema(implementation = BulkOrderResult.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 주문 수 초과)")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOrderResult> ingestOrders(
+            @Parameter(description = "주문 목록 (각 주문에 userId, shippingAddress, orderItems)")
+            @RequestBody List<Order> orders) {
+        log.info("POST /api/orders/bulk - Ingesting {} orders", orders.size());
+        try {
+            return ResponseEntity.ok(bulkOrderService.ingestOrders(orders));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("Failed to ingest orders: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "주문 상태 업데이트",
+        description = "주문의 상태를 변경합니다. 허용된 전이(PENDING→CONFIRMED→SHIPPED→DELIVERED, 배송 완료 전 CANCELLED)만 "
+            + "가능하며, 현재 상태 확인과 변경이 UPDATE 한 번으로 처리됩니다. CANCELLED는 주문 취소와 같습니다 (재고 복구)")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "상태 변경 성공"),
-        @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+        @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "현재 상태에서 변경할 수 없는 상태")
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<Void> updateOrderStatus(
             @Parameter(description = "주문 ID", example = "1") @PathVariable Long id,
             @Parameter(description = "변경할 상태 (PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED)",
-                example = "SHIPPED") @RequestParam String status) {
+                example = "SHIPPED") @RequestParam OrderStatus status) {
         log.info("PATCH /api/orders/{}/status - Updating status to: {}", id, status);
         try {
             orderService.updateOrderStatus(id, status);
@@ -109,14 +147,39 @@ public class OrderController {
         } catch (IllegalArgumentException e) {
             log.error("Failed to update order status: {}", e.getMessage());
             return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("Failed to update order status: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @Operation(summary = "주문 상태 일괄 전이",
+        description = "여러 주문의 상태를 UPDATE 한 번으로 변경합니다 (예: 출고 처리 CONFIRMED→SHIPPED). "
+            + "현재 상태에서 전이할 수 없는 주문과 없는 주문은 건너뛰고 개수만 집계합니다. CANCELLED는 주문 일괄 취소와 같습니다 (재고 복구)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "전이 완료 (건너뛴 주문 포함)",
+            content = @Content(schema = @Schema(implementation = OrderStatusTransitionResult.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 주문 수 초과)")
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<OrderStatusTransitionResult> transitionOrders(
+            @Parameter(description = "주문 ID 목록과 변경할 상태")
+            @RequestBody OrderStatusTransitionRequest request) {
+        log.info("PATCH /api/orders/status - Transitioning {} orders to {}",
+                request.getOrderIds() != null ? request.getOrderIds().size() : 0, request.getStatus());
+        try {
+            return ResponseEntity.ok(orderService.transitionOrders(request.getOrderIds(), request.getStatus()));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to transition orders: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
     }
 
     @Operation(summary = "주문 취소",
-        description = "주문을 취소합니다. 주문 상태 변경과 재고 복구가 트랜잭션으로 처리됩니다")
+        description = "주문을 취소합니다. 주문 상태 변경과 재고 복구(MERGE 한 번)가 트랜잭션으로 처리됩니다")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "주문 취소 성공"),
-        @ApiResponse(responseCode = "400", description = "취소 불가 (이미 취소됨, 배송 완료 등)")
+        @ApiResponse(responseCode = "400", description = "취소 불가 (없는 주문, 이미 취소됨, 배송 완료 등)")
     })
     @PostMapping("/{id}/cancel")
     public ResponseEntity<Void> cancelOrder(
@@ -131,6 +194,26 @@ public class OrderController {
         }
     }
 
+    @Operation(summary = "주문 일괄 취소",
+        description = "여러 주문을 한 트랜잭션으로 취소합니다. 취소할 수 있는 주문을 잠근 뒤 상태 변경 UPDATE 한 번, "
+            + "상품별 수량을 합산한 재고 복구 MERGE 한 번으로 처리합니다. 없는 주문과 이미 취소/배송 완료된 주문은 건너뜁니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "취소 완료 (건너뛴 주문 포함)",
+            content = @Content(schema = @Schema(implementation = OrderStatusTransitionResult.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 주문 수 초과)")
+    })
+    @PostMapping("/cancel")
+    public ResponseEntity<OrderStatusTransitionResult> cancelOrders(
+            @Parameter(description = "취소할 주문 ID 목록") @RequestBody List<Long> orderIds) {
+        log.info("POST /api/orders/cancel - Cancelling {} orders", orderIds != null ? orderIds.size() : 0);
+        try {
+            return ResponseEntity.ok(orderService.cancelOrders(orderIds));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to cancel orders: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "주문 삭제", description = "주문을 삭제합니다")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "삭제 성공"),
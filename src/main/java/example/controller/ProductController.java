@@ -1,7 +1,11 @@
 package example.controller;
 
 import example.domain.Product;
+import example.dto.ProductImportResult;
 import example.dto.ProductSearchCriteria;
+import example.dto.StockAdjustment;
+import example.dto.StockAdjustmentResult;
+import example.service.ProductImportService;
 import example.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,12 +17,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -33,6 +42,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @Operation(summary = "모든 상품 조회", description = "등록된 모든 상품 목록을 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -150,6 +160,24 @@ public class ProductController {
         }
     }
 
+    @Operation(summary = "재고 일괄 업데이트",
+        description = "여러 상품의 재고를 한 트랜잭션에서 변경합니다. 한 항목이라도 재고가 부족하면 전체가 취소됩니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "재고 업데이트 성공 (존재하지 않는 상품 ID는 notFound에 포함)",
+            content = @Content(schema = @Schema(implementation = StockAdjustmentResult.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (재고 부족 등)")
+    })
+    @PatchMapping("/stock")
+    public ResponseEntity<StockAdjustmentResult> adjustStock(@RequestBody List<StockAdjustment> adjustments) {
+        log.info("PATCH /api/products/stock - Adjusting stock for {} products", adjustments.size());
+        try {
+            return ResponseEntity.ok(productService.adjustStock(adjustments));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("Failed to adjust stock: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "재고 부족 상품 조회", description = "재고가 지정된 임계값 이하인 상품 목록을 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공",
         content = @Content(array = @ArraySchema(schema = @Schema(implementation = Product.class))))
@@ -182,4 +210,29 @@ public class ProductController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @Operation(summary = "상품 일괄 가져오기",
+        description = "CSV(text/csv, 첫 줄은 헤더) 또는 NDJSON(application/x-ndjson) 본문을 스트리밍으로 읽어 "
+            + "청크 단위로 커밋합니다. id가 있는 행은 수정, 없는 행은 등록하며 실패한 행은 결과의 errors에 줄 번호와 함께 포함됩니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "가져오기 완료 (일부 행 실패 포함)",
+            content = @Content(schema = @Schema(implementation = ProductImportResult.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (알 수 없는 CSV 컬럼, 본문 읽기 실패 등)")
+    })
+    @PostMapping(value = "/import", consumes = {ProductImportService.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportResult> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        log.info("POST /api/products/import - Importing products ({})", contentType);
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            ProductImportResult result = productImportService.importProducts(body,
+                    ProductImportService.Format.of(mediaType),
+                    mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IOException e) {
+            log.error("Failed to import products: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
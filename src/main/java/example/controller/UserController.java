@@ -1,6 +1,9 @@
 package example.controller;
 
 import example.domain.User;
+import example.dto.UserProvisionRequest;
+import example.dto.UserProvisioningResult;
+import example.service.UserProvisioningService;
 import example.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +34,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserProvisioningService userProvisioningService;
 
     @Operation(summary = "모든 사용자 조회", description = "등록된 모든 사용자 목록을 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -91,6 +95,27 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "사용자 일괄 등록 (관리자)",
+        description = "사용자 목록을 청크 단위로 등록합니다. 청크마다 중복 확인 쿼리 한 번, 비밀번호 병렬 해시, "
+            + "다중 행 INSERT로 처리하며 실패한 행은 결과에 기록하고 나머지는 생성합니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (행별 실패는 errors에 포함)",
+            content = @Content(schema = @Schema(implementation = UserProvisioningResult.class))),
+        @ApiResponse(responseCode = "400", description = "빈 목록 또는 user.provisioning.max-users 초과"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<UserProvisioningResult> provisionUsers(
+            @Parameter(description = "등록할 사용자 목록") @RequestBody List<UserProvisionRequest> users) {
+        log.info("POST /api/users/bulk - Provisioning {} users", users.size());
+        try {
+            return ResponseEntity.ok(userProvisioningService.provisionUsers(users));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to provision users: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "사용자 정보 수정", description = "기존 사용자의 정보를 수정합니다")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -0,0 +1,88 @@
+package example.datagen;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 합성 데이터 생성 조건
+ */
+@Getter
+@Builder
+@ToString(exclude = "passwordHash")
+public class DataGenerationSpec {
+
+    /**
+     * 사용자 수
+     */
+    @Builder.Default
+    private final int users = 100_000;
+
+    /**
+     * 상품 수
+     */
+    @Builder.Default
+    private final int products = 10_000;
+
+    /**
+     * 주문 수
+     */
+    @Builder.Default
+    private final int orders = 1_000_000;
+
+    /**
+     * 비활성 계정 비율 (%)
+     */
+    @Builder.Default
+    private final int inactivePercent = 5;
+
+    /**
+     * 주문당 최대 항목 수 (1~maxItemsPerOrder, 상품은 중복 없이 선택)
+     */
+    @Builder.Default
+    private final int maxItemsPerOrder = 5;
+
+    /**
+     * 인기 상품 치우침 (Zipf 지수, 0이면 균등)
+     */
+    @Builder.Default
+    private final double productSkew = 1.0;
+
+    /**
+     * 헤비 구매자 치우침 (Zipf 지수, 0이면 균등)
+     */
+    @Builder.Default
+    private final double buyerSkew = 0.8;
+
+    /**
+     * 주문 일시 분포 기간 (현재 시각으로부터 과거 일수)
+     */
+    @Builder.Default
+    private final int orderDays = 365;
+
+    /**
+     * 상품 재고 범위
+     */
+    @Builder.Default
+    private final int minStock = 0;
+
+    @Builder.Default
+    private final int maxStock = 1_000;
+
+    /**
+     * JDBC 배치 크기 (배치마다 커밋)
+     */
+    @Builder.Default
+    private final int batchSize = 5_000;
+
+    /**
+     * 난수 시드 (같으면 같은 데이터)
+     */
+    @Builder.Default
+    private final long seed = 42;
+
+    /**
+     * 모든 사용자에게 사용할 비밀번호 해시 (BCrypt 계산은 한 번만)
+     */
+    private final String passwordHash;
+}
@@ -0,0 +1,363 @@
+package example.datagen;
+
+import example.domain.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 성능 테스트용 대용량 합성 데이터 생성기
+ *
+ * users, products, orders, order_items를 JDBC 배치 INSERT로 채움
+ * - 인기 상품/헤비 구매자: Zipf 분포 (productSkew, buyerSkew)
+ * - 주문 일시: orderDays 기간에 고르게 분포, 오래된 주문일수록 배송 완료 상태
+ * - ID를 직접 지정하여 INSERT 후 AUTO_INCREMENT 시작 값을 조정 (generated key 조회 없음)
+ * - 기존 데이터 뒤에 이어서 생성하므로 data.sql과 함께 사용 가능
+ *
+ * 실행 방법
+ * 1. ./gradlew generateData : 파일 DB(build/perf-data/perfdb) 생성 (main)
+ * 2. datagen 프로파일 : 애플리케이션 기동 시 인메모리 DB에 생성 (SyntheticDataRunner)
+ * 3. JMH 벤치마크/부하 테스트 : generate(DataSource, spec) 직접 호출
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    /**
+     * 생성된 사용자의 비밀번호
+     */
+    public static final String PASSWORD = "password123";
+
+    public static final String[] CATEGORIES = {"Electronics", "Furniture", "Kitchen", "Stationery", "Accessories"};
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, username, password, email, full_name, active, role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'ROLE_USER', ?, ?)";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (id, name, description, price, stock_quantity, category, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, user_id, status, total_amount, shipping_address, order_date, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM =
+            "INSERT INTO order_items (order_id, product_id, quantity, price, subtotal) VALUES (?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 합성 데이터 생성
+     */
+    public GenerationResult generate(DataGenerationSpec spec) {
+        if (spec.getPasswordHash() == null) {
+            throw new IllegalArgumentException("Password hash is required");
+        }
+        log.info("Generating synthetic data: {}", spec);
+        long start = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long userBase = maxId(connection, "users");
+                long productBase = maxId(connection, "products");
+                long orderBase = maxId(connection, "orders");
+                SplittableRandom random = new SplittableRandom(spec.getSeed());
+                LocalDateTime now = LocalDateTime.now().withNano(0);
+
+                insertUsers(connection, spec, userBase, now, random.split());
+                long[] priceCents = insertProducts(connection, spec, productBase, now, random.split());
+                long orderItems = insertOrders(connection, spec, userBase, productBase, orderBase, priceCents, now, random.split());
+
+                restartIdentity(connection, "users");
+                restartIdentity(connection, "products");
+                restartIdentity(connection, "orders");
+                connection.commit();
+
+                GenerationResult result = new GenerationResult(
+                        userBase + 1, spec.getUsers(),
+                        productBase + 1, spec.getProducts(),
+                        orderBase + 1, spec.getOrders(),
+                        orderItems,
+                        Duration.ofNanos(System.nanoTime() - start));
+                log.info("Synthetic data generated: {}", result);
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Synthetic data generation failed", e);
+        }
+    }
+
+    private void insertUsers(Connection connection, DataGenerationSpec spec, long base,
+                             LocalDateTime now, SplittableRandom random) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_USER)) {
+            Progress progress = new Progress("users", spec.getUsers());
+            for (int i = 1; i <= spec.getUsers(); i++) {
+                long id = base + i;
+                Timestamp createdAt = Timestamp.valueOf(pastTime(now, spec.getOrderDays(), random));
+                ps.setLong(1, id);
+                ps.setString(2, "user" + id);
+                ps.setString(3, spec.getPasswordHash());
+                ps.setString(4, "user" + id + "@example.com");
+                ps.setString(5, "User " + id);
+                ps.setBoolean(6, random.nextInt(100) >= spec.getInactivePercent());
+                ps.setTimestamp(7, createdAt);
+                ps.setTimestamp(8, createdAt);
+                ps.addBatch();
+                if (i % spec.getBatchSize() == 0) {
+                    flush(connection, ps);
+                }
+                progress.update(i);
+            }
+            flush(connection, ps);
+        }
+    }
+
+    /**
+     * @return 상품별 가격(센트), 인덱스 = 상품 순번(1..products)
+     */
+    private long[] insertProducts(Connection connection, DataGenerationSpec spec, long base,
+                                  LocalDateTime now, SplittableRandom random) throws SQLException {
+        long[] priceCents = new long[spec.getProducts() + 1];
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_PRODUCT)) {
+            Progress progress = new Progress("products", spec.getProducts());
+            for (int i = 1; i <= spec.getProducts(); i++) {
+                long id = base + i;
+                int stock = spec.getMinStock() + random.nextInt(spec.getMaxStock() - spec.getMinStock() + 1);
+                Timestamp createdAt = Timestamp.valueOf(pastTime(now, spec.getOrderDays(), random));
+                priceCents[i] = 100 + random.nextInt(99_900);   // 1.00 ~ 999.99
+
+                ps.setLong(1, id);
+                ps.setString(2, "Product " + id);
+                ps.setString(3, "Synthetic product " + id);
+                ps.setBigDecimal(4, BigDecimal.valueOf(priceCents[i], 2));
+                ps.setInt(5, stock);
+                ps.setString(6, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                ps.setString(7, stock > 0 ? "AVAILABLE" : "OUT_OF_STOCK");
+                ps.setTimestamp(8, createdAt);
+                ps.setTimestamp(9, createdAt);
+                ps.addBatch();
+                if (i % spec.getBatchSize() == 0) {
+                    flush(connection, ps);
+                }
+                progress.update(i);
+            }
+            flush(connection, ps);
+        }
+        return priceCents;
+    }
+
+    /**
+     * @return 생성된 주문 상세 항목 수
+     */
+    private long insertOrders(Connection connection, DataGenerationSpec spec, long userBase, long productBase,
+                              long orderBase, long[] priceCents, LocalDateTime now,
+                              SplittableRandom random) throws SQLException {
+        ZipfDistribution buyers = new ZipfDistribution(spec.getUsers(), spec.getBuyerSkew(), spec.getSeed());
+        ZipfDistribution products = new ZipfDistribution(spec.getProducts(), spec.getProductSkew(), spec.getSeed() + 1);
+        int maxItems = Math.min(spec.getMaxItemsPerOrder(), spec.getProducts());
+        int[] chosen = new int[maxItems];
+        long itemCount = 0;
+
+        try (PreparedStatement orderPs = connection.prepareStatement(INSERT_ORDER);
+             PreparedStatement itemPs = connection.prepareStatement(INSERT_ORDER_ITEM)) {
+            Progress progress = new Progress("orders", spec.getOrders());
+            for (int i = 1; i <= spec.getOrders(); i++) {
+                long orderId = orderBase + i;
+                long userId = userBase + buyers.sample(random);
+                LocalDateTime orderDate = pastTime(now, spec.getOrderDays(), random);
+
+                int items = 1 + random.nextInt(maxItems);
+                long totalCents = 0;
+                for (int j = 0; j < items; j++) {
+                    int product = distinctProduct(products, random, chosen, j);
+                    chosen[j] = product;
+                    int quantity = 1 + random.nextInt(3);
+                    long subtotalCents = priceCents[product] * quantity;
+                    totalCents += subtotalCents;
+
+                    itemPs.setLong(1, orderId);
+                    itemPs.setLong(2, productBase + product);
+                    itemPs.setInt(3, quantity);
+                    itemPs.setBigDecimal(4, BigDecimal.valueOf(priceCents[product], 2));
+                    itemPs.setBigDecimal(5, BigDecimal.valueOf(subtotalCents, 2));
+                    itemPs.addBatch();
+                }
+                itemCount += items;
+
+                orderPs.setLong(1, orderId);
+                orderPs.setLong(2, userId);
+                orderPs.setString(3, status(Duration.between(orderDate, now), random).name());
+                orderPs.setBigDecimal(4, BigDecimal.valueOf(totalCents, 2));
+                orderPs.setString(5, userId + " Synthetic St");
+                orderPs.setTimestamp(6, Timestamp.valueOf(orderDate));
+                orderPs.setTimestamp(7, Timestamp.valueOf(orderDate));
+                orderPs.addBatch();
+
+                if (i % spec.getBatchSize() == 0) {
+                    // 외래키 순서: 주문 먼저
+                    orderPs.executeBatch();
+                    flush(connection, itemPs);
+                }
+                progress.update(i);
+            }
+            orderPs.executeBatch();
+            flush(connection, itemPs);
+        }
+        return itemCount;
+    }
+
+    /**
+     * 한 주문 안에서 상품이 중복되지 않도록 선택
+     */
+    private static int distinctProduct(ZipfDistribution products, SplittableRandom random, int[] chosen, int count) {
+        while (true) {
+            int candidate = products.sample(random);
+            boolean duplicate = false;
+            for (int k = 0; k < count; k++) {
+                if (chosen[k] == candidate) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * 주문 경과 시간에 따른 상태 (최근 주문은 처리 중, 오래된 주문은 배송 완료, 일부 취소)
+     */
+    private static OrderStatus status(Duration age, SplittableRandom random) {
+        if (random.nextInt(100) < 5) {
+            return OrderStatus.CANCELLED;
+        }
+        if (age.toHours() < 24) {
+            return random.nextBoolean() ? OrderStatus.PENDING : OrderStatus.CONFIRMED;
+        }
+        if (age.toDays() < 7) {
+            return OrderStatus.SHIPPED;
+        }
+        return OrderStatus.DELIVERED;
+    }
+
+    private static LocalDateTime pastTime(LocalDateTime now, int days, SplittableRandom random) {
+        return now.minusSeconds(random.nextLong(Math.max(1, days) * 86_400L));
+    }
+
+    private static void flush(Connection connection, PreparedStatement ps) throws SQLException {
+        ps.executeBatch();
+        connection.commit();
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * ID를 직접 지정해 INSERT했으므로 이후 애플리케이션 INSERT와 충돌하지 않도록 AUTO_INCREMENT 조정
+     */
+    private static void restartIdentity(Connection connection, String table) throws SQLException {
+        long next = maxId(connection, table) + 1;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    /**
+     * datagen.* 프로퍼티로 생성 조건 구성 (없는 값은 DataGenerationSpec 기본값)
+     */
+    public static DataGenerationSpec specFrom(PropertyResolver properties, String passwordHash) {
+        DataGenerationSpec defaults = DataGenerationSpec.builder().build();
+        return DataGenerationSpec.builder()
+                .users(properties.getProperty("datagen.users", Integer.class, defaults.getUsers()))
+                .products(properties.getProperty("datagen.products", Integer.class, defaults.getProducts()))
+                .orders(properties.getProperty("datagen.orders", Integer.class, defaults.getOrders()))
+                .inactivePercent(properties.getProperty("datagen.inactive-percent", Integer.class, defaults.getInactivePercent()))
+                .maxItemsPerOrder(properties.getProperty("datagen.max-items-per-order", Integer.class, defaults.getMaxItemsPerOrder()))
+                .productSkew(properties.getProperty("datagen.product-skew", Double.class, defaults.getProductSkew()))
+                .buyerSkew(properties.getProperty("datagen.buyer-skew", Double.class, defaults.getBuyerSkew()))
+                .orderDays(properties.getProperty("datagen.order-days", Integer.class, defaults.getOrderDays()))
+                .minStock(properties.getProperty("datagen.min-stock", Integer.class, defaults.getMinStock()))
+                .maxStock(properties.getProperty("datagen.max-stock", Integer.class, defaults.getMaxStock()))
+                .batchSize(properties.getProperty("datagen.batch-size", Integer.class, defaults.getBatchSize()))
+                .seed(properties.getProperty("datagen.seed", Long.class, defaults.getSeed()))
+                .passwordHash(passwordHash)
+                .build();
+    }
+
+    /**
+     * 파일 DB에 스키마 생성 후 데이터 생성 (./gradlew generateData)
+     *
+     * 시스템 프로퍼티: datagen.url 및 datagen.* 생성 조건
+     * 생성된 DB로 애플리케이션 실행: --spring.datasource.url=jdbc:h2:file:./build/perf-data/perfdb
+     */
+    public static void main(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        String url = environment.getProperty("datagen.url", "jdbc:h2:file:./build/perf-data/perfdb");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        DataGenerationSpec spec = specFrom(environment, new BCryptPasswordEncoder().encode(PASSWORD));
+        new SyntheticDataGenerator(dataSource).generate(spec);
+    }
+
+    /**
+     * 생성 결과 (각 테이블의 첫 ID와 개수)
+     */
+    public record GenerationResult(long firstUserId, int users,
+                                   long firstProductId, int products,
+                                   long firstOrderId, int orders,
+                                   long orderItems,
+                                   Duration elapsed) {
+    }
+
+    /**
+     * 10% 단위 진행 상황 로그
+     */
+    private static final class Progress {
+        private final String table;
+        private final int total;
+        private int nextPercent = 10;
+
+        Progress(String table, int total) {
+            this.table = table;
+            this.total = total;
+        }
+
+        void update(int done) {
+            if (total > 0 && done * 100L / total >= nextPercent) {
+                log.info("{}: {}/{} ({}%)", table, done, total, nextPercent);
+                nextPercent += 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package example.datagen;
+
+import example.datasource.StatementReplicator;
+import example.mybatis.MapperCaches;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * datagen 프로파일로 기동 시 합성 데이터 생성
+ *
+ * ./gradlew bootRun --args='--spring.profiles.active=datagen --datagen.orders=5000000'
+ * 생성 조건은 application-datagen.yml 참조
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final Environment environment;
+    private final ObjectProvider<StatementReplicator> statementReplicator;
+    private final MapperCaches mapperCaches;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DataGenerationSpec spec = SyntheticDataGenerator.specFrom(
+                environment, passwordEncoder.encode(SyntheticDataGenerator.PASSWORD));
+        SyntheticDataGenerator.GenerationResult result = new SyntheticDataGenerator(dataSource).generate(spec);
+        log.info("Generated users user{}..user{} (password: {})",
+                result.firstUserId(), result.firstUserId() + result.users() - 1, SyntheticDataGenerator.PASSWORD);
+        // JDBC 배치로 직접 적재했으므로 복제 플러그인을 거치지 않음 (읽기/쓰기 라우팅 사용 시 레플리카 전체 복사)
+        statementReplicator.ifAvailable(StatementReplicator::resync);
+        mapperCaches.clear();
+    }
+}
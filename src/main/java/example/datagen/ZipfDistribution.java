@@ -0,0 +1,73 @@
+package example.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 샘플러 (1..n)
+ *
+ * - 순위 k가 뽑힐 확률은 1 / k^exponent 에 비례 (exponent = 0이면 균등 분포)
+ * - 누적 분포를 미리 계산해 두고 이진 탐색으로 샘플링하므로 O(log n)
+ * - 인기 항목이 낮은 ID에 몰리지 않도록 순위를 고정 시드의 순열로 ID에 대응
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+    private final int[] rankToValue;
+
+    /**
+     * @param n        값의 개수 (1..n)
+     * @param exponent 치우침 정도 (0: 균등, 1 전후: 일반적인 인기 상품/헤비 유저 분포)
+     * @param seed     순위 → 값 순열 시드
+     */
+    public ZipfDistribution(int n, double exponent, long seed) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent must not be negative: " + exponent);
+        }
+
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+
+        // Fisher-Yates 셔플
+        rankToValue = new int[n];
+        for (int i = 0; i < n; i++) {
+            rankToValue[i] = i + 1;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = rankToValue[i];
+            rankToValue[i] = rankToValue[j];
+            rankToValue[j] = tmp;
+        }
+    }
+
+    /**
+     * 값 하나 샘플링
+     *
+     * @return 1..n
+     */
+    public int sample(SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return rankToValue[low];
+    }
+}
@@ -0,0 +1,160 @@
+package example.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import example.metrics.LatencyHistogram;
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 커넥션 풀별 메트릭 (HikariConfig.setMetricsTrackerFactory로 등록)
+ *
+ * - 커넥션 대기 시간: getConnection() 호출부터 커넥션을 받을 때까지 (풀이 부족하면 늘어남)
+ * - 커넥션 사용 시간: 빌린 커넥션을 반납할 때까지 (트랜잭션 길이)
+ * - 사용률: 활성 커넥션 / 최대 풀 크기, 대기 스레드 수 (스크레이프 시점의 PoolStats)
+ */
+public class PoolMetrics implements MetricsTrackerFactory, MetricsSource {
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Pool pool = new Pool(poolName, poolStats);
+        pools.put(poolName, pool);
+        return pool;
+    }
+
+    /**
+     * 풀별 통계 (관리자 메트릭 API용)
+     */
+    public List<Map<String, Object>> stats() {
+        return sortedPools().stream().map(Pool::stats).toList();
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        List<Pool> all = sortedPools();
+
+        writer.help("hikari_connections_active", "gauge", "Connections currently borrowed from the pool");
+        for (Pool pool : all) {
+            writer.sample("hikari_connections_active", labels(pool), pool.poolStats.getActiveConnections());
+        }
+        writer.help("hikari_connections_idle", "gauge", "Idle connections in the pool");
+        for (Pool pool : all) {
+            writer.sample("hikari_connections_idle", labels(pool), pool.poolStats.getIdleConnections());
+        }
+        writer.help("hikari_connections_max", "gauge", "Maximum pool size");
+        for (Pool pool : all) {
+            writer.sample("hikari_connections_max", labels(pool), pool.poolStats.getMaxConnections());
+        }
+        writer.help("hikari_connections_pending", "gauge", "Threads waiting for a connection");
+        for (Pool pool : all) {
+            writer.sample("hikari_connections_pending", labels(pool), pool.poolStats.getPendingThreads());
+        }
+        writer.help("hikari_connections_utilization", "gauge", "Active connections divided by maximum pool size");
+        for (Pool pool : all) {
+            writer.sample("hikari_connections_utilization", labels(pool), pool.utilization());
+        }
+        writer.help("hikari_connection_acquire_seconds", "histogram", "Time spent waiting for a connection");
+        for (Pool pool : all) {
+            writer.histogram("hikari_connection_acquire_seconds", labels(pool), pool.acquire,
+                    PrometheusWriter.NANOS, PrometheusWriter.LATENCY_BOUNDS);
+        }
+        writer.help("hikari_connection_usage_seconds", "histogram", "Time a borrowed connection was held");
+        for (Pool pool : all) {
+            writer.histogram("hikari_connection_usage_seconds", labels(pool), pool.usage,
+                    PrometheusWriter.NANOS, PrometheusWriter.LATENCY_BOUNDS);
+        }
+        writer.help("hikari_connection_timeouts_total", "counter", "getConnection() calls that timed out");
+        for (Pool pool : all) {
+            writer.sample("hikari_connection_timeouts_total", labels(pool), pool.timeouts.sum());
+        }
+    }
+
+    private List<Pool> sortedPools() {
+        return pools.values().stream()
+                .sorted(Comparator.comparing((Pool pool) -> pool.name))
+                .toList();
+    }
+
+    private static String labels(Pool pool) {
+        return PrometheusWriter.labels("pool", pool.name);
+    }
+
+    /**
+     * 풀 하나의 메트릭 (Hikari가 커넥션 대여/반납 시 호출)
+     */
+    private static final class Pool implements IMetricsTracker {
+
+        private final String name;
+        private final PoolStats poolStats;
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram usage = new LatencyHistogram();
+        private final LatencyHistogram creation = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Pool(String name, PoolStats poolStats) {
+            this.name = name;
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            // Hikari는 사용 시간을 밀리초로만 제공
+            usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            creation.record(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        private double utilization() {
+            int max = poolStats.getMaxConnections();
+            return max == 0 ? 0.0 : (double) poolStats.getActiveConnections() / max;
+        }
+
+        private Map<String, Object> stats() {
+            LatencyHistogram.Snapshot acquireSnapshot = acquire.snapshot();
+            LatencyHistogram.Snapshot usageSnapshot = usage.snapshot();
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("pool", name);
+            stats.put("active", poolStats.getActiveConnections());
+            stats.put("idle", poolStats.getIdleConnections());
+            stats.put("total", poolStats.getTotalConnections());
+            stats.put("max", poolStats.getMaxConnections());
+            stats.put("pending", poolStats.getPendingThreads());
+            stats.put("utilization", utilization());
+            stats.put("acquires", acquireSnapshot.count());
+            stats.put("acquireP50Micros", TimeUnit.NANOSECONDS.toMicros(acquireSnapshot.p50()));
+            stats.put("acquireP99Micros", TimeUnit.NANOSECONDS.toMicros(acquireSnapshot.p99()));
+            stats.put("acquireMaxMicros", TimeUnit.NANOSECONDS.toMicros(acquireSnapshot.max()));
+            stats.put("usageP50Millis", TimeUnit.NANOSECONDS.toMillis(usageSnapshot.p50()));
+            stats.put("usageP99Millis", TimeUnit.NANOSECONDS.toMillis(usageSnapshot.p99()));
+            stats.put("usageMaxMillis", TimeUnit.NANOSECONDS.toMillis(usageSnapshot.max()));
+            stats.put("connectionsCreated", creation.count());
+            stats.put("timeouts", timeouts.sum());
+            return stats;
+        }
+    }
+}
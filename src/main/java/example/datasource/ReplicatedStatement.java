@@ -0,0 +1,9 @@
+package example.datasource;
+
+import java.util.List;
+
+/**
+ * 레플리카에 다시 실행할 쓰기 statement (바인딩 순서대로의 파라미터 값 포함)
+ */
+public record ReplicatedStatement(String statementId, String sql, List<Object> parameters) {
+}
@@ -0,0 +1,315 @@
+package example.datasource;
+
+import example.metrics.LatencyHistogram;
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+import example.mybatis.BoundSqlParameters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 개발용 복제 대역: 기본 DB에서 커밋된 쓰기를 레플리카 H2에 비동기로 다시 실행
+ *
+ * - ReplicationInterceptor가 트랜잭션 안의 쓰기 statement를 모아 두었다가 커밋되면 한 묶음으로 전달
+ * - 커밋 순서: beforeCommit에서 순번을 예약하고 afterCompletion에서 게시 (롤백이면 빈 묶음)
+ *   같은 행을 바꾸는 트랜잭션은 행 락 때문에 앞 트랜잭션의 커밋 후에야 beforeCommit에 도달하므로
+ *   순번 순서대로 적용하면 기본 DB와 같은 결과 (stock_quantity = stock_quantity - ? 같은 갱신도 안전)
+ * - 자동 생성 키는 기본 DB에서 받은 값을 명시해 INSERT하므로 동시 INSERT에서도 ID가 어긋나지 않음 (ReplicationInterceptor)
+ * - MyBatis를 거치지 않는 쓰기(schema.sql/data.sql, SyntheticDataGenerator)는 resync()로 전체 복사
+ * - 적용 스레드 하나가 전용 커넥션으로 순서대로 적용하므로 레플리카 읽기 풀의 메트릭에는 포함되지 않음
+ */
+@Slf4j
+public class StatementReplicator implements MetricsSource, AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Batch> published = new ConcurrentHashMap<>();
+    private final ReentrantLock applyLock = new ReentrantLock();
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final LongAdder appliedStatements = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final Thread applier;
+
+    /**
+     * 다음에 적용할 순번 (applyLock 안에서만 변경)
+     */
+    private volatile long nextSequence;
+    private volatile boolean closed;
+    private Connection replicaConnection;
+
+    /**
+     * @param primary 기본(쓰기) DB, resync() 때 SCRIPT로 전체 내용을 읽음
+     * @param replica 레플리카 DB (적용 스레드가 커넥션 하나를 계속 사용)
+     */
+    public StatementReplicator(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+        this.applier = new Thread(this::applyLoop, "replica-applier");
+        this.applier.setDaemon(true);
+        this.applier.start();
+    }
+
+    /**
+     * 실행된 쓰기 statement 전달
+     * 트랜잭션 안이면 커밋될 때 한 묶음으로, 자동 커밋이면 바로 게시
+     */
+    public void capture(ReplicatedStatement statement) {
+        capture(() -> statement);
+    }
+
+    /**
+     * 커밋 후에 내용이 정해지는 쓰기 statement 전달 (BATCH Executor의 INSERT: 생성 키는 flush 후에 채워짐)
+     * 트랜잭션 안이면 커밋된 뒤 게시할 때 statement를 만들고, 자동 커밋이면 바로 만듦
+     */
+    public void capture(Supplier<ReplicatedStatement> statement) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(sequence.getAndIncrement(), List.of(statement.get()));
+            return;
+        }
+        // REQUIRES_NEW로 바깥 트랜잭션이 보류되면 동기화 목록도 함께 보류되므로 현재 트랜잭션의 묶음만 보임
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionBuffer buffer) {
+                buffer.statements.add(statement);
+                return;
+            }
+        }
+        TransactionBuffer buffer = new TransactionBuffer();
+        buffer.statements.add(statement);
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+    }
+
+    private void publish(long seq, List<ReplicatedStatement> statements) {
+        if (seq < nextSequence) {
+            // resync()로 이미 반영된 순번
+            return;
+        }
+        published.put(seq, new Batch(statements, System.nanoTime()));
+        LockSupport.unpark(applier);
+    }
+
+    private void applyLoop() {
+        while (!closed) {
+            Batch batch = published.get(nextSequence);
+            if (batch == null) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                continue;
+            }
+            applyLock.lock();
+            try {
+                // resync()가 끼어들어 순번이 바뀌었으면 다시 확인
+                if (published.remove(nextSequence, batch)) {
+                    nextSequence++;
+                    apply(batch);
+                }
+            } catch (RuntimeException e) {
+                // 복구 복사까지 실패해도 적용 스레드는 계속 동작 (다음 resync()에서 복구)
+                log.error("Replica apply failed", e);
+            } finally {
+                applyLock.unlock();
+            }
+        }
+    }
+
+    private void apply(Batch batch) {
+        if (batch.statements().isEmpty()) {
+            return;
+        }
+        try {
+            Connection connection = replicaConnection();
+            try {
+                for (ReplicatedStatement replicated : batch.statements()) {
+                    try (PreparedStatement statement = connection.prepareStatement(replicated.sql())) {
+                        List<Object> parameters = replicated.parameters();
+                        for (int i = 0; i < parameters.size(); i++) {
+                            statement.setObject(i + 1, BoundSqlParameters.jdbcValue(parameters.get(i)));
+                        }
+                        statement.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            appliedStatements.add(batch.statements().size());
+            lag.recordSince(batch.publishedAt());
+        } catch (SQLException e) {
+            // 레플리카가 기본 DB와 어긋났으므로 전체 복사로 복구
+            failures.increment();
+            log.error("Replication of {} failed, resynchronizing replica", batch.statements().get(0).statementId(), e);
+            copy();
+        }
+    }
+
+    private Connection replicaConnection() throws SQLException {
+        if (replicaConnection == null || replicaConnection.isClosed()) {
+            replicaConnection = replica.getConnection();
+            replicaConnection.setAutoCommit(false);
+        }
+        return replicaConnection;
+    }
+
+    /**
+     * 기본 DB 전체를 레플리카로 복사 (SCRIPT -> DROP ALL OBJECTS -> 스크립트 실행)
+     *
+     * 복사 시점까지 게시되지 않은 묶음은 버리므로 쓰기가 없을 때 호출
+     * (기동 직후, 합성 데이터 적재 직후)
+     */
+    public void resync() {
+        applyLock.lock();
+        try {
+            copy();
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void copy() {
+        long start = System.nanoTime();
+        // 복사본에 포함된 커밋은 다시 적용하지 않음
+        long skipUntil = sequence.get();
+        List<String> script = new ArrayList<>();
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                script.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read primary database script", e);
+        }
+
+        try {
+            Connection connection = replicaConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                for (String sql : script) {
+                    statement.execute(sql);
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load replica database", e);
+        }
+
+        nextSequence = Math.max(nextSequence, skipUntil);
+        published.keySet().removeIf(seq -> seq < nextSequence);
+        resyncs.increment();
+        log.info("Replica resynchronized from primary ({} script lines) in {} ms",
+                script.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 게시되었지만 아직 적용되지 않은 커밋 수 (예약만 된 커밋 포함)
+     */
+    public long pending() {
+        return Math.max(0, sequence.get() - nextSequence);
+    }
+
+    /**
+     * 복제 통계 (관리자 메트릭 API용)
+     */
+    public Map<String, Object> stats() {
+        LatencyHistogram.Snapshot snapshot = lag.snapshot();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", true);
+        stats.put("appliedTransactions", snapshot.count());
+        stats.put("appliedStatements", appliedStatements.sum());
+        stats.put("pending", pending());
+        stats.put("failures", failures.sum());
+        stats.put("resyncs", resyncs.sum());
+        stats.put("lagP50Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p50()));
+        stats.put("lagP99Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p99()));
+        stats.put("lagMaxMicros", TimeUnit.NANOSECONDS.toMicros(snapshot.max()));
+        return stats;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.help("replica_lag_seconds", "histogram", "Time from primary commit to replica apply");
+        writer.histogram("replica_lag_seconds", "", lag, PrometheusWriter.NANOS, PrometheusWriter.LATENCY_BOUNDS);
+        writer.help("replica_pending_transactions", "gauge", "Committed transactions not yet applied to the replica");
+        writer.sample("replica_pending_transactions", "", pending());
+        writer.help("replica_statements_applied_total", "counter", "Write statements applied to the replica");
+        writer.sample("replica_statements_applied_total", "", appliedStatements.sum());
+        writer.help("replica_failures_total", "counter", "Replication batches that failed and forced a resync");
+        writer.sample("replica_failures_total", "", failures.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(applier);
+        try {
+            applier.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (replicaConnection != null) {
+            try {
+                replicaConnection.close();
+            } catch (SQLException e) {
+                log.debug("Closing replica connection failed", e);
+            }
+        }
+    }
+
+    private record Batch(List<ReplicatedStatement> statements, long publishedAt) {
+    }
+
+    /**
+     * 트랜잭션 하나의 쓰기 statement 모음
+     */
+    private final class TransactionBuffer implements TransactionSynchronization {
+
+        private final List<Supplier<ReplicatedStatement>> statements = new ArrayList<>();
+        private long seq = -1;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            seq = sequence.getAndIncrement();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (seq < 0) {
+                // 커밋 전에 롤백
+                return;
+            }
+            // 순번마다 반드시 게시해야 뒤 순번이 적용됨 (statement를 만들지 못해도 빈 묶음으로 게시)
+            publish(seq, status == STATUS_COMMITTED ? resolve() : List.of());
+        }
+
+        private List<ReplicatedStatement> resolve() {
+            try {
+                return statements.stream().map(Supplier::get).toList();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Cannot build replicated statements; replica diverges until the next resync", e);
+                return List.of();
+            }
+        }
+    }
+}
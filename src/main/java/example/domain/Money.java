@@ -0,0 +1,181 @@
+package example.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 (최소 단위 = 0.01, long으로 저장하는 불변 값)
+ *
+ * DB의 DECIMAL(10, 2) 컬럼(상품 가격, 주문 총액, 주문 상세 항목 가격/소계)과 1:1 대응 (MoneyTypeHandler)
+ * - 덧셈/수량 곱셈은 long 연산 (BigDecimal을 만들지 않음, 넘치면 ArithmeticException)
+ *   여러 값을 더할 때는 minorUnits()를 long으로 누적한 뒤 ofMinor()로 한 번만 감싸면 중간 객체도 생기지 않음
+ * - 비율 곱셈처럼 소수점 둘째 자리 아래가 생기는 연산은 RoundingMode를 반드시 지정
+ * - BigDecimal/문자열에서 만들 때 소수점 둘째 자리 아래가 있으면 반올림하지 않고 ArithmeticException,
+ *   long 최소 단위로 나타낼 수 없는 크기면 IllegalArgumentException (두 경우를 호출자가 구분할 수 있도록)
+ *
+ * JSON은 기존 BigDecimal과 같은 숫자 (예: 1299.99, 10.00), 입력은 숫자와 숫자 문자열 모두 허용
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    /**
+     * 소수점 아래 자릿수 (DECIMAL(10, 2)의 scale)
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * 나타낼 수 있는 범위 (최소 단위 long의 범위)
+     */
+    private static final BigDecimal MIN_AMOUNT = BigDecimal.valueOf(Long.MIN_VALUE, SCALE);
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE, SCALE);
+
+    /**
+     * 최소 단위 값으로 생성 (ofMinor(1299) = 12.99)
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * BigDecimal에서 생성
+     *
+     * @throws ArithmeticException      소수점 둘째 자리 아래가 있는 경우
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public static Money of(BigDecimal amount) {
+        // 1E-1000000000처럼 scale이 아주 큰 값을 setScale로 나누기 전에 거부
+        if (amount.scale() > SCALE && amount.stripTrailingZeros().scale() > SCALE) {
+            throw new ArithmeticException("Amount must have at most " + SCALE + " decimal places: " + amount);
+        }
+        return of(amount, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * BigDecimal에서 생성, 소수점 둘째 자리 아래는 rounding으로 처리
+     *
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        // 범위는 자릿수를 맞추기 전에 확인 (1E+1000000000 같은 값으로 큰 정수를 만들지 않도록)
+        if (amount.compareTo(MIN_AMOUNT) < 0 || amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+        BigDecimal minorUnits = amount.setScale(SCALE, rounding).movePointRight(SCALE);
+        if (minorUnits.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0
+                || minorUnits.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            // 범위 끝에서 올림된 경우
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+        return ofMinor(minorUnits.longValueExact());
+    }
+
+    /**
+     * "1299.99" 같은 문자열에서 생성
+     *
+     * @throws NumberFormatException    숫자가 아닌 경우
+     * @throws ArithmeticException      소수점 둘째 자리 아래가 있는 경우
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * 수량 곱셈 (단가 * 수량, 반올림 없음)
+     */
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * 비율 곱셈 (가격 조정 등), 소수점 둘째 자리 아래는 rounding으로 처리
+     */
+    public Money times(BigDecimal multiplier, RoundingMode rounding) {
+        return of(toBigDecimal().multiply(multiplier), rounding);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    /**
+     * scale 2인 BigDecimal (JDBC 바인딩, JSON 출력용)
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * BigDecimal과 같은 JSON 숫자로 출력 (12.50 -> 12.50)
+     */
+    public static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    /**
+     * JSON 숫자 또는 숫자 문자열에서 생성 (소수점 둘째 자리 아래가 있거나 범위를 벗어나면 거부)
+     */
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BigDecimal amount;
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT) || p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+                amount = p.getDecimalValue();
+            } else if (p.hasToken(JsonToken.VALUE_STRING)) {
+                String text = p.getText().trim();
+                try {
+                    amount = new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw InvalidFormatException.from(p, "Not a valid amount", text, Money.class);
+                }
+            } else {
+                return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            }
+            try {
+                return of(amount);
+            } catch (ArithmeticException e) {
+                throw InvalidFormatException.from(p, "Amount must have at most " + SCALE + " decimal places", amount, Money.class);
+            } catch (IllegalArgumentException e) {
+                throw InvalidFormatException.from(p, "Amount out of range", amount, Money.class);
+            }
+        }
+    }
+}
@@ -6,7 +6,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -28,10 +27,10 @@ public class Order {
     private Long userId;
 
     @Schema(description = "주문 상태 (PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED)", example = "PENDING")
-    private String status;
+    private OrderStatus status;
 
-    @Schema(description = "총 주문 금액", example = "1345.97")
-    private BigDecimal totalAmount;
+    @Schema(description = "총 주문 금액", type = "number", example = "1345.97")
+    private Money totalAmount;
 
     @Schema(description = "배송 주소", example = "123 Main St, New York, NY 10001")
     private String shippingAddress;
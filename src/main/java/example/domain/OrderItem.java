@@ -6,7 +6,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 
 /**
  * 주문 상세 항목 도메인 모델
@@ -30,11 +29,11 @@ public class OrderItem {
     @Schema(description = "주문 수량", example = "2")
     private Integer quantity;
 
-    @Schema(description = "주문 당시 상품 가격", example = "1299.99")
-    private BigDecimal price;
+    @Schema(description = "주문 당시 상품 가격", type = "number", example = "1299.99")
+    private Money price;
 
-    @Schema(description = "소계 (수량 * 가격)", example = "2599.98")
-    private BigDecimal subtotal;
+    @Schema(description = "소계 (수량 * 가격)", type = "number", example = "2599.98")
+    private Money subtotal;
 
     @Schema(description = "상품 정보 (Association)")
     private Product product;
@@ -0,0 +1,80 @@
+package example.domain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태와 허용되는 상태 전이
+ *
+ * PENDING -> CONFIRMED -> SHIPPED -> DELIVERED
+ * DELIVERED 이전에는 어느 상태에서든 CANCELLED로 전이 가능, DELIVERED/CANCELLED는 최종 상태
+ *
+ * 전이는 OrderMapper.updateStatus의 "WHERE id = ? AND status IN (sourcesOf(target))"로 실행하므로
+ * 현재 상태 확인과 변경이 UPDATE 한 번이고, 동시에 들어온 요청 중 하나만 성공
+ * DB에는 이름(name())으로 저장 (OrderStatusTypeHandler)
+ */
+public enum OrderStatus {
+
+    PENDING,
+    CONFIRMED,
+    SHIPPED,
+    DELIVERED,
+    CANCELLED;
+
+    /**
+     * 상태별 전이 가능한 다음 상태
+     */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    /**
+     * 상태별로 그 상태로 전이할 수 있는 이전 상태 (TRANSITIONS의 역방향)
+     */
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(SHIPPED, CANCELLED));
+        TRANSITIONS.put(SHIPPED, EnumSet.of(DELIVERED, CANCELLED));
+        TRANSITIONS.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+
+        for (OrderStatus status : values()) {
+            SOURCES.put(status, EnumSet.noneOf(OrderStatus.class));
+        }
+        TRANSITIONS.forEach((from, targets) -> targets.forEach(target -> SOURCES.get(target).add(from)));
+
+        TRANSITIONS.replaceAll((status, targets) -> Collections.unmodifiableSet(targets));
+        SOURCES.replaceAll((status, sources) -> Collections.unmodifiableSet(sources));
+    }
+
+    /**
+     * 이 상태에서 target으로 전이할 수 있는지
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    /**
+     * 이 상태에서 전이할 수 있는 다음 상태 (최종 상태면 빈 집합)
+     */
+    public Set<OrderStatus> nextStatuses() {
+        return TRANSITIONS.get(this);
+    }
+
+    /**
+     * 더 이상 전이할 수 없는 상태인지 (DELIVERED, CANCELLED)
+     */
+    public boolean isTerminal() {
+        return TRANSITIONS.get(this).isEmpty();
+    }
+
+    /**
+     * target으로 전이할 수 있는 이전 상태 (guarded UPDATE의 status IN 목록, PENDING이면 빈 집합)
+     */
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        return SOURCES.get(target);
+    }
+}
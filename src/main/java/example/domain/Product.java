@@ -6,7 +6,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -28,8 +27,8 @@ public class Product {
     @Schema(description = "상품 설명", example = "고성능 노트북")
     private String description;
 
-    @Schema(description = "상품 가격", example = "1299.99")
-    private BigDecimal price;
+    @Schema(description = "상품 가격", type = "number", example = "1299.99")
+    private Money price;
 
     @Schema(description = "재고 수량", example = "50")
     private Integer stockQuantity;
@@ -0,0 +1,37 @@
+package example.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JWT 폐기 정보 도메인 모델
+ * 서버 재시작 후에도 로그아웃/회원탈퇴로 폐기된 토큰을 유지하기 위해 저장
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+
+    /**
+     * 토큰 단위 폐기 (revocationKey = jti)
+     */
+    public static final String TYPE_TOKEN = "TOKEN";
+
+    /**
+     * 사용자 단위 폐기 (revocationKey = subject, revokedAt 이전 발급 토큰 전체)
+     */
+    public static final String TYPE_SUBJECT = "SUBJECT";
+
+    private String revocationKey;
+
+    private String type;
+
+    private Instant revokedAt;
+
+    private Instant expiresAt;
+}
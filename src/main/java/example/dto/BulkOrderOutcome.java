@@ -0,0 +1,43 @@
+package example.dto;
+
+import example.domain.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 주문 접수에서 주문 하나의 처리 결과
+ */
+@Schema(description = "주문별 접수 결과")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderOutcome {
+
+    public static final String ACCEPTED = "ACCEPTED";
+    public static final String REJECTED = "REJECTED";
+
+    @Schema(description = "요청 목록에서의 위치 (0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "결과 (ACCEPTED, REJECTED)", example = "ACCEPTED")
+    private String result;
+
+    @Schema(description = "생성된 주문 ID (거절되면 null)", example = "1001")
+    private Long orderId;
+
+    @Schema(description = "주문 총액 (거절되면 null)", type = "number", example = "1359.97")
+    private Money totalAmount;
+
+    @Schema(description = "거절 사유", example = "Insufficient stock for product Laptop Pro 15. Available: 2, Requested: 3")
+    private String reason;
+
+    public static BulkOrderOutcome accepted(int index, Long orderId, Money totalAmount) {
+        return new BulkOrderOutcome(index, ACCEPTED, orderId, totalAmount, null);
+    }
+
+    public static BulkOrderOutcome rejected(int index, String reason) {
+        return new BulkOrderOutcome(index, REJECTED, null, null, reason);
+    }
+}
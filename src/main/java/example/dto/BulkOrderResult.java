@@ -0,0 +1,27 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 주문 접수 결과
+ */
+@Schema(description = "대량 주문 접수 결과")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResult {
+
+    @Schema(description = "생성된 주문 수", example = "998")
+    private int accepted;
+
+    @Schema(description = "거절된 주문 수", example = "2")
+    private int rejected;
+
+    @Schema(description = "요청 순서대로 주문별 결과")
+    private List<BulkOrderOutcome> outcomes;
+}
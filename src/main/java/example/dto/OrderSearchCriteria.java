@@ -1,5 +1,6 @@
 package example.dto;
 
+import example.domain.OrderStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +24,7 @@ public class OrderSearchCriteria {
     private Long userId;
 
     @Schema(description = "주문 상태 (PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED)", example = "PENDING")
-    private String status;
+    private OrderStatus status;
 
     @Schema(description = "검색 시작 일시", example = "2025-01-01T00:00:00")
     private LocalDateTime startDate;
@@ -0,0 +1,27 @@
+package example.dto;
+
+import example.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 전이 요청
+ */
+@Schema(description = "주문 상태 일괄 전이 요청")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusTransitionRequest {
+
+    @Schema(description = "전이할 주문 ID 목록", example = "[1, 2, 3]")
+    private List<Long> orderIds;
+
+    @Schema(description = "변경할 상태 (CONFIRMED, SHIPPED, DELIVERED)", example = "SHIPPED")
+    private OrderStatus status;
+}
@@ -0,0 +1,31 @@
+package example.dto;
+
+import example.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 일괄 전이 결과
+ */
+@Schema(description = "주문 상태 일괄 전이 결과")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusTransitionResult {
+
+    @Schema(description = "변경한 상태", example = "SHIPPED")
+    private OrderStatus status;
+
+    @Schema(description = "요청한 주문 수 (중복 ID 제외)", example = "5000")
+    private int requested;
+
+    @Schema(description = "상태가 변경된 주문 수", example = "4990")
+    private int updated;
+
+    @Schema(description = "건너뛴 주문 수 (없는 주문이거나 현재 상태에서 전이할 수 없음)", example = "10")
+    private int skipped;
+}
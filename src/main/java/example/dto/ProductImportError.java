@@ -0,0 +1,25 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 가져오기에서 반영되지 않은 행
+ */
+@Schema(description = "가져오기 실패 행")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+
+    @Schema(description = "입력 파일의 줄 번호 (CSV는 레코드가 시작된 줄)", example = "42")
+    private long line;
+
+    @Schema(description = "행의 상품 ID (신규 상품이면 null)", example = "999")
+    private Long productId;
+
+    @Schema(description = "실패 사유", example = "price must not be negative")
+    private String message;
+}
@@ -0,0 +1,47 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 가져오기 결과
+ */
+@Schema(description = "상품 일괄 가져오기 결과")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResult {
+
+    @Schema(description = "읽은 데이터 행 수 (CSV 헤더 제외)", example = "10000")
+    private long rows;
+
+    @Schema(description = "새로 등록된 상품 수", example = "9000")
+    private long inserted;
+
+    @Schema(description = "수정된 상품 수 (id가 있는 행)", example = "990")
+    private long updated;
+
+    @Schema(description = "반영되지 않은 행 수", example = "10")
+    private long failed;
+
+    @Schema(description = "커밋된 청크 수", example = "20")
+    private int chunks;
+
+    @Schema(description = "소요 시간 (ms)", example = "1530")
+    private long elapsedMillis;
+
+    @Schema(description = "실패 행 목록 (최대 product.import.max-errors개)")
+    private List<ProductImportError> errors;
+
+    @Schema(description = "실패 행이 많아 errors가 잘렸는지 여부", example = "false")
+    private boolean errorsTruncated;
+
+    @Schema(description = "입력 끝까지 읽었는지 여부 (형식 오류로 중단되면 false, 그 전까지의 청크는 커밋됨)", example = "true")
+    private boolean complete;
+}
@@ -0,0 +1,22 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 일괄 조정 항목 DTO
+ */
+@Schema(description = "재고 조정 항목")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustment {
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "변경할 수량 (양수: 증가, 음수: 감소)", example = "10")
+    private Integer quantity;
+}
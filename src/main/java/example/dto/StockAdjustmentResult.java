@@ -0,0 +1,27 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 조정 결과 DTO
+ */
+@Schema(description = "재고 일괄 조정 결과")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResult {
+
+    @Schema(description = "요청한 조정 항목 수", example = "3")
+    private int requested;
+
+    @Schema(description = "재고가 변경된 항목 수", example = "2")
+    private int updated;
+
+    @Schema(description = "존재하지 않아 변경되지 않은 상품 ID", example = "[999]")
+    private List<Long> notFound;
+}
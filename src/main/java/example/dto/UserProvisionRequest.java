@@ -0,0 +1,35 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록의 사용자 한 명
+ * 행마다 따로 검증해 실패한 행만 결과에 기록하므로 Bean Validation 어노테이션을 쓰지 않음 (UserProvisioningService 참조)
+ */
+@Schema(description = "일괄 등록할 사용자")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProvisionRequest {
+
+    @Schema(description = "사용자명 (3-50자)", example = "john_doe", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String username;
+
+    @Schema(description = "비밀번호 (6-72자, BCrypt로 저장)", example = "password123",
+        requiredMode = Schema.RequiredMode.REQUIRED)
+    private String password;
+
+    @Schema(description = "이메일", example = "john@example.com", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String email;
+
+    @Schema(description = "전체 이름", example = "John Doe", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String fullName;
+
+    @Schema(description = "역할 (기본 ROLE_USER)", example = "ROLE_USER", allowableValues = {"ROLE_USER", "ROLE_ADMIN"})
+    private String role;
+}
@@ -0,0 +1,25 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록에서 생성되지 않은 행
+ */
+@Schema(description = "일괄 등록 실패 행")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProvisioningError {
+
+    @Schema(description = "요청 목록에서의 위치 (0부터)", example = "42")
+    private int index;
+
+    @Schema(description = "행의 사용자명", example = "john_doe")
+    private String username;
+
+    @Schema(description = "실패 사유", example = "Username already exists: john_doe")
+    private String message;
+}
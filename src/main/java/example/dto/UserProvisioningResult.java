@@ -0,0 +1,41 @@
+package example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과
+ */
+@Schema(description = "사용자 일괄 등록 결과")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProvisioningResult {
+
+    @Schema(description = "요청한 사용자 수", example = "10000")
+    private int rows;
+
+    @Schema(description = "생성된 사용자 수", example = "9990")
+    private int created;
+
+    @Schema(description = "생성되지 않은 사용자 수", example = "10")
+    private int failed;
+
+    @Schema(description = "커밋된 청크 수", example = "20")
+    private int chunks;
+
+    @Schema(description = "소요 시간 (ms)", example = "15300")
+    private long elapsedMillis;
+
+    @Schema(description = "실패 행 목록 (최대 user.provisioning.max-errors개)")
+    private List<UserProvisioningError> errors;
+
+    @Schema(description = "실패 행이 많아 errors가 잘렸는지 여부", example = "false")
+    private boolean errorsTruncated;
+}
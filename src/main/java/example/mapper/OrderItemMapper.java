@@ -17,6 +17,13 @@ public interface OrderItemMapper {
      */
     List<OrderItem> findByOrderId(Long orderId);
 
+    /**
+     * 주문 ID로 주문 상세 항목만 조회 (상품 조인 없음, ID 순)
+     * 상품 정보는 OrderDetailAssembler가 캐시 또는 ProductMapper.findSummariesByIds로 채움
+     */
+    @Select("SELECT id, order_id, product_id, quantity, price, subtotal FROM order_items WHERE order_id = #{orderId} ORDER BY id")
+    List<OrderItem> findPlainByOrderId(Long orderId);
+
     /**
      * 주문 상세 항목 생성
      * XML Mapper에서 구현
@@ -31,21 +38,27 @@ public interface OrderItemMapper {
 
     /**
      * 주문 상세 항목 수정
+     *
+     * @return 변경된 행 수 (0이면 해당 ID 없음)
      */
     @Update("UPDATE order_items SET quantity = #{quantity}, subtotal = #{subtotal} WHERE id = #{id}")
-    void update(OrderItem orderItem);
+    int update(OrderItem orderItem);
 
     /**
      * 주문 상세 항목 삭제
+     *
+     * @return 삭제된 행 수 (0이면 해당 ID 없음)
      */
     @Delete("DELETE FROM order_items WHERE id = #{id}")
-    void delete(Long id);
+    int delete(Long id);
 
     /**
      * 주문 ID로 주문 상세 항목 일괄 삭제
+     *
+     * @return 삭제된 항목 수
      */
     @Delete("DELETE FROM order_items WHERE order_id = #{orderId}")
-    void deleteByOrderId(Long orderId);
+    int deleteByOrderId(Long orderId);
 
     /**
      * 특정 상품의 총 판매 수량
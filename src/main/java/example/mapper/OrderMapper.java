@@ -1,9 +1,11 @@
 package example.mapper;
 
 import example.domain.Order;
+import example.domain.OrderStatus;
 import example.dto.OrderSearchCriteria;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,13 @@ public interface OrderMapper {
      */
     Optional<Order> findById(Long id);
 
+    /**
+     * ID로 주문 헤더만 조회 (사용자/주문 상세 항목 조인 없음)
+     * OrderDetailAssembler가 나머지 부분과 병렬로 조회
+     */
+    @Select("SELECT id, user_id, status, total_amount, shipping_address, order_date, updated_at FROM orders WHERE id = #{id}")
+    Optional<Order> findHeaderById(Long id);
+
     /**
      * 사용자별 주문 조회
      * XML Mapper에서 구현
@@ -39,16 +48,52 @@ public interface OrderMapper {
     void insert(Order order);
 
     /**
-     * 주문 상태 업데이트
+     * 주문 일괄 생성 (다중 행 INSERT, 각 주문의 id에 생성된 키를 채움)
+     * XML Mapper에서 구현 (foreach 사용)
+     */
+    void insertBatch(List<Order> orders);
+
+    /**
+     * ID로 주문 상태만 조회 (상태 전이 실패 시 원인 구분용)
+     */
+    @Select("SELECT status FROM orders WHERE id = #{id}")
+    Optional<OrderStatus> findStatusById(Long id);
+
+    /**
+     * 주어진 주문 중 현재 상태가 statuses 중 하나인 주문을 ID 순서로 잠그고 ID 조회 (SELECT ... FOR UPDATE)
+     * XML Mapper에서 구현 (일괄 취소에서 실제로 취소될 주문을 확정하는 용도)
+     */
+    List<Long> findIdsForUpdate(@Param("ids") Collection<Long> ids,
+                                @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * 주문 상태 전이 (현재 상태가 from 중 하나일 때만 변경)
+     * XML Mapper에서 구현 (foreach 사용)
+     *
+     * @param from 전이 가능한 이전 상태 (OrderStatus.sourcesOf(status), 비어 있으면 아무 행도 바꾸지 않음)
+     * @return 변경된 행 수 (0이면 해당 ID가 없거나 현재 상태에서 전이할 수 없음)
+     */
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") OrderStatus status,
+                     @Param("from") Collection<OrderStatus> from);
+
+    /**
+     * 여러 주문의 상태를 한 번에 전이 (현재 상태가 from 중 하나인 주문만 변경)
+     * XML Mapper에서 구현 (foreach 사용)
+     *
+     * @return 변경된 행 수 (나머지는 없는 ID이거나 현재 상태에서 전이할 수 없는 주문)
      */
-    @Update("UPDATE orders SET status = #{status}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    void updateStatus(@Param("id") Long id, @Param("status") String status);
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") OrderStatus status,
+                          @Param("from") Collection<OrderStatus> from);
 
     /**
      * 주문 삭제
+     *
+     * @return 삭제된 행 수 (0이면 해당 ID 없음)
      */
     @Delete("DELETE FROM orders WHERE id = #{id}")
-    void delete(Long id);
+    int delete(Long id);
 
     /**
      * 검색 조건에 따른 주문 조회
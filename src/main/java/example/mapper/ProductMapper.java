@@ -4,14 +4,17 @@ import example.domain.Product;
 import example.dto.ProductSearchCriteria;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 상품 Mapper 인터페이스
  * 동적 SQL을 활용한 복잡한 검색 쿼리 구현
+ * @CacheNamespaceRef: 어노테이션으로 선언한 statement도 XML과 같은 2차 캐시를 사용/비움 (MapperCaches 참조)
  */
 @Mapper
+@CacheNamespaceRef(ProductMapper.class)
 public interface ProductMapper {
 
     /**
@@ -25,6 +28,24 @@ public interface ProductMapper {
      */
     Optional<Product> findById(Long id);
 
+    /**
+     * 여러 상품의 주문 상세 표시용 정보 조회 (id, name, description, price, category)
+     * XML Mapper에서 구현 (foreach로 IN 목록 생성)
+     */
+    List<Product> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 상품을 ID 순서로 잠그고 가격/재고 조회 (SELECT ... FOR UPDATE, 대량 주문 접수용)
+     * XML Mapper에서 구현 (2차 캐시 사용 안 함)
+     */
+    List<Product> findForUpdateByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 ID 중 존재하는 상품 ID 조회 (일괄 가져오기에서 수정/오류 대상 구분)
+     * XML Mapper에서 구현 (2차 캐시 사용 안 함)
+     */
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 상품 생성
      * XML Mapper에서 구현
@@ -34,14 +55,18 @@ public interface ProductMapper {
     /**
      * 상품 정보 수정
      * XML Mapper에서 구현 (동적 SQL 사용)
+     *
+     * @return 변경된 행 수 (0이면 해당 ID 없음)
      */
-    void update(Product product);
+    int update(Product product);
 
     /**
      * 상품 삭제
+     *
+     * @return 삭제된 행 수 (0이면 해당 ID 없음)
      */
     @Delete("DELETE FROM products WHERE id = #{id}")
-    void delete(Long id);
+    int delete(Long id);
 
     /**
      * 검색 조건에 따른 상품 조회
@@ -56,10 +81,20 @@ public interface ProductMapper {
     List<Product> findByCategory(String category);
 
     /**
-     * 재고 업데이트
+     * 재고 업데이트 (재고가 0 미만이 되면 chk_stock 제약 위반)
+     *
+     * @return 변경된 행 수 (0이면 해당 ID 없음)
      */
     @Update("UPDATE products SET stock_quantity = stock_quantity + #{quantity}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    void updateStock(@Param("id") Long id, @Param("quantity") Integer quantity);
+    int updateStock(@Param("id") Long id, @Param("quantity") Integer quantity);
+
+    /**
+     * 주문들의 상품별 수량 합계만큼 재고 복구 (주문 취소, MERGE 한 번)
+     * XML Mapper에서 구현 (order_items를 order_id로 집계, 상품 조인/항목별 UPDATE 없음)
+     *
+     * @return 재고가 복구된 상품 수
+     */
+    int restoreStockForOrders(@Param("orderIds") Collection<Long> orderIds);
 
     /**
      * 재고가 부족한 상품 조회
@@ -69,7 +104,9 @@ public interface ProductMapper {
 
     /**
      * 상품 가격 일괄 업데이트 (배치 작업 예시)
-     * XML Mapper에서 구현
+     * XML Mapper에서 구현 (price * priceMultiplier를 소수점 둘째 자리로 HALF_UP 반올림)
+     *
+     * @return 변경된 상품 수
      */
-    void updatePricesByCategory(@Param("category") String category, @Param("priceMultiplier") java.math.BigDecimal priceMultiplier);
+    int updatePricesByCategory(@Param("category") String category, @Param("priceMultiplier") java.math.BigDecimal priceMultiplier);
 }
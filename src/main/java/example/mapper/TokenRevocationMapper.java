@@ -0,0 +1,35 @@
+package example.mapper;
+
+import example.domain.TokenRevocation;
+import org.apache.ibatis.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JWT 폐기 정보 Mapper 인터페이스
+ * 요청마다 조회하지 않고, 시작 시 메모리(RevocationList)로 적재할 때만 사용
+ */
+@Mapper
+public interface TokenRevocationMapper {
+
+    /**
+     * 폐기 정보 저장 (같은 키가 있으면 갱신)
+     */
+    @Insert("MERGE INTO token_revocations (revocation_key, type, revoked_at, expires_at) KEY (revocation_key, type) " +
+            "VALUES (#{revocationKey}, #{type}, #{revokedAt}, #{expiresAt})")
+    void upsert(TokenRevocation revocation);
+
+    /**
+     * 아직 만료되지 않은 폐기 정보 조회
+     */
+    @Select("SELECT revocation_key AS revocationKey, type, revoked_at AS revokedAt, expires_at AS expiresAt " +
+            "FROM token_revocations WHERE expires_at > #{now}")
+    List<TokenRevocation> findActive(@Param("now") Instant now);
+
+    /**
+     * 만료된 폐기 정보 삭제
+     */
+    @Delete("DELETE FROM token_revocations WHERE expires_at <= #{now}")
+    int deleteExpired(@Param("now") Instant now);
+}
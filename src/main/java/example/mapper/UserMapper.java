@@ -2,7 +2,9 @@ package example.mapper;
 
 import example.domain.User;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,8 +13,10 @@ import java.util.Optional;
  * MyBatis의 어노테이션 기반 매핑과 XML 기반 매핑을 혼합 사용
  *
  * @Mapper 어노테이션으로 Spring이 자동으로 빈으로 등록
+ * @CacheNamespaceRef: 어노테이션으로 선언한 statement도 XML과 같은 2차 캐시를 사용/비움 (MapperCaches 참조)
  */
 @Mapper
+@CacheNamespaceRef(UserMapper.class)
 public interface UserMapper {
 
     /**
@@ -27,6 +31,12 @@ public interface UserMapper {
      */
     Optional<User> findById(Long id);
 
+    /**
+     * 주문 상세 표시용 사용자 정보 조회 (id, username, email, full_name, active)
+     */
+    @Select("SELECT id, username, email, full_name, active FROM users WHERE id = #{id}")
+    Optional<User> findSummaryById(Long id);
+
     /**
      * 사용자명으로 조회
      * 어노테이션 기반 매핑 예시
@@ -41,23 +51,55 @@ public interface UserMapper {
     @Select("SELECT * FROM users WHERE email = #{email}")
     Optional<User> findByEmail(String email);
 
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID 조회 (대량 주문 접수에서 외래키 위반 전에 거르기)
+     * XML Mapper에서 구현 (2차 캐시 사용 안 함)
+     */
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 사용자명 또는 이메일을 이미 쓰고 있는 사용자 조회 (id, username, email)
+     * XML Mapper에서 구현 (일괄 등록의 청크별 중복 확인, 2차 캐시 사용 안 함)
+     */
+    List<User> findByUsernamesOrEmails(@Param("usernames") Collection<String> usernames,
+                                       @Param("emails") Collection<String> emails);
+
+    /**
+     * 전체 사용자의 사용자명/이메일을 한 행씩 handler로 전달 (목록으로 모으지 않음)
+     * UserUniquenessFilter 적재용
+     */
+    @Select("SELECT username, email FROM users")
+    @Options(fetchSize = 1000, useCache = false)
+    @ResultType(User.class)
+    void scanUsernamesAndEmails(ResultHandler<User> handler);
+
     /**
      * 사용자 생성
      * XML Mapper에서 구현 (useGeneratedKeys 사용)
      */
     void insert(User user);
 
+    /**
+     * 사용자 일괄 생성 (다중 행 INSERT, 각 사용자의 id에 생성된 키를 채움)
+     * XML Mapper에서 구현 (foreach 사용)
+     */
+    void insertBatch(List<User> users);
+
     /**
      * 사용자 정보 수정
      * XML Mapper에서 구현 (동적 SQL 사용)
+     *
+     * @return 변경된 행 수 (0이면 해당 ID 없음)
      */
-    void update(User user);
+    int update(User user);
 
     /**
      * 사용자 삭제
+     *
+     * @return 삭제된 행 수 (0이면 해당 ID 없음)
      */
     @Delete("DELETE FROM users WHERE id = #{id}")
-    void delete(Long id);
+    int delete(Long id);
 
     /**
      * 활성 사용자 수 조회
@@ -74,7 +116,9 @@ public interface UserMapper {
 
     /**
      * 계정 활성화 상태 변경
+     *
+     * @return 변경된 행 수 (0이면 해당 ID 없음)
      */
     @Update("UPDATE users SET active = #{active}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    void updateActiveStatus(@Param("id") Long id, @Param("active") Boolean active);
+    int updateActiveStatus(@Param("id") Long id, @Param("active") Boolean active);
 }
@@ -0,0 +1,145 @@
+package example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없는 지연 시간 히스토그램 (HdrHistogram 방식의 log-linear 버킷)
+ *
+ * - 2의 거듭제곱 구간마다 32개 하위 버킷으로 나누므로 상대 오차는 약 3% 이내
+ * - record()는 버킷 카운터 하나의 원자적 증가와 LongAdder 갱신뿐이라 요청 경로에서 사용 가능
+ * - 단위는 호출자가 정함 (보통 나노초)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 값 기록 (음수는 0으로 기록)
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sum.add(v);
+
+        long currentMax = max.get();
+        while (v > currentMax && !max.weakCompareAndSetVolatile(currentMax, v)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * 시작 시각(System.nanoTime())부터 지금까지의 경과 시간 기록
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * 백분위 값 (버킷 상한값, 최대값을 넘지 않음)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * 현재 통계 스냅샷
+     */
+    public Snapshot snapshot() {
+        long total = count();
+        return new Snapshot(
+                total,
+                total == 0 ? 0 : sum() / total,
+                valueAtPercentile(50),
+                valueAtPercentile(90),
+                valueAtPercentile(99),
+                valueAtPercentile(99.9),
+                max());
+    }
+
+    /**
+     * 비어 있지 않은 버킷을 작은 값부터 순서대로 방문
+     */
+    public void forEachBucket(BucketVisitor visitor) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = buckets.get(i);
+            if (bucketCount > 0) {
+                visitor.visit(upperBound(i), bucketCount);
+            }
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long lower = (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * 버킷 방문자
+     */
+    @FunctionalInterface
+    public interface BucketVisitor {
+
+        /**
+         * @param upperBound 버킷 상한값
+         * @param count      버킷에 기록된 개수
+         */
+        void visit(long upperBound, long count);
+    }
+
+    /**
+     * 히스토그램 통계 스냅샷 (단위는 기록한 값과 동일)
+     */
+    public record Snapshot(long count, long mean, long p50, long p90, long p99, long p999, long max) {
+    }
+}
@@ -0,0 +1,14 @@
+package example.metrics;
+
+/**
+ * Prometheus 텍스트 형식으로 내보낼 메트릭 제공자
+ *
+ * 구현체(Spring Bean)는 관리 포트의 /metrics 요청마다 호출되므로 스냅샷만 읽고 상태를 바꾸지 않음
+ */
+public interface MetricsSource {
+
+    /**
+     * 현재 메트릭을 writer에 기록
+     */
+    void writeMetrics(PrometheusWriter writer);
+}
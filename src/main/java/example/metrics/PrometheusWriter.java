@@ -0,0 +1,128 @@
+package example.metrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Prometheus 텍스트 형식(0.0.4) 작성기
+ *
+ * - 메트릭 이름마다 help()로 HELP/TYPE 줄을 한 번 쓰고 sample()/histogram()으로 값 기록
+ * - LatencyHistogram은 고정 경계(le)의 누적 버킷으로 변환하므로 Prometheus에서 histogram_quantile() 사용 가능
+ */
+public class PrometheusWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * 지연 시간 버킷 경계 (초)
+     */
+    public static final double[] LATENCY_BOUNDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    /**
+     * 크기 버킷 경계 (바이트)
+     */
+    public static final double[] SIZE_BOUNDS = {
+            64, 256, 1024, 4096, 16384, 65536, 262144, 1048576, 4194304
+    };
+
+    /**
+     * 나노초 -> 초
+     */
+    public static final double NANOS = 1e-9;
+
+    private final StringBuilder text = new StringBuilder(4096);
+
+    /**
+     * HELP/TYPE 줄
+     *
+     * @param type counter, gauge, histogram, summary
+     */
+    public PrometheusWriter help(String name, String type, String help) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    /**
+     * 샘플 한 줄
+     *
+     * @param labels labels()로 만든 레이블 문자열 (없으면 빈 문자열)
+     */
+    public PrometheusWriter sample(String name, String labels, double value) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        text.append(' ').append(format(value)).append('\n');
+        return this;
+    }
+
+    /**
+     * LatencyHistogram을 누적 버킷(name_bucket), name_sum, name_count로 기록
+     *
+     * @param scale  기록된 값을 내보낼 단위로 바꾸는 배수 (나노초 -> 초면 NANOS)
+     * @param bounds 버킷 경계 (scale 적용 후 단위, 오름차순)
+     */
+    public PrometheusWriter histogram(String name, String labels, LatencyHistogram histogram, double scale, double[] bounds) {
+        long[] counts = new long[bounds.length + 1];
+        // 원본 버킷의 상한값이 경계 이하이면 그 경계에 포함 (경계에 걸친 버킷은 다음 경계로, 오차는 원본 버킷 폭 이내)
+        histogram.forEachBucket((upperBound, count) -> {
+            double value = upperBound * scale;
+            int i = 0;
+            while (i < bounds.length && value > bounds[i]) {
+                i++;
+            }
+            counts[i] += count;
+        });
+
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i];
+            sample(name + "_bucket", prefix + "le=\"" + format(bounds[i]) + "\"", cumulative);
+        }
+        cumulative += counts[bounds.length];
+        sample(name + "_bucket", prefix + "le=\"+Inf\"", cumulative);
+        sample(name + "_sum", labels, histogram.sum() * scale);
+        // +Inf 버킷과 일치하도록 버킷 합계를 count로 사용
+        sample(name + "_count", labels, cumulative);
+        return this;
+    }
+
+    /**
+     * 레이블 문자열 (이름, 값 순서로 전달)
+     */
+    public static String labels(String... namesAndValues) {
+        if (namesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Label names and values must be paired");
+        }
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(namesAndValues[i]).append("=\"").append(escape(namesAndValues[i + 1])).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == (long) value) {
+            return Long.toString((long) value);
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
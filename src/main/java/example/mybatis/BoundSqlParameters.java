@@ -0,0 +1,79 @@
+package example.mybatis;
+
+import example.domain.Money;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BoundSql의 '?' 순서대로 바인딩될 파라미터 값 계산
+ * (SlowQueryLog의 EXPLAIN, 실행 계획 검사에서 같은 SQL을 JDBC로 다시 실행할 때 사용)
+ */
+public final class BoundSqlParameters {
+
+    private BoundSqlParameters() {
+    }
+
+    /**
+     * 파라미터 값 목록 (MyBatis DefaultParameterHandler와 같은 규칙)
+     *
+     * @param parameter Mapper 메서드 파라미터 (단일 값, 도메인 객체 또는 @Param 맵)
+     */
+    public static List<Object> values(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<Object> values = new ArrayList<>(mappings.size());
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : mappings) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                // <foreach>, <bind>로 만들어진 파라미터
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(property);
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * values()와 같은 순서의 파라미터 property 이름 (예: username, __frch_user_0.password)
+     */
+    public static List<String> properties(BoundSql boundSql) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<String> properties = new ArrayList<>(mappings.size());
+        for (ParameterMapping mapping : mappings) {
+            if (mapping.getMode() != ParameterMode.OUT) {
+                properties.add(mapping.getProperty());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * PreparedStatement.setObject에 넘길 값
+     * enum은 이름으로 (OrderStatusTypeHandler, MyBatis 기본 EnumTypeHandler와 같음), Money는 BigDecimal로 (MoneyTypeHandler와 같음)
+     */
+    public static Object jdbcValue(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value instanceof Money money ? money.toBigDecimal() : value;
+    }
+}
@@ -0,0 +1,71 @@
+package example.mybatis;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대량 작업용 SqlSession (기본 Mapper는 SIMPLE Executor로 statement마다 JDBC 왕복 한 번)
+ *
+ * - BATCH: 같은 SQL의 연속 호출을 PreparedStatement.addBatch로 모아 flush 시 executeBatch 한 번으로 실행
+ *   Mapper의 INSERT/UPDATE/DELETE는 실행되지 않은 채 음수 상수(BatchExecutor.BATCH_UPDATE_RETURN_VALUE)를 반환하므로
+ *   변경 행 수와 자동 생성 키는 flush() 이후에 확인 (flush는 커밋 직전에도 자동으로 실행됨)
+ * - REUSE: 같은 SQL의 PreparedStatement를 세션(트랜잭션) 동안 재사용 (반복 조회의 statement 준비 비용 절감)
+ *
+ * 같은 트랜잭션에서 기본 Mapper와 함께 쓰도록 세션마다 별도 SqlSessionFactory(같은 Configuration)를 사용
+ * - mybatis-spring은 트랜잭션에 SqlSessionFactory당 세션 하나를 묶고 실행 중 ExecutorType 변경을 허용하지 않음
+ * - 세 세션 모두 트랜잭션의 같은 커넥션을 사용하지만, BATCH 세션의 쓰기는 flush 전까지 DB에 반영되지 않으므로
+ *   그 결과를 다른 세션에서 읽어야 하면 먼저 flush()
+ * - 2차 캐시는 세션별로 커밋 시 비워지므로, 같은 트랜잭션 안에서 BATCH로 바꾼 행을 기본 Mapper로 다시 읽지 말 것
+ * - 트랜잭션 밖에서는 호출마다 세션이 열리고 커밋되므로 묶음/재사용 효과가 없음 (반드시 @Transactional 안에서 사용)
+ */
+public class BulkSqlSessions {
+
+    private final SqlSessionTemplate batch;
+    private final SqlSessionTemplate reuse;
+
+    public BulkSqlSessions(SqlSessionFactory sqlSessionFactory) {
+        this.batch = new SqlSessionTemplate(
+                new DefaultSqlSessionFactory(sqlSessionFactory.getConfiguration()), ExecutorType.BATCH);
+        this.reuse = new SqlSessionTemplate(
+                new DefaultSqlSessionFactory(sqlSessionFactory.getConfiguration()), ExecutorType.REUSE);
+    }
+
+    /**
+     * BATCH Executor로 실행되는 Mapper (스레드 안전, 트랜잭션에 묶인 세션 사용)
+     */
+    public <T> T batchMapper(Class<T> type) {
+        return batch.getMapper(type);
+    }
+
+    /**
+     * REUSE Executor로 실행되는 Mapper
+     */
+    public <T> T reuseMapper(Class<T> type) {
+        return reuse.getMapper(type);
+    }
+
+    /**
+     * 현재 트랜잭션의 BATCH 세션에 쌓인 statement 실행
+     *
+     * @return SQL별 실행 결과 (getUpdateCounts()는 호출 순서대로 변경 행 수)
+     */
+    public List<BatchResult> flush() {
+        return batch.flushStatements();
+    }
+
+    /**
+     * flush 결과의 변경 행 수를 호출 순서대로 펼침
+     * (BatchExecutor는 SQL이 바뀔 때마다 새 묶음을 시작하므로 묶음 순서 = 호출 순서)
+     */
+    public static int[] updateCounts(List<BatchResult> results) {
+        return results.stream()
+                .flatMapToInt(result -> Arrays.stream(result.getUpdateCounts()))
+                .toArray();
+    }
+}
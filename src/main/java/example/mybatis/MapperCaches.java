@@ -0,0 +1,176 @@
+package example.mybatis;
+
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.session.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapper 네임스페이스별 2차 캐시 (SqlSessionFactory의 Configuration에 등록)
+ *
+ * 캐시를 쓰는 네임스페이스(NAMESPACES)는 Mapper XML의 <cache-ref namespace="자기 자신"/>과
+ * 인터페이스의 @CacheNamespaceRef(자기 자신)로 이 캐시를 참조
+ * - XML의 <cache>는 MyBatis가 캐시 객체를 직접 만들어 설정값/통계를 주입할 수 없으므로 미리 만들어 등록
+ * - @CacheNamespaceRef가 없으면 어노테이션으로 선언한 @Update/@Delete가 네임스페이스 캐시를 비우지 않음
+ * - 설정에서 꺼진 네임스페이스는 아무것도 저장하지 않는 캐시를 등록 (cache-ref가 항상 해석되도록)
+ *
+ * OrderMapper/OrderItemMapper는 캐시하지 않음: 조회가 users/products와 조인하는데
+ * 네임스페이스 캐시는 자기 네임스페이스의 쓰기에만 비워지므로 상품 가격/사용자 정보 변경이 반영되지 않음
+ */
+@Slf4j
+public class MapperCaches implements MetricsSource {
+
+    /**
+     * 캐시를 참조하는 네임스페이스 (Mapper XML에 cache-ref가 있는 것)
+     */
+    public static final List<String> NAMESPACES = List.of(
+            "example.mapper.ProductMapper",
+            "example.mapper.UserMapper");
+
+    private final Map<String, Cache> caches = new LinkedHashMap<>();
+
+    /**
+     * @param specs 네임스페이스별 설정 (없는 네임스페이스는 꺼짐)
+     */
+    public MapperCaches(Map<String, Spec> specs) {
+        for (String namespace : NAMESPACES) {
+            Spec spec = specs.get(namespace);
+            if (spec != null && spec.enabled()) {
+                caches.put(namespace, new SegmentedLruCache(namespace, spec.maxEntries(), spec.maxBytes(), spec.ttl()));
+                log.info("Mapper cache enabled for {} (max {} entries, {} bytes, ttl {})",
+                        namespace, spec.maxEntries(), spec.maxBytes(), spec.ttl());
+            } else {
+                caches.put(namespace, new DisabledCache(namespace));
+            }
+        }
+        specs.keySet().stream()
+                .filter(namespace -> !NAMESPACES.contains(namespace))
+                .forEach(namespace -> log.warn("Ignoring mapper cache settings for {} (no cache-ref in its mapper XML)", namespace));
+    }
+
+    /**
+     * 모든 네임스페이스의 캐시가 꺼진 상태 (벤치마크, 실행 계획 검사 등)
+     */
+    public static MapperCaches disabled() {
+        return new MapperCaches(Map.of());
+    }
+
+    /**
+     * Mapper XML을 읽기 전에 Configuration에 캐시 등록
+     */
+    public void registerWith(Configuration configuration) {
+        caches.values().forEach(configuration::addCache);
+    }
+
+    /**
+     * 전체 캐시 비우기 (MyBatis를 거치지 않은 쓰기 후, 예: 합성 데이터 적재)
+     */
+    public void clear() {
+        caches.values().forEach(Cache::clear);
+    }
+
+    /**
+     * 네임스페이스별 적중률, 제거 수, 크기
+     */
+    public List<Map<String, Object>> stats() {
+        List<Map<String, Object>> stats = new ArrayList<>();
+        for (Cache cache : caches.values()) {
+            if (cache instanceof SegmentedLruCache segmented) {
+                stats.add(segmented.stats());
+            } else {
+                stats.add(Map.of("namespace", cache.getId(), "enabled", false));
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        List<SegmentedLruCache> enabled = caches.values().stream()
+                .filter(SegmentedLruCache.class::isInstance)
+                .map(SegmentedLruCache.class::cast)
+                .toList();
+        if (enabled.isEmpty()) {
+            return;
+        }
+
+        writer.help("mybatis_cache_requests_total", "counter", "Second-level cache lookups by result");
+        for (SegmentedLruCache cache : enabled) {
+            writer.sample("mybatis_cache_requests_total",
+                    PrometheusWriter.labels("namespace", cache.getId(), "result", "hit"), cache.hitCount());
+            writer.sample("mybatis_cache_requests_total",
+                    PrometheusWriter.labels("namespace", cache.getId(), "result", "miss"), cache.missCount());
+        }
+        writer.help("mybatis_cache_evictions_total", "counter", "Entries evicted to stay within the entry or byte limit");
+        for (SegmentedLruCache cache : enabled) {
+            writer.sample("mybatis_cache_evictions_total",
+                    PrometheusWriter.labels("namespace", cache.getId()), cache.evictionCount());
+        }
+        writer.help("mybatis_cache_entries", "gauge", "Cached query results");
+        for (SegmentedLruCache cache : enabled) {
+            writer.sample("mybatis_cache_entries", PrometheusWriter.labels("namespace", cache.getId()), cache.getSize());
+        }
+        writer.help("mybatis_cache_bytes", "gauge", "Estimated heap used by cached query results");
+        for (SegmentedLruCache cache : enabled) {
+            writer.sample("mybatis_cache_bytes", PrometheusWriter.labels("namespace", cache.getId()), cache.estimatedBytes());
+        }
+    }
+
+    /**
+     * 네임스페이스별 캐시 설정
+     *
+     * @param enabled    사용 여부
+     * @param maxEntries 최대 항목 수 (조회 결과 단위)
+     * @param maxBytes   최대 추정 바이트 수
+     * @param ttl        항목 유지 시간
+     */
+    public record Spec(boolean enabled, int maxEntries, long maxBytes, Duration ttl) {
+    }
+
+    /**
+     * 저장하지 않는 캐시 (꺼진 네임스페이스의 cache-ref 대상)
+     */
+    private static final class DisabledCache implements Cache {
+
+        private final String id;
+
+        private DisabledCache(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void putObject(Object key, Object value) {
+        }
+
+        @Override
+        public Object getObject(Object key) {
+            return null;
+        }
+
+        @Override
+        public Object removeObject(Object key) {
+            return null;
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public int getSize() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package example.mybatis;
+
+import example.domain.Money;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Money <-> DECIMAL(10, 2) 변환 (products.price, orders.total_amount, order_items.price/subtotal)
+ *
+ * scale 2인 BigDecimal로 바인딩/조회하므로 컬럼 정의와 저장 값은 바뀌지 않음
+ * 조회 값의 소수점 둘째 자리 아래가 0이 아니면 (컬럼 정의가 바뀐 경우 등) 반올림하지 않고 ArithmeticException
+ * MyBatisConfig.mybatisConfiguration()에서 등록하므로 벤치마크/실행 계획 검사도 같은 변환을 사용
+ */
+@MappedTypes(Money.class)
+public class MoneyTypeHandler extends BaseTypeHandler<Money> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Money parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBigDecimal(i, parameter.toBigDecimal());
+    }
+
+    @Override
+    public Money getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toMoney(rs.getBigDecimal(columnName));
+    }
+
+    @Override
+    public Money getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toMoney(rs.getBigDecimal(columnIndex));
+    }
+
+    @Override
+    public Money getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toMoney(cs.getBigDecimal(columnIndex));
+    }
+
+    private static Money toMoney(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
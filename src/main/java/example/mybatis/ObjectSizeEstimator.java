@@ -0,0 +1,126 @@
+package example.mybatis;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시 항목(CacheKey, 조회 결과 목록)의 힙 사용량 추정 (64비트 JVM, compressed oops 기준 근사치)
+ *
+ * - String, BigDecimal, 날짜/시간, 박싱 타입은 고정 크기 + 길이로 계산
+ * - 컬렉션/맵/배열은 공개 API로 순회 (JDK 내부 필드는 모듈 경계 때문에 리플렉션하지 않음)
+ * - 그 외 애플리케이션 객체(도메인, CacheKey 등)는 인스턴스 필드를 리플렉션으로 순회 (클래스별 필드 목록 캐시)
+ * - 같은 객체를 여러 번 참조하면 한 번만 계산, MAX_DEPTH보다 깊은 객체는 참조 크기만 계산
+ */
+final class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAX_DEPTH = 8;
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    private ObjectSizeEstimator() {
+    }
+
+    static long estimate(Object value) {
+        return estimate(value, Collections.newSetFromMap(new IdentityHashMap<>()), 0);
+    }
+
+    private static long estimate(Object value, Set<Object> visited, int depth) {
+        if (value == null || depth > MAX_DEPTH || !visited.add(value)) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            // compact strings: 헤더 + 배열 헤더 + 문자당 1바이트 (Latin-1 가정)
+            return OBJECT_HEADER + 8 + OBJECT_HEADER + string.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            if (value instanceof BigDecimal decimal) {
+                return OBJECT_HEADER + 24 + (decimal.precision() > 18 ? bigInteger(decimal.unscaledValue()) : 0);
+            }
+            if (value instanceof BigInteger integer) {
+                return bigInteger(integer);
+            }
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof Temporal || value instanceof java.util.Date) {
+            // LocalDateTime = LocalDate + LocalTime 객체 포함
+            return 3 * OBJECT_HEADER + 24;
+        }
+        if (value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_HEADER + 16 + OBJECT_HEADER + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                size += estimate(element, visited, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = OBJECT_HEADER + 32 + OBJECT_HEADER + (long) REFERENCE * map.size() * 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimate(entry.getKey(), visited, depth + 1) + estimate(entry.getValue(), visited, depth + 1);
+            }
+            return size;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            if (type.getComponentType().isPrimitive()) {
+                return OBJECT_HEADER + (long) length * 8;
+            }
+            long size = OBJECT_HEADER + (long) REFERENCE * length;
+            for (int i = 0; i < length; i++) {
+                size += estimate(Array.get(value, i), visited, depth + 1);
+            }
+            return size;
+        }
+        if (type.getName().startsWith("java.") || type.getName().startsWith("javax.")) {
+            return OBJECT_HEADER + 16;
+        }
+
+        long size = OBJECT_HEADER;
+        for (Field field : FIELDS.get(type)) {
+            if (field.getType().isPrimitive()) {
+                size += 8;
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                size += estimate(field.get(value), visited, depth + 1);
+            } catch (IllegalAccessException e) {
+                // trySetAccessible로 걸러진 필드라 발생하지 않음
+            }
+        }
+        return size;
+    }
+
+    private static long bigInteger(BigInteger integer) {
+        return OBJECT_HEADER + 24 + OBJECT_HEADER + (integer.bitLength() / 32 + 1) * 4L;
+    }
+}
@@ -0,0 +1,53 @@
+package example.mybatis;
+
+import example.domain.OrderStatus;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * OrderStatus <-> orders.status(VARCHAR) 변환
+ *
+ * 이름(name())으로 저장하므로 기존 데이터('PENDING' 등)와 그대로 호환
+ * 알 수 없는 값이 저장되어 있으면 null 대신 IllegalStateException (상태 전이 판단이 틀어지지 않도록)
+ * MyBatisConfig.mybatisConfiguration()에서 등록하므로 벤치마크/실행 계획 검사도 같은 변환을 사용
+ */
+@MappedTypes(OrderStatus.class)
+public class OrderStatusTypeHandler extends BaseTypeHandler<OrderStatus> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, OrderStatus parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.name());
+    }
+
+    @Override
+    public OrderStatus getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toStatus(rs.getString(columnName));
+    }
+
+    @Override
+    public OrderStatus getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toStatus(rs.getString(columnIndex));
+    }
+
+    @Override
+    public OrderStatus getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toStatus(cs.getString(columnIndex));
+    }
+
+    private static OrderStatus toStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OrderStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown order status in database: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package example.mybatis;
+
+import example.datasource.ReplicatedStatement;
+import example.datasource.StatementReplicator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 성공한 INSERT/UPDATE/DELETE를 StatementReplicator로 전달하는 플러그인 (datasource.routing.enabled=true일 때만 등록)
+ *
+ * useGeneratedKeys INSERT는 기본 DB가 만든 키를 컬럼으로 추가해 다시 실행
+ * (레플리카의 IDENTITY에 맡기면 동시 INSERT의 커밋 순서에 따라 ID가 어긋날 수 있음)
+ * 예: INSERT INTO orders (user_id, ...) VALUES (?, ...)
+ *  -> INSERT INTO orders (id, user_id, ...) VALUES (?, ?, ...)
+ *
+ * BATCH Executor(BulkSqlSessions)의 INSERT는 flush 후에야 키가 채워지므로 커밋된 뒤 게시할 때 키를 읽음
+ * (파라미터 값은 호출 시점에 읽고, 트랜잭션 안의 호출 순서대로 복제)
+ */
+@Slf4j
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ReplicationInterceptor implements Interceptor {
+
+    private final StatementReplicator replicator;
+
+    public ReplicationInterceptor(StatementReplicator replicator) {
+        this.replicator = replicator;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        Configuration configuration = mappedStatement.getConfiguration();
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        List<Object> parameters = BoundSqlParameters.values(configuration, boundSql, parameter);
+
+        ReplicatedStatement statement = new ReplicatedStatement(mappedStatement.getId(), boundSql.getSql(), parameters);
+        if (mappedStatement.getSqlCommandType() != SqlCommandType.INSERT
+                || !(mappedStatement.getKeyGenerator() instanceof Jdbc3KeyGenerator)) {
+            replicator.capture(statement);
+        } else if (Integer.valueOf(BatchExecutor.BATCH_UPDATE_RETURN_VALUE).equals(result)) {
+            replicator.capture(() -> withGeneratedKeys(statement, mappedStatement, parameter));
+        } else {
+            replicator.capture(withGeneratedKeys(statement, mappedStatement, parameter));
+        }
+        return result;
+    }
+
+    private static ReplicatedStatement withGeneratedKeys(ReplicatedStatement statement,
+                                                         MappedStatement mappedStatement, Object parameter) {
+        String[] keyProperties = mappedStatement.getKeyProperties();
+        String[] keyColumns = mappedStatement.getKeyColumns();
+        if (keyProperties == null || keyProperties.length != 1 || keyColumns == null || keyColumns.length != 1) {
+            log.warn("Replicating {} without generated keys (single keyProperty/keyColumn required)", statement.statementId());
+            return statement;
+        }
+
+        List<Object> keys = generatedKeys(mappedStatement.getConfiguration(), parameter, keyProperties[0]);
+        ReplicatedStatement rewritten = keys == null ? null : addKeyColumn(statement, keyColumns[0], keys);
+        if (rewritten == null) {
+            log.warn("Replicating {} without generated keys (unsupported INSERT form)", statement.statementId());
+            return statement;
+        }
+        return rewritten;
+    }
+
+    /**
+     * 파라미터에 채워진 생성 키 (단일 객체 또는 컬렉션 파라미터의 각 항목)
+     */
+    private static List<Object> generatedKeys(Configuration configuration, Object parameter, String keyProperty) {
+        Collection<?> items = null;
+        if (parameter instanceof Collection<?> collection) {
+            items = collection;
+        } else if (parameter instanceof Map<?, ?> map) {
+            // 컬렉션 하나를 받는 Mapper 메서드는 list/collection/arg0 등 같은 값을 여러 이름으로 감싼 맵이 됨
+            items = map.values().stream()
+                    .filter(Collection.class::isInstance)
+                    .map(value -> (Collection<?>) value)
+                    .findFirst()
+                    .orElse(null);
+        }
+        List<Object> keys = new ArrayList<>();
+        for (Object item : items != null ? items : List.of(parameter)) {
+            MetaObject metaObject = configuration.newMetaObject(item);
+            Object key = metaObject.hasGetter(keyProperty) ? metaObject.getValue(keyProperty) : null;
+            if (key == null) {
+                return null;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * INSERT INTO t (c1, ...) VALUES (...), (...) 형태의 SQL 앞쪽에 키 컬럼과 '?'를 추가
+     * 행마다 파라미터 수가 같아야 하며, 형태가 다르면 null
+     */
+    private static ReplicatedStatement addKeyColumn(ReplicatedStatement statement, String keyColumn, List<Object> keys) {
+        String sql = statement.sql();
+        String upper = sql.toUpperCase(Locale.ROOT);
+        int columns = sql.indexOf('(');
+        int values = upper.indexOf("VALUES", columns);
+        if (columns < 0 || values < 0 || !upper.substring(0, columns).trim().startsWith("INSERT")) {
+            return null;
+        }
+
+        StringBuilder rewritten = new StringBuilder(sql.length() + keys.size() * 3 + keyColumn.length() + 2);
+        rewritten.append(sql, 0, columns + 1).append(keyColumn).append(", ").append(sql, columns + 1, values);
+        int rows = 0;
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = values; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            rewritten.append(c);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                if (depth++ == 0) {
+                    rewritten.append("?, ");
+                    rows++;
+                }
+            } else if (!quoted && c == ')') {
+                depth--;
+            }
+        }
+
+        List<Object> parameters = statement.parameters();
+        if (rows == 0 || rows != keys.size() || parameters.size() % rows != 0) {
+            return null;
+        }
+        int perRow = parameters.size() / rows;
+        List<Object> merged = new ArrayList<>(parameters.size() + rows);
+        for (int row = 0; row < rows; row++) {
+            merged.add(keys.get(row));
+            merged.addAll(parameters.subList(row * perRow, (row + 1) * perRow));
+        }
+        return new ReplicatedStatement(statement.statementId(), rewritten.toString(), merged);
+    }
+}
@@ -0,0 +1,328 @@
+package example.mybatis;
+
+import org.apache.ibatis.cache.Cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 항목 수와 추정 바이트 수로 제한되는 MyBatis 2차 캐시 (Segmented LRU)
+ *
+ * - 새 항목은 probation 구간(전체의 20%)에 들어가고, 다시 조회되면 protected 구간(80%)으로 승격
+ *   protected가 가득 차면 가장 오래 조회되지 않은 항목이 probation으로 강등
+ * - 제한을 넘으면 probation의 LRU부터 제거하므로 한 번만 조회된 결과(목록 검색 등)가
+ *   자주 조회되는 결과(findById 등)를 밀어내지 못함
+ * - ttl이 지난 항목은 조회 시 제거 (다른 트랜잭션의 커밋 직전 조회가 오래된 값을 다시 넣는 경우 등의 상한)
+ * - 크기는 ObjectSizeEstimator로 추정하며, 한 항목이 maxBytes를 넘으면 저장하지 않음
+ *
+ * 모든 연산은 하나의 ReentrantLock 안에서 O(1) (조회도 순서를 바꾸므로 읽기 락을 쓰지 않음)
+ * MyBatis는 직접 만든 Cache 구현에 SynchronizedCache/SerializedCache를 씌우지 않으므로
+ * 조회 결과 객체는 호출자들이 공유함 (readOnly 캐시와 같음, 결과를 수정하지 말 것)
+ */
+public class SegmentedLruCache implements Cache {
+
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final String id;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final int protectedCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, Node> nodes = new HashMap<>();
+    private final Segment probation = new Segment();
+    private final Segment protectedSegment = new Segment();
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param id         네임스페이스
+     * @param maxEntries 최대 항목 수
+     * @param maxBytes   최대 추정 바이트 수
+     * @param ttl        항목 유지 시간
+     */
+    public SegmentedLruCache(String id, int maxEntries, long maxBytes, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.id = id;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.protectedCapacity = Math.max(1, (int) (maxEntries * PROTECTED_RATIO));
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        // 크기 추정은 락 밖에서 (결과 목록이 클수록 비용이 큼)
+        long size = ObjectSizeEstimator.estimate(key) + ObjectSizeEstimator.estimate(value);
+        if (size > maxBytes) {
+            rejections.increment();
+            return;
+        }
+        long expiresAt = System.nanoTime() + ttlNanos;
+
+        lock.lock();
+        try {
+            Node node = nodes.get(key);
+            if (node != null) {
+                bytes += size - node.bytes;
+                node.value = value;
+                node.bytes = size;
+                node.expiresAt = expiresAt;
+                touch(node);
+            } else {
+                node = new Node(key, value, size, expiresAt);
+                nodes.put(key, node);
+                probation.addFirst(node);
+                bytes += size;
+            }
+            while (nodes.size() > maxEntries || bytes > maxBytes) {
+                Node victim = probation.last() != null ? probation.last() : protectedSegment.last();
+                remove(victim);
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        lock.lock();
+        try {
+            Node node = nodes.get(key);
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            if (node.expiresAt - System.nanoTime() <= 0) {
+                remove(node);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            touch(node);
+            hits.increment();
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        lock.lock();
+        try {
+            Node node = nodes.get(key);
+            if (node == null) {
+                return null;
+            }
+            remove(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            nodes.clear();
+            probation.clear();
+            protectedSegment.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getSize() {
+        lock.lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 적중/미스/제거 통계와 현재 크기
+     */
+    public Map<String, Object> stats() {
+        int entries;
+        int protectedEntries;
+        long currentBytes;
+        lock.lock();
+        try {
+            entries = nodes.size();
+            protectedEntries = protectedSegment.size;
+            currentBytes = bytes;
+        } finally {
+            lock.unlock();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("namespace", id);
+        stats.put("enabled", true);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("rejections", rejections.sum());
+        stats.put("entries", entries);
+        stats.put("protectedEntries", protectedEntries);
+        stats.put("maxEntries", maxEntries);
+        stats.put("estimatedBytes", currentBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("ttlSeconds", ttlNanos / 1_000_000_000L);
+        return stats;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 용량(항목 수/바이트) 때문에 제거된 항목 수 (만료 제외)
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long estimatedBytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회된 항목을 protected의 MRU로 이동 (probation에서 승격되면 protected 초과분을 강등)
+     */
+    private void touch(Node node) {
+        if (node.segment == protectedSegment) {
+            protectedSegment.moveToFirst(node);
+            return;
+        }
+        probation.unlink(node);
+        protectedSegment.addFirst(node);
+        if (protectedSegment.size > protectedCapacity) {
+            Node demoted = protectedSegment.last();
+            protectedSegment.unlink(demoted);
+            probation.addFirst(demoted);
+        }
+    }
+
+    private void remove(Node node) {
+        nodes.remove(node.key);
+        node.segment.unlink(node);
+        bytes -= node.bytes;
+    }
+
+    private static final class Node {
+        private final Object key;
+        private Object value;
+        private long bytes;
+        private long expiresAt;
+        private Segment segment;
+        private Node prev;
+        private Node next;
+
+        private Node(Object key, Object value, long bytes, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 이중 연결 리스트 (head가 MRU, tail이 LRU)
+     */
+    private static final class Segment {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        void addFirst(Node node) {
+            node.segment = this;
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            } else {
+                tail = node;
+            }
+            head = node;
+            size++;
+        }
+
+        void unlink(Node node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.segment = null;
+            size--;
+        }
+
+        void moveToFirst(Node node) {
+            if (head != node) {
+                unlink(node);
+                addFirst(node);
+            }
+        }
+
+        Node last() {
+            return tail;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
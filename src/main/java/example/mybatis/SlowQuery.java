@@ -0,0 +1,108 @@
+package example.mybatis;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 statement 실행 기록 하나
+ *
+ * 실행 계획(plan)은 SlowQueryLog가 비동기로 채우므로 처음에는 PENDING 상태
+ * 파라미터는 가린 표시용 값만 보관하고, EXPLAIN에 쓰는 원본 값은 계획 수집이 끝나면 버림
+ */
+public class SlowQuery {
+
+    /**
+     * 실행 계획 수집 상태
+     */
+    public enum PlanStatus {
+        PENDING,
+        /** 수집 완료 */
+        CAPTURED,
+        /** 같은 statement의 계획을 최근에 수집했거나 대기열이 가득 차 생략 */
+        SKIPPED,
+        FAILED
+    }
+
+    private final long sequence;
+    private final Instant executedAt;
+    private final String statementId;
+    private final boolean select;
+    private final String sql;
+    private final List<String> parameters;
+    private final long elapsedNanos;
+
+    private volatile List<Object> explainParameters;
+    private volatile PlanStatus planStatus = PlanStatus.PENDING;
+    private volatile String plan;
+
+    /**
+     * @param parameters        API로 돌려줄 파라미터 (SlowQueryLog에서 가린 값)
+     * @param explainParameters EXPLAIN 재실행에 바인딩할 값 (비밀번호는 null로 바뀐 값)
+     */
+    SlowQuery(long sequence, Instant executedAt, String statementId, boolean select,
+              String sql, List<String> parameters, List<Object> explainParameters, long elapsedNanos) {
+        this.sequence = sequence;
+        this.executedAt = executedAt;
+        this.statementId = statementId;
+        this.select = select;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.explainParameters = explainParameters;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void completePlan(PlanStatus status, String plan) {
+        this.plan = plan;
+        this.planStatus = status;
+        this.explainParameters = null;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public boolean isSelect() {
+        return select;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * EXPLAIN 재실행에 바인딩할 값 (계획 수집이 끝나면 null)
+     */
+    List<Object> getExplainParameters() {
+        return explainParameters;
+    }
+
+    public PlanStatus getPlanStatus() {
+        return planStatus;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    /**
+     * 조회 결과 (관리자 메트릭 API용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executedAt", executedAt.toString());
+        stats.put("statementId", statementId);
+        stats.put("elapsedMs", TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0);
+        stats.put("sql", sql);
+        stats.put("parameters", parameters);
+        stats.put("planStatus", planStatus);
+        stats.put("plan", plan);
+        return stats;
+    }
+}
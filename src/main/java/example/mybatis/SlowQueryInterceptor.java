@@ -0,0 +1,65 @@
+package example.mybatis;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.time.Duration;
+
+/**
+ * 느린 statement 감지 플러그인
+ *
+ * 실행 시간이 threshold를 넘은 statement만 바인딩된 SQL과 파라미터를 만들어 SlowQueryLog에 기록
+ * (빠른 실행은 System.nanoTime() 2회 외에 추가 비용 없음)
+ * 파라미터 값은 SlowQueryLog가 가린 뒤 보관 (SlowQueryLog 참조)
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+
+    public SlowQueryInterceptor(SlowQueryLog slowQueryLog, Duration threshold) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsed = System.nanoTime() - start;
+
+        if (elapsed >= thresholdNanos) {
+            Object[] args = invocation.getArgs();
+            MappedStatement mappedStatement = (MappedStatement) args[0];
+            Object parameter = args[1];
+            // 6개 인자 query는 이미 만들어진 BoundSql을 전달받음
+            BoundSql boundSql = args.length == 6
+                    ? (BoundSql) args[5]
+                    : mappedStatement.getBoundSql(parameter);
+            slowQueryLog.record(mappedStatement.getId(),
+                    mappedStatement.getSqlCommandType() == SqlCommandType.SELECT,
+                    boundSql.getSql(),
+                    BoundSqlParameters.properties(boundSql),
+                    BoundSqlParameters.values(mappedStatement.getConfiguration(), boundSql, parameter),
+                    elapsed);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+package example.mybatis;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 느린 statement 기록 (고정 크기 링 버퍼) + H2 실행 계획 비동기 수집
+ *
+ * - 최근 capacity개만 보관하고 오래된 기록부터 덮어씀 (락 없음)
+ * - 실행 계획은 별도 스레드에서 별도 커넥션으로 수집하므로 요청 스레드는 기다리지 않음
+ *   SELECT: EXPLAIN ANALYZE (실제 실행, 스캔 행 수 포함)
+ *   INSERT/UPDATE/DELETE, SELECT ... FOR UPDATE: EXPLAIN (다시 실행하면 데이터가 바뀌거나 원래 트랜잭션의 락을 기다리므로)
+ * - 같은 statement의 계획은 explainInterval에 한 번만 수집 (느린 쿼리가 몰릴 때 DB 부하를 키우지 않도록)
+ * - 파라미터는 가려서 보관 (관리자 API로 비밀번호 해시, 이메일 등이 나가지 않도록)
+ *   기본은 "String(60)"처럼 타입과 길이만, logParameterValues가 켜져 있을 때만 값 (디버깅용)
+ *   property 이름에 password가 들어간 값은 항상 "***"이고 EXPLAIN에도 null로 바인딩
+ */
+@Slf4j
+public class SlowQueryLog implements AutoCloseable {
+
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+    private static final int MAX_DISPLAY_LENGTH = 200;
+    private static final String MASK = "***";
+
+    private final DataSource dataSource;
+    private final long explainIntervalNanos;
+    private final boolean logParameterValues;
+    private final AtomicReferenceArray<SlowQuery> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    /**
+     * @param dataSource      실행 계획 수집에 사용할 DataSource
+     * @param capacity        보관할 최대 기록 수
+     * @param explainInterval statement별 실행 계획 수집 최소 간격
+     * @param logParameterValues 파라미터 값을 그대로 보관할지 여부 (false면 타입과 길이만)
+     */
+    public SlowQueryLog(DataSource dataSource, int capacity, Duration explainInterval, boolean logParameterValues) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.dataSource = dataSource;
+        this.explainIntervalNanos = explainInterval.toNanos();
+        this.logParameterValues = logParameterValues;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 느린 실행 기록 후 실행 계획 수집 예약
+     *
+     * @param properties 파라미터 property 이름 (parameters와 같은 순서, 가릴 값 판단용)
+     * @param parameters 바인딩된 파라미터 원본 값
+     */
+    public SlowQuery record(String statementId, boolean select, String sql,
+                            List<String> properties, List<Object> parameters, long elapsedNanos) {
+        List<String> displayed = new ArrayList<>(parameters.size());
+        List<Object> explainParameters = new ArrayList<>(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            Object value = parameters.get(i);
+            if (i < properties.size() && isSecret(properties.get(i))) {
+                displayed.add(MASK);
+                explainParameters.add(null);
+            } else {
+                displayed.add(display(value));
+                explainParameters.add(value);
+            }
+        }
+
+        long seq = sequence.getAndIncrement();
+        SlowQuery slowQuery = new SlowQuery(seq, Instant.now(), statementId, select, sql,
+                displayed, explainParameters, elapsedNanos);
+        buffer.set((int) (seq % buffer.length()), slowQuery);
+        log.warn("Slow SQL {} took {} ms", statementId, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        if (!claimExplain(statementId)) {
+            slowQuery.completePlan(SlowQuery.PlanStatus.SKIPPED, null);
+            return slowQuery;
+        }
+        try {
+            explainExecutor.execute(() -> explain(slowQuery));
+        } catch (RejectedExecutionException e) {
+            lastExplained.remove(statementId);
+            slowQuery.completePlan(SlowQuery.PlanStatus.SKIPPED, null);
+        }
+        return slowQuery;
+    }
+
+    private static boolean isSecret(String property) {
+        return property != null && property.toLowerCase(Locale.ROOT).contains("password");
+    }
+
+    private String display(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (!logParameterValues) {
+            String type = value.getClass().getSimpleName();
+            return value instanceof CharSequence text ? type + "(" + text.length() + ")" : type;
+        }
+        String text = String.valueOf(value);
+        return text.length() > MAX_DISPLAY_LENGTH ? text.substring(0, MAX_DISPLAY_LENGTH) + "..." : text;
+    }
+
+    private boolean claimExplain(String statementId) {
+        long now = System.nanoTime();
+        Long previous = lastExplained.get(statementId);
+        if (previous != null && now - previous < explainIntervalNanos) {
+            return false;
+        }
+        // 동시에 같은 statement가 기록되면 한 스레드만 수집
+        return previous == null
+                ? lastExplained.putIfAbsent(statementId, now) == null
+                : lastExplained.replace(statementId, previous, now);
+    }
+
+    private void explain(SlowQuery slowQuery) {
+        boolean analyze = slowQuery.isSelect()
+                && !slowQuery.getSql().toUpperCase(Locale.ROOT).contains("FOR UPDATE");
+        String explainSql = (analyze ? "EXPLAIN ANALYZE " : "EXPLAIN ") + slowQuery.getSql();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(explainSql)) {
+            List<Object> parameters = slowQuery.getExplainParameters();
+            if (parameters == null) {
+                return;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, BoundSqlParameters.jdbcValue(parameters.get(i)));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (plan.length() > 0) {
+                        plan.append('\n');
+                    }
+                    plan.append(rs.getString(1));
+                }
+            }
+            slowQuery.completePlan(SlowQuery.PlanStatus.CAPTURED, plan.toString());
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Cannot explain {}", slowQuery.getStatementId(), e);
+            slowQuery.completePlan(SlowQuery.PlanStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 중인 기록 (최근 순)
+     */
+    public List<SlowQuery> entries() {
+        List<SlowQuery> entries = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            SlowQuery entry = buffer.get(i);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(SlowQuery::getSequence).reversed());
+        return entries;
+    }
+
+    /**
+     * 조회 결과 (관리자 메트릭 API용)
+     */
+    public List<Map<String, Object>> stats() {
+        return entries().stream().map(SlowQuery::stats).toList();
+    }
+
+    /**
+     * 기록 초기화
+     */
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+        lastExplained.clear();
+    }
+
+    @Override
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+}
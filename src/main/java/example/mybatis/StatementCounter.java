@@ -0,0 +1,136 @@
+package example.mybatis;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 SQL 실행 횟수 카운터 (ThreadLocal)
+ *
+ * QueryCountFilter가 요청 시작 시 begin(), 종료 시 end()를 호출하고
+ * 그 사이 같은 스레드에서 실행된 statement를 SqlMetricsInterceptor가 record()로 기록
+ * begin()하지 않은 스레드(스케줄러, 시작 시 적재 등)에서는 아무것도 하지 않음
+ * 요청 처리 중 다른 스레드에 맡기는 작업은 propagate()로 감싸면 같은 Counts에 집계됨 (OrderDetailAssembler)
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     */
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     *
+     * @return 집계 결과 (begin()하지 않았으면 null)
+     */
+    public static Counts end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    /**
+     * 현재 스레드의 Counts를 다른 스레드에서 실행될 작업에 연결
+     * 작업이 실행되는 동안만 그 스레드에 설정하고 끝나면 원래 값으로 되돌림 (집계 중이 아니면 task 그대로 반환)
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            Counts previous = CURRENT.get();
+            CURRENT.set(counts);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    static void record(String statementId) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.record(statementId);
+        }
+    }
+
+    /**
+     * 요청 하나의 statement 실행 횟수 (propagate()로 연결된 스레드에서 동시에 갱신될 수 있음)
+     */
+    public static final class Counts {
+
+        private final Map<String, Integer> byStatement = new ConcurrentHashMap<>();
+        private final AtomicInteger total = new AtomicInteger();
+
+        private void record(String statementId) {
+            total.incrementAndGet();
+            byStatement.merge(statementId, 1, Integer::sum);
+        }
+
+        /**
+         * 전체 statement 실행 횟수
+         */
+        public int total() {
+            return total.get();
+        }
+
+        /**
+         * statement id별 실행 횟수
+         */
+        public Map<String, Integer> byStatement() {
+            return Collections.unmodifiableMap(byStatement);
+        }
+
+        /**
+         * 같은 statement의 최대 반복 횟수 (N+1 패턴이면 N)
+         */
+        public int maxRepeat() {
+            int max = 0;
+            for (int count : byStatement.values()) {
+                max = Math.max(max, count);
+            }
+            return max;
+        }
+
+        /**
+         * 2회 이상 반복된 statement 요약 (예: "ProductMapper.findById x5, ProductMapper.updateStock x5")
+         */
+        public String repeatedSummary() {
+            StringBuilder summary = new StringBuilder();
+            byStatement.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 1)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> {
+                        if (summary.length() > 0) {
+                            summary.append(", ");
+                        }
+                        summary.append(shortName(entry.getKey())).append(" x").append(entry.getValue());
+                    });
+            return summary.toString();
+        }
+
+        private static String shortName(String statementId) {
+            int method = statementId.lastIndexOf('.');
+            int type = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+            return statementId.substring(type + 1);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package example.mybatis;
+
+import example.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mapped Statement 하나의 실행 메트릭
+ *
+ * - 지연 시간 히스토그램 (나노초)
+ * - 조회 행 수(SELECT 결과 List 크기), 변경 행 수(INSERT/UPDATE/DELETE 반환값)
+ * - 오류 수 (예외가 발생한 실행, 지연 시간에는 포함)
+ */
+public class StatementMetrics {
+
+    private final String statementId;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rowsReturned = new LongAdder();
+    private final LongAdder rowsAffected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public StatementMetrics(String statementId) {
+        this.statementId = statementId;
+    }
+
+    void recordQuery(long latencyNanos, int rows) {
+        latency.record(latencyNanos);
+        rowsReturned.add(rows);
+    }
+
+    void recordUpdate(long latencyNanos, int rows) {
+        latency.record(latencyNanos);
+        // BATCH Executor는 실제 변경 행 수 대신 음수 상수를 반환하므로 제외
+        if (rows > 0) {
+            rowsAffected.add(rows);
+        }
+    }
+
+    void recordError(long latencyNanos) {
+        latency.record(latencyNanos);
+        errors.increment();
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public long rowsReturned() {
+        return rowsReturned.sum();
+    }
+
+    public long rowsAffected() {
+        return rowsAffected.sum();
+    }
+
+    public long errorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * 통계 (관리자 메트릭 API용)
+     */
+    public Map<String, Object> stats() {
+        LatencyHistogram.Snapshot snapshot = latency.snapshot();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statement", statementId);
+        stats.put("count", snapshot.count());
+        stats.put("errors", errorCount());
+        stats.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(latency.sum()));
+        stats.put("meanMicros", TimeUnit.NANOSECONDS.toMicros(snapshot.mean()));
+        stats.put("p50Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p50()));
+        stats.put("p90Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p90()));
+        stats.put("p99Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p99()));
+        stats.put("p999Micros", TimeUnit.NANOSECONDS.toMicros(snapshot.p999()));
+        stats.put("maxMicros", TimeUnit.NANOSECONDS.toMicros(snapshot.max()));
+        stats.put("rowsReturned", rowsReturned());
+        stats.put("rowsAffected", rowsAffected());
+        stats.put("rowsPerCall", snapshot.count() == 0 ? 0.0 : (double) (rowsReturned() + rowsAffected()) / snapshot.count());
+        return stats;
+    }
+}
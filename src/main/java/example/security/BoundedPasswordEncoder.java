@@ -0,0 +1,72 @@
+package example.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 해시 계산 수를 제한하는 PasswordEncoder (BCrypt 등 CPU 바운드 인코더 감싸기)
+ *
+ * - 가상 스레드 스케줄러는 시분할을 하지 않으므로 로그인이 몰려 모든 캐리어 스레드가 BCrypt를 계산하면
+ *   조회처럼 가벼운 요청도 캐리어가 빌 때까지 기다림 (플랫폼 스레드에서도 코어 수보다 많은 동시 계산은 처리량을 늘리지 않음)
+ * - 허가를 기다리는 동안 가상 스레드는 캐리어를 놓고 대기 (Semaphore는 synchronized를 쓰지 않으므로 pinning 없음)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+
+    /**
+     * @param maxConcurrent 동시에 계산할 수 있는 최대 해시 수 (보통 코어 수보다 작게)
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * 동시에 계산할 수 있는 최대 해시 수 (security.password.max-concurrent-hashes)
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        acquire();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash a password", e);
+        }
+    }
+}
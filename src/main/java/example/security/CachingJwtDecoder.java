@@ -0,0 +1,163 @@
+package example.security;
+
+import example.metrics.LatencyHistogram;
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+import example.util.ExpiringCache;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 Jwt를 캐시하는 JwtDecoder 데코레이터
+ *
+ * - 클라이언트는 같은 토큰을 몇 시간씩 재사용하므로 RSA 서명 검증을 토큰당 한 번만 수행
+ * - 키는 토큰 문자열의 SHA-256 digest (토큰 원문은 보관하지 않음)
+ * - 항목 수(maxEntries)와 토큰 자체의 exp로 제한
+ * - 캐시 적중 시에도 validator(exp, 폐기 여부)는 매번 다시 실행하므로
+ *   로그아웃/회원탈퇴로 폐기된 토큰과 만료된 토큰은 즉시 거부됨
+ */
+public class CachingJwtDecoder implements JwtDecoder, MetricsSource {
+
+    private static final MessageDigest SHA_256_PROTOTYPE = sha256();
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> validator;
+    private final ExpiringCache<TokenDigest, Jwt> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LatencyHistogram verifyLatency = new LatencyHistogram();
+
+    /**
+     * @param delegate   서명 검증 및 전체 검증을 수행하는 디코더
+     * @param validator  캐시 적중 시 다시 실행할 검증기 (delegate와 동일한 검증기 권장)
+     * @param maxEntries 최대 캐시 항목 수
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> validator, int maxEntries) {
+        this.delegate = delegate;
+        this.validator = validator;
+        this.cache = new ExpiringCache<>(maxEntries);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        TokenDigest key = TokenDigest.of(token);
+
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            OAuth2TokenValidatorResult result = validator.validate(cached);
+            if (result.hasErrors()) {
+                cache.invalidate(key);
+                throw new JwtValidationException(errorMessage(result), result.getErrors());
+            }
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        Jwt jwt = delegate.decode(token);
+        verifyLatency.recordSince(start);
+
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt, jwt.getExpiresAt().toEpochMilli());
+        }
+        return jwt;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 서명 검증(캐시 미스) 지연 시간 히스토그램 (나노초)
+     */
+    public LatencyHistogram verifyLatency() {
+        return verifyLatency;
+    }
+
+    /**
+     * 캐시 통계 (관리자 메트릭 API용)
+     */
+    public Map<String, Object> stats() {
+        long hitCount = hitCount();
+        long total = hitCount + missCount();
+        LatencyHistogram.Snapshot latency = verifyLatency.snapshot();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("size", cache.size());
+        stats.put("maxEntries", cache.maxEntries());
+        stats.put("evictions", cache.evictionCount());
+        stats.put("verifyCount", latency.count());
+        stats.put("verifyMeanMicros", TimeUnit.NANOSECONDS.toMicros(latency.mean()));
+        stats.put("verifyP99Micros", TimeUnit.NANOSECONDS.toMicros(latency.p99()));
+        stats.put("verifyMaxMicros", TimeUnit.NANOSECONDS.toMicros(latency.max()));
+        return stats;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.help("jwt_cache_hits_total", "counter", "Decoded JWTs served from the verified token cache")
+                .sample("jwt_cache_hits_total", "", hitCount());
+        writer.help("jwt_cache_misses_total", "counter", "Decoded JWTs that required signature verification")
+                .sample("jwt_cache_misses_total", "", missCount());
+        writer.help("jwt_cache_evictions_total", "counter", "Entries evicted from the verified token cache")
+                .sample("jwt_cache_evictions_total", "", cache.evictionCount());
+        writer.help("jwt_cache_size", "gauge", "Entries in the verified token cache")
+                .sample("jwt_cache_size", "", cache.size());
+        writer.help("jwt_verify_seconds", "histogram", "JWT signature verification time on cache misses")
+                .histogram("jwt_verify_seconds", "", verifyLatency, PrometheusWriter.NANOS, PrometheusWriter.LATENCY_BOUNDS);
+    }
+
+    private static String errorMessage(OAuth2TokenValidatorResult result) {
+        OAuth2Error error = result.getErrors().iterator().next();
+        return "An error occurred while attempting to decode the Jwt: " + error.getDescription();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 토큰 SHA-256 digest (256bit를 long 4개로 보관)
+     * UTF-8로 인코딩 (US_ASCII는 비ASCII 문자를 모두 ?로 바꾸므로 서로 다른 입력이 같은 키가 될 수 있음)
+     */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            MessageDigest digest;
+            try {
+                digest = (MessageDigest) SHA_256_PROTOTYPE.clone();
+            } catch (CloneNotSupportedException e) {
+                digest = sha256();
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(bytes.getLong(), bytes.getLong(), bytes.getLong(), bytes.getLong());
+        }
+    }
+}
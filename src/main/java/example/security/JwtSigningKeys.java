@@ -0,0 +1,210 @@
+package example.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 모음 (kid 기반)
+ *
+ * - 등록된 모든 공개키로 검증하므로 서명 알고리즘을 바꿔도 이전에 발급된 토큰은 만료 전까지 유효
+ *   (kid가 없는 기존 RSA 토큰은 헤더의 alg로 RS256 키가 선택됨)
+ * - 서명은 활성 알고리즘(jwt.signing.algorithm)의 키 하나로만 수행
+ */
+public class JwtSigningKeys {
+
+    private final Map<SigningAlgorithm, KeyPairEntry> keys;
+    private final SigningAlgorithm activeAlgorithm;
+    private final JwsHeader activeHeader;
+
+    private JwtSigningKeys(Map<SigningAlgorithm, KeyPairEntry> keys, SigningAlgorithm activeAlgorithm) {
+        if (!keys.containsKey(activeAlgorithm)) {
+            throw new IllegalStateException("No signing key registered for " + activeAlgorithm.getName());
+        }
+        this.keys = keys;
+        this.activeAlgorithm = activeAlgorithm;
+        this.activeHeader = JwsHeader.with(activeAlgorithm).keyId(activeAlgorithm.getKeyId()).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 현재 서명 알고리즘
+     */
+    public SigningAlgorithm getActiveAlgorithm() {
+        return activeAlgorithm;
+    }
+
+    /**
+     * 서명 시 사용할 JWS 헤더 (alg + kid, 불변 객체이므로 재사용)
+     */
+    public JwsHeader getActiveHeader() {
+        return activeHeader;
+    }
+
+    /**
+     * 등록된 모든 개인키로 서명할 수 있는 인코더 (JwsHeader의 kid로 키 선택)
+     */
+    public JwtEncoder createEncoder() {
+        Map<String, JWSSigner> signers = new HashMap<>();
+        keys.forEach((algorithm, entry) -> signers.put(algorithm.getKeyId(), createSigner(algorithm, entry.privateKey())));
+        return new KeyIdJwtEncoder(signers, activeHeader);
+    }
+
+    /**
+     * 등록된 모든 공개키로 검증하는 디코더
+     * 클레임 검증은 Spring의 OAuth2TokenValidator로 수행하므로 Nimbus 클레임 검증은 비활성화
+     */
+    public NimbusJwtDecoder createDecoder() {
+        Map<String, PublicKey> keysById = new HashMap<>();
+        Map<JWSAlgorithm, PublicKey> keysByAlgorithm = new HashMap<>();
+        keys.forEach((algorithm, entry) -> {
+            keysById.put(algorithm.getKeyId(), entry.publicKey());
+            keysByAlgorithm.put(JWSAlgorithm.parse(algorithm.getName()), entry.publicKey());
+        });
+
+        // kid가 있으면 kid로, 없으면(기존 토큰) alg로 키 선택. kid와 alg가 맞지 않으면 키 없음
+        JWSKeySelector<SecurityContext> keySelector = (header, context) -> {
+            PublicKey byAlgorithm = keysByAlgorithm.get(header.getAlgorithm());
+            if (header.getKeyID() == null) {
+                return byAlgorithm == null ? List.of() : List.of(byAlgorithm);
+            }
+            PublicKey byId = keysById.get(header.getKeyID());
+            return byId != null && byId == byAlgorithm ? List.of(byId) : List.of();
+        };
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(keySelector);
+        processor.setJWSVerifierFactory(new DefaultJWSVerifierFactory() {
+            @Override
+            public JWSVerifier createJWSVerifier(JWSHeader header, Key key) throws JOSEException {
+                if (JWSAlgorithm.EdDSA.equals(header.getAlgorithm()) && key instanceof PublicKey publicKey) {
+                    return new Ed25519JwsVerifier(publicKey);
+                }
+                return super.createJWSVerifier(header, key);
+            }
+        });
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(processor);
+    }
+
+    private static JWSSigner createSigner(SigningAlgorithm algorithm, PrivateKey privateKey) {
+        try {
+            return switch (algorithm) {
+                case RS256 -> new RSASSASigner(privateKey);
+                case ES256 -> new ECDSASigner((ECPrivateKey) privateKey);
+                case EdDSA -> new Ed25519JwsSigner(privateKey);
+            };
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot create signer for " + algorithm.getName(), e);
+        }
+    }
+
+    /**
+     * PEM(PKCS#8) 개인키 읽기
+     *
+     * @param algorithm KeyFactory 알고리즘 (RSA, EC, Ed25519)
+     */
+    public static PrivateKey readPrivateKey(Resource resource, String algorithm) throws IOException {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " private key: " + resource, e);
+        }
+    }
+
+    /**
+     * PEM(X.509) 공개키 읽기
+     *
+     * @param algorithm KeyFactory 알고리즘 (RSA, EC, Ed25519)
+     */
+    public static PublicKey readPublicKey(Resource resource, String algorithm) throws IOException {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " public key: " + resource, e);
+        }
+    }
+
+    private static byte[] readPem(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+            String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        }
+    }
+
+    private record KeyPairEntry(PublicKey publicKey, PrivateKey privateKey) {
+    }
+
+    /**
+     * JwtSigningKeys 빌더
+     */
+    public static class Builder {
+
+        private final Map<SigningAlgorithm, KeyPairEntry> keys = new EnumMap<>(SigningAlgorithm.class);
+        private SigningAlgorithm activeAlgorithm = SigningAlgorithm.RS256;
+
+        public Builder rsa(RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+            keys.put(SigningAlgorithm.RS256, new KeyPairEntry(publicKey, privateKey));
+            return this;
+        }
+
+        public Builder ec(ECPublicKey publicKey, ECPrivateKey privateKey) {
+            keys.put(SigningAlgorithm.ES256, new KeyPairEntry(publicKey, privateKey));
+            return this;
+        }
+
+        public Builder ed25519(PublicKey publicKey, PrivateKey privateKey) {
+            keys.put(SigningAlgorithm.EdDSA, new KeyPairEntry(publicKey, privateKey));
+            return this;
+        }
+
+        /**
+         * 서명에 사용할 알고리즘 (해당 키가 등록되어 있어야 함)
+         */
+        public Builder active(SigningAlgorithm algorithm) {
+            this.activeAlgorithm = algorithm;
+            return this;
+        }
+
+        public JwtSigningKeys build() {
+            return new JwtSigningKeys(new EnumMap<>(keys), activeAlgorithm);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package example.security;
 
+import example.domain.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -7,8 +9,9 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -17,46 +20,100 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
 
+    /**
+     * 토큰 유효 기간
+     */
+    public static final Duration TOKEN_TTL = Duration.ofHours(24);
+
+    /**
+     * 사용자 ID 클레임
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * 이메일 클레임
+     */
+    public static final String CLAIM_EMAIL = "email";
+
+    /**
+     * 사용자 전체 이름 클레임
+     */
+    public static final String CLAIM_FULL_NAME = "name";
+
     private final JwtEncoder encoder;
 
-    public JwtTokenProvider(JwtEncoder encoder) {
+    /**
+     * 서명 알고리즘/키 (JwsHeader의 alg, kid 결정)
+     */
+    private final JwtSigningKeys signingKeys;
+
+    /**
+     * 사용자 ID와 프로필 필드를 토큰에 포함할지 여부 (jwt.claims.embed-user)
+     */
+    private final boolean embedUserClaims;
+
+    public JwtTokenProvider(JwtEncoder encoder,
+                            JwtSigningKeys signingKeys,
+                            @Value("${jwt.claims.embed-user:false}") boolean embedUserClaims) {
         this.encoder = encoder;
+        this.signingKeys = signingKeys;
+        this.embedUserClaims = embedUserClaims;
     }
 
     /**
      * Authentication 객체로부터 JWT 토큰 생성
      */
     public String generateToken(Authentication authentication) {
-        Instant now = Instant.now();
         String scope = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(" "));
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("self")
-                .issuedAt(now)
-                .expiresAt(now.plus(24, ChronoUnit.HOURS))
-                .subject(authentication.getName())
-                .claim("scope", scope)
-                .build();
-
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return encode(baseClaims(authentication.getName(), scope).build());
     }
 
     /**
      * 사용자명과 역할로 JWT 토큰 생성
      */
     public String generateToken(String username, String role) {
+        return encode(baseClaims(username, role).build());
+    }
+
+    /**
+     * 사용자 정보로 JWT 토큰 생성
+     * jwt.claims.embed-user가 켜져 있으면 사용자 ID, 이메일, 이름을 클레임으로 포함하여
+     * 이후 요청에서 DB 조회 없이 호출자를 식별할 수 있음 (JwtUserAuthenticationConverter 참조)
+     */
+    public String generateToken(User user) {
+        String role = user.getRole() != null ? user.getRole() : "ROLE_USER";
+        JwtClaimsSet.Builder claims = baseClaims(user.getUsername(), role);
+
+        if (embedUserClaims) {
+            claims.claim(CLAIM_USER_ID, user.getId());
+            if (user.getEmail() != null) {
+                claims.claim(CLAIM_EMAIL, user.getEmail());
+            }
+            if (user.getFullName() != null) {
+                claims.claim(CLAIM_FULL_NAME, user.getFullName());
+            }
+        }
+
+        return encode(claims.build());
+    }
+
+    private JwtClaimsSet.Builder baseClaims(String subject, String scope) {
         Instant now = Instant.now();
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        // jti: 로그아웃 시 토큰 단위 폐기에 사용 (TokenRevocationService)
+        return JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
                 .issuer("self")
                 .issuedAt(now)
-                .expiresAt(now.plus(24, ChronoUnit.HOURS))
-                .subject(username)
-                .claim("scope", role)
-                .build();
+                .expiresAt(now.plus(TOKEN_TTL))
+                .subject(subject)
+                .claim("scope", scope);
+    }
 
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    private String encode(JwtClaimsSet claims) {
+        return this.encoder.encode(JwtEncoderParameters.from(signingKeys.getActiveHeader(), claims)).getTokenValue();
     }
 }
@@ -0,0 +1,33 @@
+package example.security;
+
+import lombok.Value;
+
+/**
+ * JWT 클레임으로 구성한 인증 사용자 정보 (Principal)
+ * 토큰에 사용자 클레임이 없으면 username과 role만 채워짐
+ * GET /api/auth/me/claims의 응답 본문으로도 사용 (필드: id, username, email, fullName, role)
+ *
+ * 토큰 발급 시점의 정보이므로 계정 활성 상태(active)는 알 수 없음
+ * 발급 후 비활성화된 사용자도 토큰이 만료/폐기되기 전까지는 그대로 인증되므로 활성 여부 확인에 사용하면 안 됨
+ * (활성 여부가 필요하면 UserMapper로 조회)
+ */
+@Value
+public class JwtUser {
+
+    Long id;
+
+    String username;
+
+    String email;
+
+    String fullName;
+
+    String role;
+
+    /**
+     * 토큰에 사용자 ID 및 프로필 클레임이 포함되어 있는지 여부
+     */
+    public boolean hasProfileClaims() {
+        return id != null;
+    }
+}
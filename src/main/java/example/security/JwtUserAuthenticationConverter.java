@@ -0,0 +1,48 @@
+package example.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Jwt -> JwtUserAuthenticationToken 변환기
+ *
+ * 토큰의 uid, email, name 클레임으로 JwtUser Principal을 구성하므로
+ * 호출자 정보가 필요한 엔드포인트에서 DB 조회가 필요 없음
+ *
+ * 권한: scope 클레임의 각 값에 대해 두 가지를 부여
+ * - 기본 변환기와 같은 "SCOPE_" 접두사 권한 (SCOPE_ROLE_ADMIN, 기존 hasAuthority("SCOPE_...") 규칙 유지)
+ * - scope에 들어 있는 역할 그대로 (ROLE_ADMIN, hasRole("ADMIN") 사용 가능)
+ */
+@Component
+public class JwtUserAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final JwtGrantedAuthoritiesConverter scopeAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private final JwtGrantedAuthoritiesConverter roleAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+
+    public JwtUserAuthenticationConverter() {
+        this.roleAuthoritiesConverter.setAuthorityPrefix("");
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Collection<GrantedAuthority> authorities = new ArrayList<>(scopeAuthoritiesConverter.convert(jwt));
+        authorities.addAll(roleAuthoritiesConverter.convert(jwt));
+
+        Object uid = jwt.getClaim(JwtTokenProvider.CLAIM_USER_ID);
+        JwtUser user = new JwtUser(
+                uid instanceof Number number ? number.longValue() : null,
+                jwt.getSubject(),
+                jwt.getClaimAsString(JwtTokenProvider.CLAIM_EMAIL),
+                jwt.getClaimAsString(JwtTokenProvider.CLAIM_FULL_NAME),
+                jwt.getClaimAsString("scope"));
+
+        return new JwtUserAuthenticationToken(jwt, user, authorities);
+    }
+}
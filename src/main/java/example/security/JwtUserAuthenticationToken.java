@@ -0,0 +1,38 @@
+package example.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * JwtUser를 Principal로 갖는 JWT 인증 토큰
+ * getToken()으로 원본 Jwt에도 접근 가능
+ */
+public class JwtUserAuthenticationToken extends AbstractOAuth2TokenAuthenticationToken<Jwt> {
+
+    private final JwtUser user;
+
+    public JwtUserAuthenticationToken(Jwt jwt, JwtUser user, Collection<? extends GrantedAuthority> authorities) {
+        super(jwt, user, jwt, authorities);
+        this.user = user;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Map<String, Object> getTokenAttributes() {
+        return getToken().getClaims();
+    }
+
+    @Override
+    public JwtUser getPrincipal() {
+        return user;
+    }
+
+    @Override
+    public String getName() {
+        return user.getUsername();
+    }
+}
@@ -0,0 +1,83 @@
+package example.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * kid별로 미리 만들어 둔 JWSSigner로 서명하는 JwtEncoder
+ *
+ * NimbusJwtEncoder는 RSA/EC/HMAC 키만 선택할 수 있어 EdDSA로 서명할 수 없고,
+ * 호출마다 JWK 선택과 Signer 생성을 반복하므로 로그인 경로에 불필요한 비용이 생김
+ */
+public class KeyIdJwtEncoder implements JwtEncoder {
+
+    private final Map<String, JWSSigner> signers;
+    private final JwsHeader defaultHeader;
+
+    /**
+     * @param signers       kid -> JWSSigner
+     * @param defaultHeader JwsHeader 없이 호출된 경우 사용할 헤더
+     */
+    public KeyIdJwtEncoder(Map<String, JWSSigner> signers, JwsHeader defaultHeader) {
+        this.signers = Map.copyOf(signers);
+        this.defaultHeader = defaultHeader;
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        JwsHeader headers = parameters.getJwsHeader() != null ? parameters.getJwsHeader() : defaultHeader;
+        JwtClaimsSet claims = parameters.getClaims();
+
+        JWSSigner signer = headers.getKeyId() != null ? signers.get(headers.getKeyId()) : null;
+        if (signer == null) {
+            throw new JwtEncodingException("No signing key registered for kid: " + headers.getKeyId());
+        }
+
+        JWSHeader jwsHeader = new JWSHeader.Builder(JWSAlgorithm.parse(headers.getAlgorithm().getName()))
+                .keyID(headers.getKeyId())
+                .build();
+        SignedJWT signedJwt = new SignedJWT(jwsHeader, toClaimsSet(claims));
+        try {
+            signedJwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Failed to sign the JWT: " + e.getMessage(), e);
+        }
+
+        return Jwt.withTokenValue(signedJwt.serialize())
+                .headers((h) -> h.putAll(headers.getHeaders()))
+                .claims((c) -> c.putAll(claims.getClaims()))
+                .build();
+    }
+
+    /**
+     * Spring 클레임 -> Nimbus 클레임 (Instant는 Date, URL은 문자열로 변환)
+     */
+    private static JWTClaimsSet toClaimsSet(JwtClaimsSet claims) {
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> {
+            if (value instanceof Instant instant) {
+                builder.claim(name, Date.from(instant));
+            } else if (value instanceof URL url) {
+                builder.claim(name, url.toExternalForm());
+            } else {
+                builder.claim(name, value);
+            }
+        });
+        return builder.build();
+    }
+}
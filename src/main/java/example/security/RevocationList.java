@@ -0,0 +1,122 @@
+package example.security;
+
+import example.util.BloomFilter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 JWT 목록 (메모리)
+ *
+ * 1. 토큰 단위 폐기: jti -> 만료 시각
+ *    - Bloom Filter로 먼저 확인하여 대부분의 정상 토큰은 해시 몇 번으로 통과
+ *    - Bloom Filter가 "있을 수도 있음"이라고 하면 정확한 Map으로 재확인
+ * 2. 사용자 단위 폐기: subject -> 폐기 시각 (초 단위로 내림)
+ *    - 회원탈퇴 등으로 해당 시각 이전에 발급된 모든 토큰을 무효화
+ *    - JWT의 iat는 초 단위이므로 폐기 시각도 초 단위로 맞춰 비교하고,
+ *      폐기와 같은 초에 발급된 토큰은 폐기 전/후를 구분할 수 없으므로 폐기된 것으로 처리 (fail closed)
+ *
+ * 모든 확인은 O(1)이며 DB 조회가 없음
+ * 만료된 항목은 purgeExpired()로 정리 (토큰이 만료되면 폐기 정보도 필요 없음)
+ */
+public class RevocationList {
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedSubjects = new ConcurrentHashMap<>();
+    private final Map<String, Instant> subjectExpirations = new ConcurrentHashMap<>();
+
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    public RevocationList(long expectedTokens, double falsePositiveRate) {
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    /**
+     * 토큰(jti) 폐기
+     *
+     * @param expiresAt 토큰 만료 시각 (이후에는 폐기 정보를 유지할 필요 없음)
+     */
+    public void revokeToken(String jti, Instant expiresAt) {
+        // Map에 먼저 넣어야 purgeExpired()의 Bloom Filter 재구성 시 누락되지 않음
+        revokedTokens.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * 사용자(subject)의 revokedAt 이전 발급 토큰 전체 폐기
+     * revokedAt과 같은 초에 발급된 토큰도 폐기됨 (iat 정밀도가 초 단위이므로 보수적으로 처리)
+     *
+     * @param expiresAt 폐기 정보를 유지할 시각 (revokedAt + 토큰 최대 유효 기간)
+     */
+    public void revokeSubject(String subject, Instant revokedAt, Instant expiresAt) {
+        Instant cutoff = revokedAt.truncatedTo(ChronoUnit.SECONDS);
+        revokedSubjects.merge(subject, cutoff, (previous, current) -> current.isAfter(previous) ? current : previous);
+        subjectExpirations.merge(subject, expiresAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param jti      토큰 ID (없으면 토큰 단위 확인 생략)
+     * @param subject  토큰 subject
+     * @param issuedAt 토큰 발급 시각
+     */
+    public boolean isRevoked(String jti, String subject, Instant issuedAt) {
+        if (jti != null && bloomFilter.mightContain(jti) && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+
+        if (subject != null && !revokedSubjects.isEmpty()) {
+            Instant cutoff = revokedSubjects.get(subject);
+            return cutoff != null && (issuedAt == null || !issuedAt.isAfter(cutoff));
+        }
+        return false;
+    }
+
+    /**
+     * 만료된 항목 정리 후 Bloom Filter 재구성
+     *
+     * @return 정리된 항목 수
+     */
+    public int purgeExpired(Instant now) {
+        int before = revokedTokens.size() + revokedSubjects.size();
+
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        subjectExpirations.entrySet().removeIf(entry -> {
+            if (entry.getValue().isAfter(now)) {
+                return false;
+            }
+            revokedSubjects.remove(entry.getKey());
+            return true;
+        });
+
+        // 새 필터를 채운 뒤 교체하고, 교체 전에 추가된 항목을 한 번 더 반영
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revokedTokens.size() * 2L), falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        revokedTokens.keySet().forEach(rebuilt::put);
+
+        return before - (revokedTokens.size() + revokedSubjects.size());
+    }
+
+    /**
+     * 폐기된 토큰 수
+     */
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    /**
+     * 폐기된 사용자 수
+     */
+    public int revokedSubjectCount() {
+        return revokedSubjects.size();
+    }
+}
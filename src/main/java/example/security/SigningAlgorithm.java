@@ -0,0 +1,39 @@
+package example.security;
+
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+
+/**
+ * JWT 서명 알고리즘 (jwt.signing.algorithm)
+ *
+ * - RS256: RSA-2048 (기존 app.key/app.pub), 서명이 느리고 토큰이 큼
+ * - ES256: ECDSA P-256, 서명이 빠르고 서명 길이 64바이트
+ * - EdDSA: Ed25519, 서명/검증 모두 빠르고 서명 길이 64바이트
+ *
+ * Spring Security의 SignatureAlgorithm에는 EdDSA가 없으므로 JwsAlgorithm을 직접 구현
+ */
+public enum SigningAlgorithm implements JwsAlgorithm {
+
+    RS256("RS256", "rsa-1"),
+    ES256("ES256", "ec-1"),
+    EdDSA("EdDSA", "ed25519-1");
+
+    private final String name;
+    private final String keyId;
+
+    SigningAlgorithm(String name, String keyId) {
+        this.name = name;
+        this.keyId = keyId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 이 알고리즘으로 서명할 때 사용하는 JWK의 kid
+     */
+    public String getKeyId() {
+        return keyId;
+    }
+}
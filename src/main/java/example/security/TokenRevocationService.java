@@ -0,0 +1,110 @@
+package example.security;
+
+import example.domain.TokenRevocation;
+import example.mapper.TokenRevocationMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JWT 폐기 서비스
+ *
+ * - 폐기 확인은 메모리의 RevocationList만 사용 (요청마다 DB 조회 없음)
+ * - 폐기 정보는 token_revocations 테이블에도 저장하여 재시작 시 다시 적재
+ * - 만료된 폐기 정보는 주기적으로 메모리와 테이블에서 정리
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationMapper tokenRevocationMapper;
+    private final RevocationList revocationList;
+
+    public TokenRevocationService(TokenRevocationMapper tokenRevocationMapper,
+                                  @Value("${jwt.revocation.expected-tokens:100000}") long expectedTokens,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.tokenRevocationMapper = tokenRevocationMapper;
+        this.revocationList = new RevocationList(expectedTokens, falsePositiveRate);
+    }
+
+    /**
+     * 저장된 폐기 정보를 메모리로 적재
+     */
+    @PostConstruct
+    public void load() {
+        List<TokenRevocation> revocations = tokenRevocationMapper.findActive(Instant.now());
+        for (TokenRevocation revocation : revocations) {
+            if (TokenRevocation.TYPE_TOKEN.equals(revocation.getType())) {
+                revocationList.revokeToken(revocation.getRevocationKey(), revocation.getExpiresAt());
+            } else {
+                revocationList.revokeSubject(revocation.getRevocationKey(),
+                        revocation.getRevokedAt(), revocation.getExpiresAt());
+            }
+        }
+        log.info("Loaded {} token revocations", revocations.size());
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃)
+     */
+    public void revoke(Jwt jwt) {
+        if (jwt.getId() == null) {
+            log.warn("Token for {} has no jti and cannot be revoked individually", jwt.getSubject());
+            return;
+        }
+
+        Instant expiresAt = jwt.getExpiresAt() != null
+                ? jwt.getExpiresAt()
+                : Instant.now().plus(JwtTokenProvider.TOKEN_TTL);
+
+        revocationList.revokeToken(jwt.getId(), expiresAt);
+        tokenRevocationMapper.upsert(TokenRevocation.builder()
+                .revocationKey(jwt.getId())
+                .type(TokenRevocation.TYPE_TOKEN)
+                .revokedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build());
+        log.info("Revoked token {} of {}", jwt.getId(), jwt.getSubject());
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 모든 토큰 폐기 (회원탈퇴)
+     */
+    public void revokeAll(String subject) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(JwtTokenProvider.TOKEN_TTL);
+
+        revocationList.revokeSubject(subject, now, expiresAt);
+        tokenRevocationMapper.upsert(TokenRevocation.builder()
+                .revocationKey(subject)
+                .type(TokenRevocation.TYPE_SUBJECT)
+                .revokedAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        log.info("Revoked all tokens of {}", subject);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (O(1), DB 조회 없음)
+     */
+    public boolean isRevoked(Jwt jwt) {
+        return revocationList.isRevoked(jwt.getId(), jwt.getSubject(), jwt.getIssuedAt());
+    }
+
+    /**
+     * 만료된 폐기 정보 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int purged = revocationList.purgeExpired(now);
+        int deleted = tokenRevocationMapper.deleteExpired(now);
+        log.debug("Purged {} expired revocations from memory, {} from table", purged, deleted);
+    }
+}
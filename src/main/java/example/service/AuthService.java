@@ -6,6 +6,10 @@ import example.dto.LoginRequest;
 import example.dto.SignupRequest;
 import example.mapper.UserMapper;
 import example.security.JwtTokenProvider;
+import example.security.JwtUser;
+import example.security.JwtUserAuthenticationToken;
+import example.security.TokenRevocationService;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,6 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 인증 관련 비즈니스 로직 서비스
  */
@@ -25,29 +31,40 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserUniquenessFilter userUniquenessFilter;
 
     public AuthService(UserMapper userMapper,
                       PasswordEncoder passwordEncoder,
                       JwtTokenProvider jwtTokenProvider,
-                      AuthenticationManager authenticationManager) {
+                      AuthenticationManager authenticationManager,
+                      TokenRevocationService tokenRevocationService,
+                      UserUniquenessFilter userUniquenessFilter) {
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.authenticationManager = authenticationManager;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userUniquenessFilter = userUniquenessFilter;
     }
 
     /**
      * 회원가입
+     * 사용자명/이메일이 Bloom Filter에 없으면 중복 확인 쿼리 없이 INSERT (UNIQUE 제약이 최종 확인),
+     * 있을 수도 있으면 둘을 한 쿼리로 확인
      */
     public AuthResponse signup(SignupRequest request) {
-        // 사용자명 중복 확인
-        if (userMapper.existsByUsername(request.getUsername())) {
-            throw new RuntimeException("이미 사용 중인 사용자명입니다: " + request.getUsername());
-        }
-
-        // 이메일 중복 확인
-        if (userMapper.findByEmail(request.getEmail()).isPresent()) {
-            throw new RuntimeException("이미 사용 중인 이메일입니다: " + request.getEmail());
+        // 사용자명/이메일 중복 확인
+        if (userUniquenessFilter.mightContainUsername(request.getUsername())
+                || userUniquenessFilter.mightContainEmail(request.getEmail())) {
+            List<User> existing = userMapper.findByUsernamesOrEmails(
+                    List.of(request.getUsername()), List.of(request.getEmail()));
+            if (existing.stream().anyMatch(user -> request.getUsername().equals(user.getUsername()))) {
+                throw new RuntimeException("이미 사용 중인 사용자명입니다: " + request.getUsername());
+            }
+            if (!existing.isEmpty()) {
+                throw new RuntimeException("이미 사용 중인 이메일입니다: " + request.getEmail());
+            }
         }
 
         // 새 사용자 생성
@@ -60,10 +77,16 @@ public class AuthService {
                 .role("ROLE_USER")
                 .build();
 
-        userMapper.insert(user);
+        userUniquenessFilter.add(user.getUsername(), user.getEmail());
+        try {
+            userMapper.insert(user);
+        } catch (DuplicateKeyException e) {
+            // 필터에 없던 값(다른 인스턴스에서 가입 등)이거나 확인 후 동시에 가입한 경우
+            throw new RuntimeException("이미 사용 중인 사용자명 또는 이메일입니다: " + request.getUsername());
+        }
 
         // JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken(user.getUsername(), user.getRole());
+        String token = jwtTokenProvider.generateToken(user);
 
         return AuthResponse.builder()
                 .token(token)
@@ -82,38 +105,72 @@ public class AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken(authentication);
-
         // 사용자 정보 조회
         User user = userMapper.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
+        // JWT 토큰 생성 (사용자 ID/프로필 클레임 포함 가능)
+        String token = jwtTokenProvider.generateToken(user);
+
         return AuthResponse.builder()
                 .token(token)
                 .user(user)
                 .build();
     }
 
+    /**
+     * 로그아웃
+     * JWT로 인증된 경우 현재 토큰을 폐기하여 만료 전이라도 더 이상 사용할 수 없도록 함
+     */
+    public void logout(Authentication authentication) {
+        if (authentication instanceof JwtUserAuthenticationToken jwtAuthentication) {
+            tokenRevocationService.revoke(jwtAuthentication.getToken());
+        }
+    }
+
     /**
      * 회원탈퇴
+     * 해당 사용자에게 발급된 모든 토큰도 함께 폐기
+     * 현재 토큰은 사용자 단위 폐기와 별개로 jti로도 폐기 (로그아웃과 동일)
      */
-    public void deleteAccount(String username) {
+    public void deleteAccount(Authentication authentication) {
+        String username = authentication.getName();
         User user = userMapper.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
         userMapper.delete(user.getId());
+        userUniquenessFilter.recordStale();
+        tokenRevocationService.revokeAll(username);
+        if (authentication instanceof JwtUserAuthenticationToken jwtAuthentication) {
+            tokenRevocationService.revoke(jwtAuthentication.getToken());
+        }
     }
 
     /**
-     * 현재 로그인한 사용자 정보 조회
+     * 현재 로그인한 사용자 정보 조회 (항상 DB 조회, active/생성일시 등 모든 필드와 최신 값)
      */
     @Transactional(readOnly = true)
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
 
         return userMapper.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
     }
+
+    /**
+     * 토큰 클레임 기준 현재 사용자 정보 (GET /api/auth/me/claims)
+     * 토큰에 사용자 클레임이 있으면 DB 조회 없이 응답하므로 값은 토큰 발급 시점 기준 (최대 토큰 유효 기간만큼 지연)
+     * 클레임이 없는 토큰이면 DB에서 조회해 같은 형태로 응답
+     */
+    @Transactional(readOnly = true)
+    public JwtUser getCurrentUserClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof JwtUser jwtUser && jwtUser.hasProfileClaims()) {
+            return jwtUser;
+        }
+
+        User user = userMapper.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        return new JwtUser(user.getId(), user.getUsername(), user.getEmail(), user.getFullName(), user.getRole());
+    }
 }
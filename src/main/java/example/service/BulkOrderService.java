@@ -0,0 +1,248 @@
+package example.service;
+
+import example.domain.Money;
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.domain.OrderStatus;
+import example.domain.Product;
+import example.dto.BulkOrderOutcome;
+import example.dto.BulkOrderResult;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.mybatis.BulkSqlSessions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 대량 주문 접수 (POST /api/orders/bulk)
+ *
+ * 주문마다 createOrder를 호출하면 주문 수만큼 트랜잭션, 상품 조회, 재고 UPDATE가 반복되므로
+ * 요청 전체를 한 트랜잭션에서 상품 단위로 모아서 처리
+ * 1. 주문별 형식 검증, 주문별/전체 상품 수요 집계 (같은 상품의 여러 항목은 합산)
+ * 2. 사용자 존재 확인 (한 번), 필요한 상품 전체를 ID 순서로 잠그고 조회 (SELECT ... FOR UPDATE 한 번)
+ * 3. 요청 순서대로 남은 재고에서 주문을 할당, 재고가 모자라거나 없는 상품/사용자의 주문은 거절
+ *    (주문 단위 전부 아니면 전무: 한 항목이라도 할당할 수 없으면 주문 전체를 거절)
+ * 4. 접수된 수요만큼 상품당 재고 UPDATE 한 번 (BATCH Executor로 executeBatch 한 번)
+ * 5. 주문과 주문 상세 항목을 다중 행 INSERT로 생성 (INSERT_ROWS_PER_STATEMENT행씩)
+ *
+ * 거절은 주문별 결과로 돌려주고 나머지 주문은 접수하며, DB 오류는 요청 전체를 롤백
+ * 잠금은 트랜잭션 끝까지 유지되므로 같은 상품의 단건 주문은 그동안 대기함 (요청당 주문 수는 order.bulk.max-orders로 제한)
+ */
+@Slf4j
+@Service
+public class BulkOrderService {
+
+    /**
+     * 다중 행 INSERT 한 번에 넣는 최대 행 수 (SQL 길이와 파라미터 수 제한)
+     */
+    static final int INSERT_ROWS_PER_STATEMENT = 500;
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final ProductMapper productMapper;
+    private final UserMapper userMapper;
+    private final BulkSqlSessions bulkSqlSessions;
+    private final int maxOrders;
+
+    public BulkOrderService(OrderMapper orderMapper,
+                            OrderItemMapper orderItemMapper,
+                            ProductMapper productMapper,
+                            UserMapper userMapper,
+                            BulkSqlSessions bulkSqlSessions,
+                            @Value("${order.bulk.max-orders:5000}") int maxOrders) {
+        this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.productMapper = productMapper;
+        this.userMapper = userMapper;
+        this.bulkSqlSessions = bulkSqlSessions;
+        this.maxOrders = maxOrders;
+    }
+
+    /**
+     * 주문 일괄 접수
+     *
+     * @throws IllegalArgumentException 주문 목록이 비었거나 order.bulk.max-orders를 넘는 경우
+     */
+    @Transactional
+    public BulkOrderResult ingestOrders(List<Order> orders) {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("At least one order is required");
+        }
+        if (orders.size() > maxOrders) {
+            throw new IllegalArgumentException("Too many orders in one request: " + orders.size() + " (max " + maxOrders + ")");
+        }
+        log.info("Ingesting {} orders", orders.size());
+
+        // 1. 형식 검증과 수요 집계
+        BulkOrderOutcome[] outcomes = new BulkOrderOutcome[orders.size()];
+        List<Map<Long, Integer>> demands = new ArrayList<>(orders.size());
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> productIds = new TreeSet<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            String error = validate(order);
+            if (error != null) {
+                outcomes[i] = BulkOrderOutcome.rejected(i, error);
+                demands.add(null);
+                continue;
+            }
+            Map<Long, Integer> demand = new LinkedHashMap<>();
+            for (OrderItem item : order.getOrderItems()) {
+                demand.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+            demands.add(demand);
+            userIds.add(order.getUserId());
+            productIds.addAll(demand.keySet());
+        }
+
+        // 2. 사용자 확인, 상품 잠금
+        Set<Long> existingUsers = userIds.isEmpty() ? Set.of() : new HashSet<>(userMapper.findExistingIds(userIds));
+        Map<Long, Product> products = new HashMap<>();
+        Map<Long, Integer> remaining = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            for (Product product : productMapper.findForUpdateByIds(productIds)) {
+                products.put(product.getId(), product);
+                remaining.put(product.getId(), product.getStockQuantity() != null ? product.getStockQuantity() : 0);
+            }
+        }
+
+        // 3. 요청 순서대로 할당
+        List<Order> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        Map<Long, Integer> decrements = new TreeMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            Order order = orders.get(i);
+            if (!existingUsers.contains(order.getUserId())) {
+                outcomes[i] = BulkOrderOutcome.rejected(i, "User not found: " + order.getUserId());
+                continue;
+            }
+            String shortage = allocate(demands.get(i), products, remaining);
+            if (shortage != null) {
+                outcomes[i] = BulkOrderOutcome.rejected(i, shortage);
+                continue;
+            }
+            demands.get(i).forEach((productId, quantity) -> decrements.merge(productId, quantity, Integer::sum));
+            price(order, products);
+            accepted.add(order);
+            acceptedIndexes.add(i);
+        }
+
+        if (!accepted.isEmpty()) {
+            // 4. 상품당 재고 UPDATE 한 번
+            ProductMapper batchProductMapper = bulkSqlSessions.batchMapper(ProductMapper.class);
+            decrements.forEach((productId, quantity) -> batchProductMapper.updateStock(productId, -quantity));
+            for (int count : BulkSqlSessions.updateCounts(bulkSqlSessions.flush())) {
+                if (count != 1) {
+                    // 잠근 상품이라 삭제될 수 없음
+                    throw new IllegalStateException("Stock update affected " + count + " rows");
+                }
+            }
+
+            // 5. 다중 행 INSERT
+            insertInChunks(accepted, orderMapper::insertBatch);
+            List<OrderItem> items = new ArrayList<>();
+            for (Order order : accepted) {
+                order.getOrderItems().forEach(item -> item.setOrderId(order.getId()));
+                items.addAll(order.getOrderItems());
+            }
+            insertInChunks(items, orderItemMapper::insertBatch);
+        }
+
+        for (int a = 0; a < accepted.size(); a++) {
+            Order order = accepted.get(a);
+            int index = acceptedIndexes.get(a);
+            outcomes[index] = BulkOrderOutcome.accepted(index, order.getId(), order.getTotalAmount());
+        }
+        int rejected = orders.size() - accepted.size();
+        log.info("Bulk ingestion finished: {} orders accepted, {} rejected, {} products updated",
+                accepted.size(), rejected, decrements.size());
+        return new BulkOrderResult(accepted.size(), rejected, List.of(outcomes));
+    }
+
+    /**
+     * 주문 형식 검증 (DB 조회 없이 확인할 수 있는 것)
+     *
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private static String validate(Order order) {
+        if (order == null) {
+            return "Order must not be null";
+        }
+        if (order.getUserId() == null) {
+            return "User id is required";
+        }
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return "Order must have at least one item";
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            if (item.getProductId() == null) {
+                return "Product id is required for every item";
+            }
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                return "Quantity must be positive for product " + item.getProductId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 주문 하나의 수요를 남은 재고에서 차감 (모두 가능할 때만)
+     *
+     * @return 거절 사유 (할당했으면 null)
+     */
+    private static String allocate(Map<Long, Integer> demand, Map<Long, Product> products, Map<Long, Integer> remaining) {
+        for (Map.Entry<Long, Integer> entry : demand.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                return "Product not found: " + entry.getKey();
+            }
+            int available = remaining.get(entry.getKey());
+            if (available < entry.getValue()) {
+                return String.format("Insufficient stock for product %s. Available: %d, Requested: %d",
+                        product.getName(), available, entry.getValue());
+            }
+        }
+        demand.forEach((productId, quantity) -> remaining.merge(productId, -quantity, Integer::sum));
+        return null;
+    }
+
+    /**
+     * 잠근 시점의 상품 가격으로 항목 소계와 주문 총액 계산 (createOrder와 같은 규칙)
+     */
+    private static void price(Order order, Map<Long, Product> products) {
+        long totalAmount = 0;
+        for (OrderItem item : order.getOrderItems()) {
+            Money price = products.get(item.getProductId()).getPrice();
+            Money subtotal = price.times(item.getQuantity());
+            item.setPrice(price);
+            item.setSubtotal(subtotal);
+            totalAmount = Math.addExact(totalAmount, subtotal.minorUnits());
+        }
+        order.setTotalAmount(Money.ofMinor(totalAmount));
+        order.setStatus(OrderStatus.PENDING);
+    }
+
+    private static <T> void insertInChunks(List<T> rows, Consumer<List<T>> insert) {
+        for (int from = 0; from < rows.size(); from += INSERT_ROWS_PER_STATEMENT) {
+            insert.accept(rows.subList(from, Math.min(rows.size(), from + INSERT_ROWS_PER_STATEMENT)));
+        }
+    }
+}
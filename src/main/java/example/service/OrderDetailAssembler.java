@@ -0,0 +1,337 @@
+package example.service;
+
+import example.config.VirtualThreadSupport;
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.domain.Product;
+import example.domain.User;
+import example.mapper.OrderItemMapper;
+import example.mapper.OrderMapper;
+import example.mapper.ProductMapper;
+import example.mapper.UserMapper;
+import example.mybatis.StatementCounter;
+import example.util.ExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상세 조립 (OrderService.getOrderDetail)
+ *
+ * OrderMapper.findById는 주문 × 주문 상세 항목 행마다 사용자/상품 컬럼을 반복해서 돌려주는 한 번의 조인이라
+ * 항목이 많은 주문일수록 결과 행과 매핑 비용이 커짐. 여기서는 서로 독립적인 두 갈래를 가상 스레드에서 동시에 조회
+ * 1. 주문 헤더(findHeaderById) → 사용자(findSummaryById)
+ * 2. 주문 상세 항목(findPlainByOrderId) → 상품(findSummariesByIds, 캐시에 없는 상품만 한 번에)
+ *
+ * 캐시 (ExpiringCache, order.detail.cache-ttl 동안 유지)
+ * - 주문 상세 항목: 주문 생성 트랜잭션에서 함께 쓰이고 이후 바뀌지 않음 (주문 삭제 시 커밋 후 evict)
+ * - 사용자/상품 표시 정보: 최대 TTL만큼 이전 값이 보일 수 있음 (주문 항목의 가격은 주문 당시 가격이라 영향 없음)
+ * - 주문 헤더는 상태가 바뀌므로 캐시하지 않음
+ * 두 번째 갈래가 캐시만으로 채워지면 스레드를 만들지 않고 호출 스레드에서 헤더만 조회
+ *
+ * 구조적 동시성: StructuredTaskScope는 Java 21에서도 preview이고 빌드 대상은 Java 17이므로
+ * Scope가 ShutdownOnFailure와 같은 규칙을 Future로 구현
+ * - 갈래 하나가 실패하거나 제한 시간(order.detail.timeout)이 지나면 나머지를 취소(인터럽트)하고 예외 전달
+ * - try-with-resources를 벗어날 때 끝나지 않은 갈래는 모두 취소됨 (취소된 갈래의 종료는 기다리지 않음)
+ *
+ * 참고
+ * - 각 갈래는 자기 스레드에서 readOnly 트랜잭션으로 실행되어 커넥션을 하나씩 사용 (요청당 최대 2개)
+ *   라우팅이 켜져 있으면 레플리카 풀을 사용하며, 두 갈래가 같은 스냅샷을 보지는 않음
+ *   (방금 생성된 주문은 항목 없이 보일 수 있으므로 빈 항목 목록은 캐시하지 않음)
+ * - 갈래에서 실행된 SQL도 StatementCounter.propagate()로 요청의 SQL 실행 횟수에 집계됨
+ * - order.detail.parallel=false면 기존 조인(findById)을 그대로 사용
+ */
+@Slf4j
+@Component
+public class OrderDetailAssembler implements AutoCloseable {
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final ProductMapper productMapper;
+    private final UserMapper userMapper;
+    private final TransactionTemplate readOnly;
+    private final boolean parallel;
+    private final Duration timeout;
+    private final long cacheTtlMillis;
+    private final ExpiringCache<Long, List<OrderItem>> itemCache;
+    private final ExpiringCache<Long, User> userCache;
+    private final ExpiringCache<Long, Product> productCache;
+    private final ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("order-detail");
+
+    public OrderDetailAssembler(OrderMapper orderMapper,
+                                OrderItemMapper orderItemMapper,
+                                ProductMapper productMapper,
+                                UserMapper userMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${order.detail.parallel:true}") boolean parallel,
+                                @Value("${order.detail.timeout:PT2S}") Duration timeout,
+                                @Value("${order.detail.cache-ttl:PT5S}") Duration cacheTtl,
+                                @Value("${order.detail.cache-max-entries:10000}") int cacheMaxEntries) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("order.detail.timeout must be positive: " + timeout);
+        }
+        this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.productMapper = productMapper;
+        this.userMapper = userMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.parallel = parallel;
+        this.timeout = timeout;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+        this.itemCache = new ExpiringCache<>(cacheMaxEntries);
+        this.userCache = new ExpiringCache<>(cacheMaxEntries);
+        this.productCache = new ExpiringCache<>(cacheMaxEntries);
+    }
+
+    /**
+     * 사용자 정보와 주문 상세 항목(상품 정보 포함)이 채워진 주문 (findById와 같은 형태)
+     *
+     * @throws OrderDetailTimeoutException 제한 시간 안에 조립하지 못한 경우
+     */
+    public Optional<Order> assemble(Long orderId) {
+        if (!parallel) {
+            return readOnly.execute(status -> orderMapper.findById(orderId));
+        }
+
+        List<OrderItem> cachedItems = itemCache.get(orderId);
+        Map<Long, Product> cachedProducts = cachedItems != null ? cachedProducts(cachedItems) : null;
+        if (cachedProducts != null) {
+            Optional<Order> header = readOnly.execute(status -> loadHeader(orderId));
+            return header.map(order -> combine(order, new Lines(cachedItems, cachedProducts)));
+        }
+
+        try (Scope scope = new Scope(orderId)) {
+            Supplier<Optional<Order>> header = scope.fork(() -> loadHeader(orderId));
+            Supplier<Lines> lines = scope.fork(() -> loadLines(orderId));
+            scope.join();
+            return header.get().map(order -> combine(order, lines.get()));
+        }
+    }
+
+    /**
+     * 주문 상세 항목 캐시 제거 (주문 삭제 시)
+     * 트랜잭션 안에서 호출하면 커밋 후에 제거 (커밋 전에 지우면 동시에 조회한 요청이
+     * 아직 남아 있는 항목을 다시 캐시에 넣어 TTL 동안 삭제된 주문의 항목이 보일 수 있음)
+     * 롤백되면 항목이 그대로 남으므로 제거하지 않음
+     */
+    public void evict(Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            itemCache.invalidate(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                itemCache.invalidate(orderId);
+            }
+        });
+    }
+
+    /**
+     * 전체 캐시 제거
+     */
+    public void clearCaches() {
+        itemCache.clear();
+        userCache.clear();
+        productCache.clear();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 갈래 1: 주문 헤더 + 사용자
+     */
+    private Optional<Order> loadHeader(Long orderId) {
+        Optional<Order> header = orderMapper.findHeaderById(orderId);
+        header.ifPresent(order -> order.setUser(user(order.getUserId())));
+        return header;
+    }
+
+    private User user(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        User user = userCache.get(userId);
+        if (user == null) {
+            user = userMapper.findSummaryById(userId).orElse(null);
+            if (user != null) {
+                userCache.put(userId, user, expiresAt());
+            }
+        }
+        return user;
+    }
+
+    /**
+     * 갈래 2: 주문 상세 항목 + 상품
+     */
+    private Lines loadLines(Long orderId) {
+        List<OrderItem> items = itemCache.get(orderId);
+        if (items == null) {
+            items = List.copyOf(orderItemMapper.findPlainByOrderId(orderId));
+            if (!items.isEmpty()) {
+                itemCache.put(orderId, items, expiresAt());
+            }
+        }
+
+        Map<Long, Product> products = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (OrderItem item : items) {
+            Product product = productCache.get(item.getProductId());
+            if (product != null) {
+                products.put(item.getProductId(), product);
+            } else {
+                missing.add(item.getProductId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            long expiresAt = expiresAt();
+            for (Product product : productMapper.findSummariesByIds(missing)) {
+                products.put(product.getId(), product);
+                productCache.put(product.getId(), product, expiresAt);
+            }
+        }
+        return new Lines(items, products);
+    }
+
+    /**
+     * 항목의 상품이 모두 캐시에 있으면 상품 맵, 하나라도 없으면 null
+     */
+    private Map<Long, Product> cachedProducts(List<OrderItem> items) {
+        Map<Long, Product> products = new HashMap<>();
+        for (OrderItem item : items) {
+            Product product = productCache.get(item.getProductId());
+            if (product == null) {
+                return null;
+            }
+            products.put(item.getProductId(), product);
+        }
+        return products;
+    }
+
+    /**
+     * 헤더에 항목을 붙임 (캐시된 항목은 공유되므로 복사본에 상품을 채움)
+     */
+    private static Order combine(Order order, Lines lines) {
+        List<OrderItem> items = new ArrayList<>(lines.items().size());
+        for (OrderItem item : lines.items()) {
+            items.add(OrderItem.builder()
+                    .id(item.getId())
+                    .orderId(item.getOrderId())
+                    .productId(item.getProductId())
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice())
+                    .subtotal(item.getSubtotal())
+                    .product(lines.products().get(item.getProductId()))
+                    .build());
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + cacheTtlMillis;
+    }
+
+    private record Lines(List<OrderItem> items, Map<Long, Product> products) {
+    }
+
+    /**
+     * 하나의 조립 요청에 속한 갈래들 (StructuredTaskScope.ShutdownOnFailure 대체)
+     */
+    private final class Scope implements AutoCloseable {
+
+        private final Long orderId;
+        private final long deadlineNanos;
+        private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        private final List<Future<Object>> forks = new ArrayList<>();
+
+        Scope(Long orderId) {
+            this.orderId = orderId;
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        }
+
+        /**
+         * 갈래 시작 (readOnly 트랜잭션 안에서 실행)
+         *
+         * @return join() 이후에 결과를 돌려주는 Supplier
+         */
+        @SuppressWarnings("unchecked")
+        <T> Supplier<T> fork(Supplier<T> task) {
+            Supplier<T> counted = StatementCounter.propagate(task);
+            Future<Object> future = completion.submit(() -> readOnly.execute(status -> counted.get()));
+            forks.add(future);
+            return () -> (T) result(future);
+        }
+
+        /**
+         * 모든 갈래가 끝날 때까지 대기 (먼저 실패한 갈래의 예외 또는 제한 시간 초과를 즉시 전달)
+         */
+        void join() {
+            try {
+                for (int i = 0; i < forks.size(); i++) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    Future<Object> done = remaining > 0
+                            ? completion.poll(remaining, TimeUnit.NANOSECONDS)
+                            : completion.poll();
+                    if (done == null) {
+                        log.warn("Order {} detail assembly timed out after {}ms", orderId, timeout.toMillis());
+                        throw new OrderDetailTimeoutException(orderId, timeout);
+                    }
+                    result(done);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while assembling order " + orderId, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Future<Object> fork : forks) {
+                fork.cancel(true);
+            }
+        }
+
+        private Object result(Future<Object> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while assembling order " + orderId, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Order " + orderId + " detail assembly failed", cause);
+            }
+        }
+    }
+}
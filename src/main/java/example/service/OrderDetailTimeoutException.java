@@ -0,0 +1,22 @@
+package example.service;
+
+import java.time.Duration;
+
+/**
+ * 주문 상세 조립이 제한 시간(order.detail.timeout) 안에 끝나지 않았을 때 발생
+ *
+ * 남은 조회 작업은 모두 취소된 상태 (컨트롤러에서 503으로 응답)
+ */
+public class OrderDetailTimeoutException extends RuntimeException {
+
+    private final Long orderId;
+
+    public OrderDetailTimeoutException(Long orderId, Duration timeout) {
+        super("Order " + orderId + " detail was not assembled within " + timeout.toMillis() + "ms");
+        this.orderId = orderId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+}
@@ -1,20 +1,27 @@
 package example.service;
 
+import example.domain.Money;
 import example.domain.Order;
 import example.domain.OrderItem;
+import example.domain.OrderStatus;
 import example.domain.Product;
 import example.dto.OrderSearchCriteria;
+import example.dto.OrderStatusTransitionResult;
 import example.mapper.OrderItemMapper;
 import example.mapper.OrderMapper;
 import example.mapper.ProductMapper;
-import lombok.RequiredArgsConstructor;
+import example.mybatis.BulkSqlSessions;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 주문 서비스
@@ -23,12 +30,28 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrderService {
 
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
     private final ProductMapper productMapper;
+    private final OrderDetailAssembler orderDetailAssembler;
+    private final BulkSqlSessions bulkSqlSessions;
+    private final int maxTransitionOrders;
+
+    public OrderService(OrderMapper orderMapper,
+                        OrderItemMapper orderItemMapper,
+                        ProductMapper productMapper,
+                        OrderDetailAssembler orderDetailAssembler,
+                        BulkSqlSessions bulkSqlSessions,
+                        @Value("${order.status.bulk-max-orders:10000}") int maxTransitionOrders) {
+        this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.productMapper = productMapper;
+        this.orderDetailAssembler = orderDetailAssembler;
+        this.bulkSqlSessions = bulkSqlSessions;
+        this.maxTransitionOrders = maxTransitionOrders;
+    }
 
     /**
      * 모든 주문 조회 (사용자 정보 포함)
@@ -50,6 +73,18 @@ public class OrderService {
         return orderMapper.findById(id);
     }
 
+    /**
+     * ID로 주문 상세 조회 (getOrderById와 같은 형태)
+     * 헤더/사용자와 주문 상세 항목/상품을 가상 스레드에서 동시에 조회 (OrderDetailAssembler)
+     * 갈래마다 별도 readOnly 트랜잭션을 사용하므로 이 메서드는 트랜잭션을 열지 않음
+     *
+     * @throws OrderDetailTimeoutException order.detail.timeout 안에 조립하지 못한 경우
+     */
+    public Optional<Order> getOrderDetail(Long id) {
+        log.debug("Assembling order detail: {}", id);
+        return orderDetailAssembler.assemble(id);
+    }
+
     /**
      * 사용자별 주문 조회
      */
@@ -71,10 +106,12 @@ public class OrderService {
             throw new IllegalArgumentException("Order must have at least one item");
         }
 
-        // 재고 확인 및 총액 계산
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        // 재고 확인 및 총액 계산 (항목마다 같은 SQL이므로 REUSE로 PreparedStatement 재사용)
+        // 총액은 최소 단위(long)로 누적하고 마지막에 한 번만 Money로 감쌈
+        ProductMapper stockReader = bulkSqlSessions.reuseMapper(ProductMapper.class);
+        long totalAmount = 0;
         for (OrderItem item : order.getOrderItems()) {
-            Optional<Product> product = productMapper.findById(item.getProductId());
+            Optional<Product> product = stockReader.findById(item.getProductId());
             if (product.isEmpty()) {
                 throw new IllegalArgumentException("Product not found: " + item.getProductId());
             }
@@ -90,16 +127,16 @@ public class OrderService {
             }
 
             // 소계 계산 (주문 당시 가격 사용)
-            BigDecimal price = product.get().getPrice();
-            BigDecimal subtotal = price.multiply(BigDecimal.valueOf(item.getQuantity()));
+            Money price = product.get().getPrice();
+            Money subtotal = price.times(item.getQuantity());
             item.setPrice(price);
             item.setSubtotal(subtotal);
 
-            totalAmount = totalAmount.add(subtotal);
+            totalAmount = Math.addExact(totalAmount, subtotal.minorUnits());
         }
 
-        order.setTotalAmount(totalAmount);
-        order.setStatus("PENDING");
+        order.setTotalAmount(Money.ofMinor(totalAmount));
+        order.setStatus(OrderStatus.PENDING);
 
         // 주문 생성
         orderMapper.insert(order);
@@ -111,9 +148,7 @@ public class OrderService {
         log.info("Order items created: {} items", order.getOrderItems().size());
 
         // 재고 감소
-        for (OrderItem item : order.getOrderItems()) {
-            productMapper.updateStock(item.getProductId(), -item.getQuantity());
-        }
+        decreaseStockInBatch(order.getOrderItems());
         log.info("Stock updated for all products");
 
         return order;
@@ -121,71 +156,109 @@ public class OrderService {
 
     /**
      * 주문 상태 업데이트
+     * 전이 가능 여부 확인과 변경이 UPDATE 한 번 (WHERE id = ? AND status IN (OrderStatus.sourcesOf(status)))
+     * CANCELLED는 재고 복구가 필요하므로 cancelOrder로 처리
+     *
+     * @throws IllegalArgumentException 주문이 없는 경우
+     * @throws IllegalStateException    현재 상태에서 status로 전이할 수 없는 경우
      */
     @Transactional
-    public void updateOrderStatus(Long orderId, String status) {
+    public void updateOrderStatus(Long orderId, OrderStatus status) {
         log.info("Updating order {} status to: {}", orderId, status);
 
-        Optional<Order> existing = orderMapper.findById(orderId);
-        if (existing.isEmpty()) {
-            throw new IllegalArgumentException("Order not found with id: " + orderId);
+        if (status == OrderStatus.CANCELLED) {
+            cancelOrder(orderId);
+            return;
         }
-
-        orderMapper.updateStatus(orderId, status);
+        transition(orderId, status);
         log.info("Order status updated successfully");
     }
 
+    /**
+     * 여러 주문의 상태를 UPDATE 한 번으로 전이 (예: 출고 처리 CONFIRMED -> SHIPPED)
+     * 현재 상태에서 전이할 수 없는 주문과 없는 ID는 건너뛰고 개수만 집계
+     * CANCELLED는 재고 복구가 필요하므로 cancelOrders로 처리
+     *
+     * @throws IllegalArgumentException 목록이 비었거나 order.status.bulk-max-orders를 넘는 경우
+     */
+    @Transactional
+    public OrderStatusTransitionResult transitionOrders(List<Long> orderIds, OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (status == OrderStatus.CANCELLED) {
+            return cancelOrders(orderIds);
+        }
+        Set<Long> ids = distinctIds(orderIds);
+
+        int updated = ids.isEmpty() ? 0 : orderMapper.updateStatusByIds(ids, status, OrderStatus.sourcesOf(status));
+        log.info("Transitioned {} of {} orders to {}", updated, ids.size(), status);
+        return transitionResult(status, ids.size(), updated);
+    }
+
     /**
      * 주문 취소
      * 복잡한 트랜잭션: 주문 상태 변경 + 재고 복구
+     * 상태 확인과 변경은 UPDATE 한 번이므로 동시에 취소해도 재고는 한 번만 복구됨
+     * 재고는 주문 상세 항목을 읽어 항목마다 UPDATE하지 않고 MERGE 한 번으로 복구
+     *
+     * @throws IllegalArgumentException 주문이 없는 경우
+     * @throws IllegalStateException    이미 취소되었거나 배송 완료된 경우
      */
     @Transactional
     public void cancelOrder(Long orderId) {
         log.info("Cancelling order: {}", orderId);
 
-        Optional<Order> order = orderMapper.findById(orderId);
-        if (order.isEmpty()) {
-            throw new IllegalArgumentException("Order not found with id: " + orderId);
-        }
-
-        if ("CANCELLED".equals(order.get().getStatus())) {
-            throw new IllegalStateException("Order is already cancelled");
-        }
-
-        if ("DELIVERED".equals(order.get().getStatus())) {
-            throw new IllegalStateException("Cannot cancel delivered order");
-        }
-
         // 주문 상태 변경
-        orderMapper.updateStatus(orderId, "CANCELLED");
+        transition(orderId, OrderStatus.CANCELLED);
 
         // 재고 복구
-        List<OrderItem> items = orderItemMapper.findByOrderId(orderId);
-        for (OrderItem item : items) {
-            productMapper.updateStock(item.getProductId(), item.getQuantity());
-        }
+        productMapper.restoreStockForOrders(List.of(orderId));
 
         log.info("Order cancelled and stock restored");
     }
 
+    /**
+     * 여러 주문 일괄 취소 (주문 수와 관계없이 statement 세 개)
+     * 1. 취소할 수 있는 상태의 주문을 ID 순서로 잠금 (이 트랜잭션이 커밋할 때까지 다른 상태 변경이 기다림)
+     * 2. 잠근 주문만 CANCELLED로 변경
+     * 3. 잠근 주문의 상품별 수량 합계만큼 재고 복구 (MERGE 한 번)
+     * 없는 주문과 이미 취소/배송 완료된 주문은 건너뛰고 개수만 집계
+     *
+     * @throws IllegalArgumentException 목록이 비었거나 order.status.bulk-max-orders를 넘는 경우
+     */
+    @Transactional
+    public OrderStatusTransitionResult cancelOrders(List<Long> orderIds) {
+        Set<Long> ids = distinctIds(orderIds);
+        Set<OrderStatus> sources = OrderStatus.sourcesOf(OrderStatus.CANCELLED);
+
+        List<Long> cancellable = ids.isEmpty() ? List.of() : orderMapper.findIdsForUpdate(ids, sources);
+        if (!cancellable.isEmpty()) {
+            orderMapper.updateStatusByIds(cancellable, OrderStatus.CANCELLED, sources);
+            int products = productMapper.restoreStockForOrders(cancellable);
+            log.info("Cancelled {} of {} orders, restored stock for {} products", cancellable.size(), ids.size(), products);
+        }
+        return transitionResult(OrderStatus.CANCELLED, ids.size(), cancellable.size());
+    }
+
     /**
      * 주문 삭제
      * 외래키 관계로 인해 주문 상세 항목을 먼저 삭제해야 함
+     * 존재 여부는 주문의 삭제된 행 수로 판단 (없으면 예외로 롤백되므로 항목 삭제도 취소)
      */
     @Transactional
     public void deleteOrder(Long orderId) {
         log.info("Deleting order: {}", orderId);
 
-        Optional<Order> existing = orderMapper.findById(orderId);
-        if (existing.isEmpty()) {
-            throw new IllegalArgumentException("Order not found with id: " + orderId);
-        }
-
         // 주문 상세 항목 먼저 삭제
         orderItemMapper.deleteByOrderId(orderId);
 
         // 주문 삭제
-        orderMapper.delete(orderId);
+        if (orderMapper.delete(orderId) == 0) {
+            throw new IllegalArgumentException("Order not found with id: " + orderId);
+        }
+        // 커밋 후 제거 (OrderDetailAssembler.evict)
+        orderDetailAssembler.evict(orderId);
 
         log.info("Order deleted successfully");
     }
@@ -208,4 +281,68 @@ public class OrderService {
         log.debug("Calculating total amount for user: {}", userId);
         return orderMapper.getTotalAmountByUserId(userId);
     }
+
+    /**
+     * 일괄 전이/취소 대상 ID (중복/null 제외, 요청 순서 유지)
+     */
+    private Set<Long> distinctIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one order id is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        ids.remove(null);
+        if (ids.size() > maxTransitionOrders) {
+            throw new IllegalArgumentException(
+                    "Too many orders: " + ids.size() + " (max " + maxTransitionOrders + ")");
+        }
+        return ids;
+    }
+
+    private static OrderStatusTransitionResult transitionResult(OrderStatus status, int requested, int updated) {
+        return OrderStatusTransitionResult.builder()
+                .status(status)
+                .requested(requested)
+                .updated(updated)
+                .skipped(requested - updated)
+                .build();
+    }
+
+    /**
+     * 전이 표에서 status로 올 수 있는 상태일 때만 변경
+     * 변경된 행이 없으면 상태만 다시 읽어 "없는 주문"과 "전이 불가"를 구분 (실패한 경우에만 조회)
+     */
+    private void transition(Long orderId, OrderStatus status) {
+        if (orderMapper.updateStatus(orderId, status, OrderStatus.sourcesOf(status)) == 1) {
+            return;
+        }
+        OrderStatus current = orderMapper.findStatusById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found with id: " + orderId));
+        throw new IllegalStateException(
+                String.format("Cannot change order %d status from %s to %s", orderId, current, status));
+    }
+
+    /**
+     * 항목별 재고 감소를 BATCH로 실행 (항목 수만큼의 UPDATE가 executeBatch 한 번)
+     * 변경 행 수가 1이 아닌 항목은 그 사이 삭제된 상품이므로 트랜잭션 전체를 롤백
+     * 주문 취소의 재고 복구는 ProductMapper.restoreStockForOrders (MERGE 한 번)
+     */
+    private void decreaseStockInBatch(List<OrderItem> items) {
+        ProductMapper stockWriter = bulkSqlSessions.batchMapper(ProductMapper.class);
+        for (OrderItem item : items) {
+            stockWriter.updateStock(item.getProductId(), -item.getQuantity());
+        }
+
+        int[] updateCounts;
+        try {
+            updateCounts = BulkSqlSessions.updateCounts(bulkSqlSessions.flush());
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 주문이 먼저 재고를 줄여 chk_stock 제약을 위반한 경우
+            throw new IllegalStateException("Insufficient stock for one of the ordered products", e);
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] != 1) {
+                throw new IllegalStateException("Product not found: " + items.get(i).getProductId());
+            }
+        }
+    }
 }
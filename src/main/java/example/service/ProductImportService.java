@@ -0,0 +1,533 @@
+package example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import example.domain.Money;
+import example.domain.Product;
+import example.dto.ProductImportError;
+import example.dto.ProductImportResult;
+import example.mapper.ProductMapper;
+import example.mybatis.BulkSqlSessions;
+import example.util.CsvReader;
+import example.util.LineReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 일괄 가져오기 (POST /api/products/import)
+ *
+ * 요청 본문을 한 행씩 읽어 검증하고, product.import.chunk-size 행마다 한 트랜잭션으로 반영
+ * - id가 없는 행은 등록(insert), id가 있는 행은 수정(update, 비어 있는 필드는 기존 값 유지)
+ *   청크마다 존재하는 id를 한 번에 조회하고, 없는 id의 행은 실패로 기록 (id는 IDENTITY라 지정해서 만들지 않음)
+ * - 쓰기는 BulkSqlSessions의 BATCH Mapper로 모아 청크마다 한 번에 flush
+ *   BATCH Executor는 SQL이 바뀔 때마다 새 JDBC 묶음을 시작하고, 수정은 값이 있는 컬럼만 SET하는 동적 SQL이므로
+ *   수정 행을 바뀌는 컬럼 조합별로 모아 실행 (청크당 executeBatch 수 = 컬럼 조합 수 + 등록 1)
+ * - 청크가 제약 조건 위반 등으로 롤백되면 그 청크만 행 단위 트랜잭션으로 다시 실행해 실패한 행을 찾음
+ * - 이미 커밋된 청크는 이후 오류와 관계없이 유지됨 (전체를 한 트랜잭션으로 묶지 않음)
+ *
+ * 메모리: 현재 청크와 최대 product.import.max-errors개의 실패 행만 유지하므로 입력 크기와 무관
+ * 진행 상황은 product.import.progress-interval마다 로그로 남김
+ *
+ * 형식
+ * - CSV (text/csv): 첫 줄은 헤더, 컬럼 id, name, description, price, stockQuantity(stock_quantity), category, status
+ *   빈 값은 null (수정 시 기존 값 유지)
+ * - NDJSON (application/x-ndjson): 한 줄에 Product JSON 객체 하나
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final Set<String> STATUSES = Set.of("AVAILABLE", "OUT_OF_STOCK", "DISCONTINUED");
+    private static final int MAX_NAME_LENGTH = 200;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final Money MAX_PRICE = Money.parse("99999999.99");
+    private static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private final ProductMapper productMapper;
+    private final BulkSqlSessions bulkSqlSessions;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long progressIntervalNanos;
+
+    public ProductImportService(ProductMapper productMapper,
+                                BulkSqlSessions bulkSqlSessions,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${product.import.chunk-size:500}") int chunkSize,
+                                @Value("${product.import.max-errors:1000}") int maxErrors,
+                                @Value("${product.import.progress-interval:PT5S}") Duration progressInterval) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("product.import.chunk-size must be positive: " + chunkSize);
+        }
+        this.productMapper = productMapper;
+        this.bulkSqlSessions = bulkSqlSessions;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxErrors = Math.max(0, maxErrors);
+        this.progressIntervalNanos = progressInterval.toNanos();
+    }
+
+    /**
+     * 입력 형식
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * @throws IllegalArgumentException 지원하지 않는 Content-Type
+         */
+        public static Format of(MediaType contentType) {
+            if (contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+                return CSV;
+            }
+            if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+    }
+
+    /**
+     * 입력을 끝까지 읽어 청크 단위로 반영
+     *
+     * @throws IllegalArgumentException CSV 헤더가 잘못된 경우 (아무것도 반영하지 않음)
+     * @throws IOException              입력을 읽지 못한 경우 (이전 청크는 커밋된 상태)
+     */
+    public ProductImportResult importProducts(InputStream input, Format format, Charset charset) throws IOException {
+        log.info("Importing products ({}, chunk size {})", format, chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, charset));
+        RowSource source = format == Format.CSV
+                ? new CsvRowSource(new CsvReader(reader, MAX_RECORD_CHARS))
+                : new NdjsonRowSource(new LineReader(reader, MAX_RECORD_CHARS));
+
+        Progress progress = new Progress();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        boolean complete = true;
+        while (true) {
+            Row row;
+            try {
+                row = source.next();
+            } catch (IllegalStateException e) {
+                // 닫히지 않은 따옴표 등 이후 레코드 경계를 알 수 없는 형식 오류: 읽은 행까지만 반영하고 중단
+                log.warn("Product import stopped: {}", e.getMessage());
+                progress.fail(source.line(), null, e.getMessage());
+                complete = false;
+                break;
+            }
+            if (row == null) {
+                break;
+            }
+            progress.rows++;
+            String error = row.error() != null ? row.error() : validate(row);
+            if (error != null) {
+                progress.fail(row.line(), row.id(), error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, progress);
+                chunk.clear();
+                logProgress(progress, false);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+        logProgress(progress, true);
+
+        return ProductImportResult.builder()
+                .rows(progress.rows)
+                .inserted(progress.inserted)
+                .updated(progress.updated)
+                .failed(progress.failed)
+                .chunks(progress.chunks)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - progress.startNanos))
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .complete(complete)
+                .build();
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 반영 (실패하면 행 단위로 다시 시도)
+     */
+    private void writeChunk(List<Row> chunk, Progress progress) {
+        progress.chunks++;
+        try {
+            Outcome[] outcomes = transactionTemplate.execute(status -> writeBatch(chunk));
+            for (int i = 0; i < chunk.size(); i++) {
+                progress.record(chunk.get(i), outcomes[i]);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Product import chunk starting at line {} rolled back, retrying row by row: {}",
+                    chunk.get(0).line(), e.getMostSpecificCause().getMessage());
+            for (Row row : chunk) {
+                try {
+                    progress.record(row, transactionTemplate.execute(status -> writeRow(row)));
+                } catch (DataAccessException rowError) {
+                    progress.fail(row.line(), row.id(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크의 수정/등록을 BATCH로 실행 (같은 SQL끼리 연속되어야 한 묶음으로 실행되므로
+     * 수정은 컬럼 조합별로 모아 먼저, 등록은 나중에)
+     *
+     * @return 청크의 행 순서대로 결과
+     */
+    private Outcome[] writeBatch(List<Row> chunk) {
+        List<Long> ids = chunk.stream().map(Row::id).filter(Objects::nonNull).toList();
+        Set<Long> existing = ids.isEmpty() ? Set.of() : new HashSet<>(productMapper.findExistingIds(ids));
+
+        Outcome[] outcomes = new Outcome[chunk.size()];
+        List<Integer> updates = new ArrayList<>();
+        List<Integer> inserts = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i).id();
+            if (id == null) {
+                inserts.add(i);
+            } else if (existing.contains(id)) {
+                updates.add(i);
+            } else {
+                outcomes[i] = Outcome.NOT_FOUND;
+            }
+        }
+
+        updates.sort(Comparator.comparingInt(i -> updatedColumns(chunk.get(i).product())));
+
+        ProductMapper batchProductMapper = bulkSqlSessions.batchMapper(ProductMapper.class);
+        for (int i : updates) {
+            batchProductMapper.update(chunk.get(i).product());
+        }
+        for (int i : inserts) {
+            batchProductMapper.insert(withInsertDefaults(chunk.get(i).product()));
+        }
+        int[] updateCounts = BulkSqlSessions.updateCounts(bulkSqlSessions.flush());
+
+        for (int u = 0; u < updates.size(); u++) {
+            // 존재 확인 이후 다른 트랜잭션이 삭제한 경우 0
+            outcomes[updates.get(u)] = updateCounts[u] == 0 ? Outcome.NOT_FOUND : Outcome.UPDATED;
+        }
+        for (int i : inserts) {
+            outcomes[i] = Outcome.INSERTED;
+        }
+        return outcomes;
+    }
+
+    /**
+     * 행 하나를 기본 Mapper로 반영 (청크가 롤백된 경우)
+     */
+    private Outcome writeRow(Row row) {
+        Product product = row.product();
+        if (row.id() == null) {
+            // 롤백된 BATCH가 키를 채웠을 수 있으므로 초기화
+            product.setId(null);
+            productMapper.insert(withInsertDefaults(product));
+            return Outcome.INSERTED;
+        }
+        return productMapper.update(product) == 0 ? Outcome.NOT_FOUND : Outcome.UPDATED;
+    }
+
+    /**
+     * ProductMapper.update가 SET하는 컬럼 조합 (ProductMapper.xml의 <if> 조건과 같음, 같은 값이면 같은 SQL)
+     */
+    private static int updatedColumns(Product product) {
+        int columns = 0;
+        if (product.getName() != null && !product.getName().isEmpty()) {
+            columns |= 1;
+        }
+        if (product.getDescription() != null) {
+            columns |= 1 << 1;
+        }
+        if (product.getPrice() != null) {
+            columns |= 1 << 2;
+        }
+        if (product.getStockQuantity() != null) {
+            columns |= 1 << 3;
+        }
+        if (product.getCategory() != null && !product.getCategory().isEmpty()) {
+            columns |= 1 << 4;
+        }
+        if (product.getStatus() != null && !product.getStatus().isEmpty()) {
+            columns |= 1 << 5;
+        }
+        return columns;
+    }
+
+    private static Product withInsertDefaults(Product product) {
+        if (product.getStockQuantity() == null) {
+            product.setStockQuantity(0);
+        }
+        if (product.getStatus() == null) {
+            product.setStatus("AVAILABLE");
+        }
+        return product;
+    }
+
+    /**
+     * 행 검증 (DB 제약 조건과 컬럼 크기 기준)
+     *
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private static String validate(Row row) {
+        Product product = row.product();
+        if (row.id() == null) {
+            if (product.getName() == null || product.getName().isBlank()) {
+                return "name is required for a new product";
+            }
+            if (product.getPrice() == null) {
+                return "price is required for a new product";
+            }
+        } else if (row.id() <= 0) {
+            return "id must be positive";
+        }
+        if (product.getName() != null && product.getName().length() > MAX_NAME_LENGTH) {
+            return "name must be at most " + MAX_NAME_LENGTH + " characters";
+        }
+        // 소수점 둘째 자리 아래는 파싱(Money)에서 거부
+        Money price = product.getPrice();
+        if (price != null) {
+            if (price.signum() < 0) {
+                return "price must not be negative";
+            }
+            if (price.compareTo(MAX_PRICE) > 0) {
+                return "price must be at most " + MAX_PRICE;
+            }
+        }
+        if (product.getStockQuantity() != null && product.getStockQuantity() < 0) {
+            return "stockQuantity must not be negative";
+        }
+        if (product.getCategory() != null && product.getCategory().length() > MAX_CATEGORY_LENGTH) {
+            return "category must be at most " + MAX_CATEGORY_LENGTH + " characters";
+        }
+        if (product.getStatus() != null && !STATUSES.contains(product.getStatus())) {
+            return "status must be one of " + STATUSES;
+        }
+        return null;
+    }
+
+    private void logProgress(Progress progress, boolean done) {
+        long now = System.nanoTime();
+        if (!done && now - progress.lastLogNanos < progressIntervalNanos) {
+            return;
+        }
+        progress.lastLogNanos = now;
+        double seconds = Math.max(1e-9, (now - progress.startNanos) / 1e9);
+        log.info("Product import {}: {} rows read, {} inserted, {} updated, {} failed, {} chunks ({} rows/s)",
+                done ? "finished" : "in progress", progress.rows, progress.inserted, progress.updated,
+                progress.failed, progress.chunks, Math.round(progress.rows / seconds));
+    }
+
+    private enum Outcome {
+        INSERTED, UPDATED, NOT_FOUND
+    }
+
+    /**
+     * 입력 행 (id는 읽은 시점의 값, error가 있으면 product는 null)
+     */
+    private record Row(long line, Long id, Product product, String error) {
+
+        static Row of(long line, Product product) {
+            return new Row(line, product.getId(), product, null);
+        }
+
+        static Row error(long line, String error) {
+            return new Row(line, null, null, error);
+        }
+    }
+
+    private interface RowSource {
+
+        /**
+         * 다음 행 (입력 끝이면 null)
+         *
+         * @throws IllegalStateException 이후 행을 구분할 수 없는 형식 오류
+         */
+        Row next() throws IOException;
+
+        /**
+         * 마지막으로 읽기 시작한 행의 줄 번호
+         */
+        long line();
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+
+        private final LineReader reader;
+
+        private NdjsonRowSource(LineReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            do {
+                text = reader.next();
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank() && !reader.isTooLong());
+
+            long line = reader.line();
+            if (reader.isTooLong()) {
+                return Row.error(line, "line exceeds " + MAX_RECORD_CHARS + " characters");
+            }
+            try {
+                Product product = objectMapper.readValue(text, Product.class);
+                return product == null ? Row.error(line, "expected a JSON object") : Row.of(line, product);
+            } catch (JsonProcessingException e) {
+                return Row.error(line, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public long line() {
+            return reader.line();
+        }
+    }
+
+    private static final class CsvRowSource implements RowSource {
+
+        private static final List<String> COLUMNS =
+                List.of("id", "name", "description", "price", "stockquantity", "category", "status");
+
+        private final CsvReader reader;
+        private String[] header;
+
+        private CsvRowSource(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = reader.next();
+                if (names == null) {
+                    return null;
+                }
+                header = readHeader(names);
+            }
+            List<String> fields = reader.next();
+            if (fields == null) {
+                return null;
+            }
+            long line = reader.recordLine();
+            if (fields.size() != header.length) {
+                return Row.error(line, "expected " + header.length + " columns but found " + fields.size());
+            }
+
+            Product product = new Product();
+            for (int i = 0; i < header.length; i++) {
+                String value = fields.get(i).isEmpty() ? null : fields.get(i);
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    switch (header[i]) {
+                        case "id" -> product.setId(Long.valueOf(value.trim()));
+                        case "name" -> product.setName(value);
+                        case "description" -> product.setDescription(value);
+                        case "price" -> product.setPrice(Money.parse(value.trim()));
+                        case "stockquantity" -> product.setStockQuantity(Integer.valueOf(value.trim()));
+                        case "category" -> product.setCategory(value);
+                        case "status" -> product.setStatus(value.trim());
+                        default -> throw new IllegalStateException("Unexpected column: " + header[i]);
+                    }
+                } catch (NumberFormatException e) {
+                    return Row.error(line, "invalid number in column " + header[i] + ": '" + value + "'");
+                } catch (ArithmeticException e) {
+                    return Row.error(line, header[i] + " must have at most " + Money.SCALE + " decimal places");
+                } catch (IllegalArgumentException e) {
+                    // NumberFormatException은 위에서 처리, 여기는 Money 범위 초과
+                    return Row.error(line, header[i] + " out of range: '" + value + "'");
+                }
+            }
+            return Row.of(line, product);
+        }
+
+        @Override
+        public long line() {
+            return reader.recordLine();
+        }
+
+        /**
+         * @throws IllegalArgumentException 알 수 없거나 중복된 컬럼, id와 name이 모두 없는 헤더
+         */
+        private static String[] readHeader(List<String> names) {
+            String[] columns = new String[names.size()];
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < columns.length; i++) {
+                String name = names.get(i).replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+                if (!COLUMNS.contains(name)) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + names.get(i) + " (expected " + COLUMNS + ")");
+                }
+                if (!seen.add(name)) {
+                    throw new IllegalArgumentException("Duplicate CSV column: " + names.get(i));
+                }
+                columns[i] = name;
+            }
+            if (!seen.contains("id") && !seen.contains("name")) {
+                throw new IllegalArgumentException("CSV header must contain an id or name column");
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * 진행 상황과 실패 행 (실패 행은 maxErrors개까지만 보관)
+     */
+    private final class Progress {
+
+        private final long startNanos = System.nanoTime();
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long lastLogNanos = startNanos;
+        private long rows;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private int chunks;
+
+        void record(Row row, Outcome outcome) {
+            switch (outcome) {
+                case INSERTED -> inserted++;
+                case UPDATED -> updated++;
+                case NOT_FOUND -> fail(row.line(), row.id(), "Product not found with id: " + row.id());
+            }
+        }
+
+        void fail(long line, Long productId, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportError(line, productId, message));
+            }
+        }
+    }
+}
@@ -2,13 +2,18 @@ package example.service;
 
 import example.domain.Product;
 import example.dto.ProductSearchCriteria;
+import example.dto.StockAdjustment;
+import example.dto.StockAdjustmentResult;
 import example.mapper.ProductMapper;
+import example.mybatis.BulkSqlSessions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,7 @@ import java.util.Optional;
 public class ProductService {
 
     private final ProductMapper productMapper;
+    private final BulkSqlSessions bulkSqlSessions;
 
     /**
      * 모든 상품 조회
@@ -60,33 +66,29 @@ public class ProductService {
 
     /**
      * 상품 정보 수정
+     * 존재 여부는 미리 조회하지 않고 변경된 행 수로 판단 (UPDATE 한 번)
      */
     @Transactional
     public void updateProduct(Product product) {
         log.info("Updating product with id: {}", product.getId());
 
-        Optional<Product> existing = productMapper.findById(product.getId());
-        if (existing.isEmpty()) {
+        if (productMapper.update(product) == 0) {
             throw new IllegalArgumentException("Product not found with id: " + product.getId());
         }
-
-        productMapper.update(product);
         log.info("Product updated successfully");
     }
 
     /**
      * 상품 삭제
+     * 존재 여부는 미리 조회하지 않고 삭제된 행 수로 판단 (DELETE 한 번)
      */
     @Transactional
     public void deleteProduct(Long id) {
         log.info("Deleting product with id: {}", id);
 
-        Optional<Product> existing = productMapper.findById(id);
-        if (existing.isEmpty()) {
+        if (productMapper.delete(id) == 0) {
             throw new IllegalArgumentException("Product not found with id: " + id);
         }
-
-        productMapper.delete(id);
         log.info("Product deleted successfully");
     }
 
@@ -112,23 +114,63 @@ public class ProductService {
     /**
      * 재고 업데이트
      * 주문 시 재고 감소, 반품 시 재고 증가 등에 사용
+     * 존재 여부는 변경된 행 수로, 재고 부족은 chk_stock 제약 위반으로 판단 (UPDATE 한 번)
      */
     @Transactional
     public void updateStock(Long productId, Integer quantity) {
         log.info("Updating stock for product {}: {}", productId, quantity);
 
-        Optional<Product> product = productMapper.findById(productId);
-        if (product.isEmpty()) {
+        int updated;
+        try {
+            updated = productMapper.updateStock(productId, quantity);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Insufficient stock for product: " + productId, e);
+        }
+        if (updated == 0) {
             throw new IllegalArgumentException("Product not found with id: " + productId);
         }
+        log.info("Stock updated successfully");
+    }
+
+    /**
+     * 재고 일괄 조정
+     * BATCH Executor로 항목 수만큼의 UPDATE를 executeBatch 한 번에 실행하고 변경 행 수로 존재 여부 확인
+     * 재고가 0 미만이 되는 항목이 하나라도 있으면 (chk_stock 제약 위반) 전체 롤백
+     */
+    @Transactional
+    public StockAdjustmentResult adjustStock(List<StockAdjustment> adjustments) {
+        log.info("Adjusting stock for {} products", adjustments.size());
+
+        if (adjustments.isEmpty()) {
+            throw new IllegalArgumentException("At least one stock adjustment is required");
+        }
+        for (StockAdjustment adjustment : adjustments) {
+            if (adjustment.getProductId() == null || adjustment.getQuantity() == null) {
+                throw new IllegalArgumentException("Product id and quantity are required: " + adjustment);
+            }
+        }
 
-        // 재고 감소인 경우 재고 충분한지 확인
-        if (quantity < 0 && product.get().getStockQuantity() + quantity < 0) {
-            throw new IllegalStateException("Insufficient stock for product: " + productId);
+        ProductMapper batchProductMapper = bulkSqlSessions.batchMapper(ProductMapper.class);
+        for (StockAdjustment adjustment : adjustments) {
+            batchProductMapper.updateStock(adjustment.getProductId(), adjustment.getQuantity());
         }
 
-        productMapper.updateStock(productId, quantity);
-        log.info("Stock updated successfully");
+        int[] updateCounts;
+        try {
+            updateCounts = BulkSqlSessions.updateCounts(bulkSqlSessions.flush());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Insufficient stock for one of the adjusted products", e);
+        }
+
+        List<Long> notFound = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                notFound.add(adjustments.get(i).getProductId());
+            }
+        }
+        int updated = adjustments.size() - notFound.size();
+        log.info("Stock adjusted for {} products ({} not found)", updated, notFound.size());
+        return new StockAdjustmentResult(adjustments.size(), updated, notFound);
     }
 
     /**
@@ -143,6 +185,7 @@ public class ProductService {
     /**
      * 카테고리별 가격 일괄 조정
      * 예: 세일 이벤트로 특정 카테고리 상품 10% 할인
+     * 조정된 가격은 소수점 둘째 자리로 HALF_UP 반올림 (19.99 * 0.9 = 17.991 -> 17.99)
      */
     @Transactional
     public void adjustPricesByCategory(String category, BigDecimal priceMultiplier) {
@@ -0,0 +1,367 @@
+package example.service;
+
+import example.domain.User;
+import example.dto.UserProvisionRequest;
+import example.dto.UserProvisioningError;
+import example.dto.UserProvisioningResult;
+import example.mapper.UserMapper;
+import example.security.BoundedPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 일괄 등록 (POST /api/users/bulk, 테넌트 이전 등)
+ *
+ * 사용자마다 createUser를 호출하면 사용자명 확인 쿼리, INSERT, 커밋이 한 번씩, BCrypt는 호출 스레드 하나에서 순서대로 계산됨
+ * 요청을 user.provisioning.chunk-size명씩 나눠 청크마다
+ * 1. 사용자명/이메일 중복을 한 쿼리로 확인 (요청 안의 중복은 DB 조회 전에 거름)
+ * 2. 남은 사용자의 비밀번호를 전용 ForkJoinPool에서 병렬로 해시 (트랜잭션/커넥션을 잡지 않은 상태)
+ *    풀 크기는 security.password.max-concurrent-hashes 이하 (user.provisioning.hash-parallelism으로 더 줄일 수 있음)
+ * 3. 다중 행 INSERT로 생성하고 청크 단위로 커밋
+ *
+ * - 해시는 주입된 PasswordEncoder(BoundedPasswordEncoder)를 거치므로 실제 동시 계산 수는
+ *   security.password.max-concurrent-hashes를 넘지 않고, 로그인도 같은 허가를 공정하게 나눠 씀
+ * - 확인과 INSERT 사이에 다른 요청이 같은 사용자명/이메일을 만들면 청크가 롤백되고,
+ *   그 청크만 행 단위 트랜잭션으로 다시 실행해 충돌한 행을 실패로 기록
+ * - 이미 커밋된 청크는 이후 오류와 관계없이 유지됨 (전체를 한 트랜잭션으로 묶지 않음)
+ *
+ * 진행 상황은 user.provisioning.progress-interval마다 로그로 남김
+ */
+@Slf4j
+@Service
+public class UserProvisioningService implements AutoCloseable {
+
+    /**
+     * 다중 행 INSERT 한 번에 넣는 최대 행 수 (SQL 길이와 파라미터 수 제한)
+     */
+    static final int INSERT_ROWS_PER_STATEMENT = 500;
+
+    private static final Set<String> ROLES = Set.of("ROLE_USER", "ROLE_ADMIN");
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+    private static final int MIN_USERNAME_LENGTH = 3;
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final int MAX_EMAIL_LENGTH = 100;
+    private static final int MAX_FULL_NAME_LENGTH = 100;
+    private static final int MIN_PASSWORD_LENGTH = 6;
+
+    /**
+     * BCrypt가 사용하는 최대 바이트 수 (넘으면 인코더가 거부)
+     */
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private final UserMapper userMapper;
+    private final UserUniquenessFilter userUniquenessFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final int maxUsers;
+    private final int maxErrors;
+    private final long progressIntervalNanos;
+
+    public UserProvisioningService(UserMapper userMapper,
+                                   UserUniquenessFilter userUniquenessFilter,
+                                   PasswordEncoder passwordEncoder,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${user.provisioning.chunk-size:500}") int chunkSize,
+                                   @Value("${user.provisioning.max-users:50000}") int maxUsers,
+                                   @Value("${user.provisioning.max-errors:1000}") int maxErrors,
+                                   @Value("${user.provisioning.hash-parallelism:0}") int hashParallelism,
+                                   @Value("${user.provisioning.progress-interval:PT5S}") Duration progressInterval) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("user.provisioning.chunk-size must be positive: " + chunkSize);
+        }
+        this.userMapper = userMapper;
+        this.userUniquenessFilter = userUniquenessFilter;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 해시는 BoundedPasswordEncoder의 허가 수만큼만 동시에 계산되므로 풀도 그 이하로 (0이면 허가 수)
+        // 더 많은 스레드는 허가를 기다리며 막혀 있을 뿐 처리량을 늘리지 않음
+        int hashLimit = passwordEncoder instanceof BoundedPasswordEncoder bounded
+                ? bounded.getMaxConcurrent()
+                : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(hashParallelism > 0 ? Math.min(hashParallelism, hashLimit) : hashLimit);
+        this.chunkSize = chunkSize;
+        this.maxUsers = maxUsers;
+        this.maxErrors = Math.max(0, maxErrors);
+        this.progressIntervalNanos = progressInterval.toNanos();
+    }
+
+    /**
+     * 사용자 일괄 등록
+     *
+     * @throws IllegalArgumentException 목록이 비었거나 user.provisioning.max-users를 넘는 경우 (아무것도 생성하지 않음)
+     */
+    public UserProvisioningResult provisionUsers(List<UserProvisionRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one user is required");
+        }
+        if (requests.size() > maxUsers) {
+            throw new IllegalArgumentException("Too many users in one request: " + requests.size() + " (max " + maxUsers + ")");
+        }
+        log.info("Provisioning {} users (chunk size {}, hash parallelism {})",
+                requests.size(), chunkSize, hashPool.getParallelism());
+
+        Progress progress = new Progress(requests.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < requests.size(); i++) {
+            UserProvisionRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null) {
+                // 요청 안의 중복은 먼저 나온 행만 생성
+                if (usernames.contains(request.getUsername())) {
+                    error = "Duplicate username in request: " + request.getUsername();
+                } else if (emails.contains(request.getEmail())) {
+                    error = "Duplicate email in request: " + request.getEmail();
+                }
+            }
+            if (error != null) {
+                progress.fail(i, request != null ? request.getUsername() : null, error);
+                continue;
+            }
+            usernames.add(request.getUsername());
+            emails.add(request.getEmail());
+            chunk.add(new Row(i, request));
+            if (chunk.size() == chunkSize) {
+                provisionChunk(chunk, progress);
+                chunk.clear();
+                logProgress(progress, false);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            provisionChunk(chunk, progress);
+        }
+        logProgress(progress, true);
+
+        return UserProvisioningResult.builder()
+                .rows(progress.rows)
+                .created(progress.created)
+                .failed(progress.failed)
+                .chunks(progress.chunks)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - progress.startNanos))
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    /**
+     * 청크 하나: 중복 확인, 병렬 해시, 다중 행 INSERT (충돌하면 행 단위로 다시 시도)
+     */
+    private void provisionChunk(List<Row> chunk, Progress progress) {
+        List<Hashed> hashed = hash(withoutExisting(chunk, progress), progress);
+        if (hashed.isEmpty()) {
+            return;
+        }
+
+        List<User> users = hashed.stream().map(Hashed::user).toList();
+        users.forEach(user -> userUniquenessFilter.add(user.getUsername(), user.getEmail()));
+        progress.chunks++;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < users.size(); from += INSERT_ROWS_PER_STATEMENT) {
+                    userMapper.insertBatch(users.subList(from, Math.min(users.size(), from + INSERT_ROWS_PER_STATEMENT)));
+                }
+            });
+            progress.created += users.size();
+        } catch (DataAccessException e) {
+            log.warn("User provisioning chunk starting at index {} rolled back, retrying row by row: {}",
+                    chunk.get(0).index(), e.getMostSpecificCause().getMessage());
+            for (Hashed row : hashed) {
+                User user = row.user();
+                // 롤백된 다중 행 INSERT가 키를 채웠을 수 있으므로 초기화
+                user.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userMapper.insert(user));
+                    progress.created++;
+                } catch (DuplicateKeyException duplicate) {
+                    progress.fail(row.index(), user.getUsername(), "Username or email already exists");
+                } catch (DataAccessException rowError) {
+                    progress.fail(row.index(), user.getUsername(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 이미 사용 중인 사용자명/이메일의 행을 실패로 기록하고 나머지 반환 (쿼리 한 번)
+     */
+    private List<Row> withoutExisting(List<Row> chunk, Progress progress) {
+        List<String> usernames = chunk.stream().map(row -> row.request().getUsername()).toList();
+        List<String> emails = chunk.stream().map(row -> row.request().getEmail()).toList();
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        for (User existing : userMapper.findByUsernamesOrEmails(usernames, emails)) {
+            existingUsernames.add(existing.getUsername());
+            existingEmails.add(existing.getEmail());
+        }
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            UserProvisionRequest request = row.request();
+            if (existingUsernames.contains(request.getUsername())) {
+                progress.fail(row.index(), request.getUsername(), "Username already exists: " + request.getUsername());
+            } else if (existingEmails.contains(request.getEmail())) {
+                progress.fail(row.index(), request.getUsername(), "Email already exists: " + request.getEmail());
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 비밀번호를 hashPool에서 병렬로 해시해 생성할 User 만들기 (rows 순서 유지, 인코더가 거부한 행은 실패로 기록)
+     */
+    private List<Hashed> hash(List<Row> rows, Progress progress) {
+        List<Callable<String>> tasks = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String password = row.request().getPassword();
+            tasks.add(() -> passwordEncoder.encode(password));
+        }
+
+        List<Future<String>> hashes = hashPool.invokeAll(tasks);
+        List<Hashed> hashed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            UserProvisionRequest request = row.request();
+            String hash;
+            try {
+                hash = hashes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while hashing passwords", e);
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof IllegalArgumentException)) {
+                    throw new IllegalStateException("Password hashing failed", e.getCause());
+                }
+                progress.fail(row.index(), request.getUsername(), "Invalid password: " + e.getCause().getMessage());
+                continue;
+            }
+            hashed.add(new Hashed(row.index(), User.builder()
+                    .username(request.getUsername())
+                    .password(hash)
+                    .email(request.getEmail())
+                    .fullName(request.getFullName())
+                    .active(true)
+                    .role(request.getRole() != null ? request.getRole() : DEFAULT_ROLE)
+                    .build()));
+        }
+        return hashed;
+    }
+
+    /**
+     * 행 검증 (users 테이블 제약 조건, 회원가입 요청 규칙 기준)
+     *
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private static String validate(UserProvisionRequest request) {
+        if (request == null) {
+            return "User must not be null";
+        }
+        String username = request.getUsername();
+        if (username == null || username.isBlank()) {
+            return "username is required";
+        }
+        if (username.length() < MIN_USERNAME_LENGTH || username.length() > MAX_USERNAME_LENGTH) {
+            return "username must be " + MIN_USERNAME_LENGTH + "-" + MAX_USERNAME_LENGTH + " characters";
+        }
+        String password = request.getPassword();
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            return "password must be at least " + MIN_PASSWORD_LENGTH + " characters";
+        }
+        if (password.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "password must be at most " + MAX_PASSWORD_BYTES + " bytes";
+        }
+        String email = request.getEmail();
+        if (email == null || email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+            return "email must be a valid address of at most " + MAX_EMAIL_LENGTH + " characters";
+        }
+        String fullName = request.getFullName();
+        if (fullName == null || fullName.isBlank()) {
+            return "fullName is required";
+        }
+        if (fullName.length() > MAX_FULL_NAME_LENGTH) {
+            return "fullName must be at most " + MAX_FULL_NAME_LENGTH + " characters";
+        }
+        if (request.getRole() != null && !ROLES.contains(request.getRole())) {
+            return "role must be one of " + ROLES;
+        }
+        return null;
+    }
+
+    private void logProgress(Progress progress, boolean done) {
+        long now = System.nanoTime();
+        if (!done && now - progress.lastLogNanos < progressIntervalNanos) {
+            return;
+        }
+        progress.lastLogNanos = now;
+        double seconds = Math.max(1e-9, (now - progress.startNanos) / 1e9);
+        log.info("User provisioning {}: {}/{} users created, {} failed, {} chunks ({} users/s)",
+                done ? "finished" : "in progress", progress.created, progress.rows, progress.failed,
+                progress.chunks, Math.round(progress.created / seconds));
+    }
+
+    @Override
+    public void close() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * 검증을 통과한 요청 행 (index는 요청 목록에서의 위치)
+     */
+    private record Row(int index, UserProvisionRequest request) {
+    }
+
+    /**
+     * 비밀번호를 해시해 생성할 준비가 된 사용자
+     */
+    private record Hashed(int index, User user) {
+    }
+
+    /**
+     * 진행 상황과 실패 행 (실패 행은 maxErrors개까지만 보관)
+     */
+    private final class Progress {
+
+        private final long startNanos = System.nanoTime();
+        private final List<UserProvisioningError> errors = new ArrayList<>();
+        private final int rows;
+        private long lastLogNanos = startNanos;
+        private int created;
+        private int failed;
+        private int chunks;
+
+        private Progress(int rows) {
+            this.rows = rows;
+        }
+
+        void fail(int index, String username, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new UserProvisioningError(index, username, message));
+            }
+        }
+    }
+}
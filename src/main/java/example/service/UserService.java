@@ -20,6 +20,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserMapper userMapper;
+    private final UserUniquenessFilter userUniquenessFilter;
 
     /**
      * 모든 사용자 조회
@@ -62,6 +63,7 @@ public class UserService {
         }
 
         user.setActive(true);
+        userUniquenessFilter.add(user.getUsername(), user.getEmail());
         userMapper.insert(user);
         log.info("User created with id: {}", user.getId());
 
@@ -71,17 +73,23 @@ public class UserService {
     /**
      * 사용자 정보 수정
      * MyBatis 동적 SQL로 null이 아닌 필드만 업데이트
+     * 사용자명/이메일이 요청에 있으면 값이 실제로 바뀌었는지 확인하지 않고 필터 재구성 대상으로 기록
+     * (확인하려면 쿼리가 하나 더 필요하므로, 같은 값을 다시 보내면 재구성이 한 번 앞당겨질 뿐)
      */
     @Transactional
     public void updateUser(User user) {
         log.info("Updating user with id: {}", user.getId());
 
-        Optional<User> existing = userMapper.findById(user.getId());
-        if (existing.isEmpty()) {
+        if (userMapper.update(user) == 0) {
             throw new IllegalArgumentException("User not found with id: " + user.getId());
         }
-
-        userMapper.update(user);
+        String username = nonEmpty(user.getUsername());
+        String email = nonEmpty(user.getEmail());
+        if (username != null || email != null) {
+            // 바뀌었을 수 있는 이전 값은 필터에 남으므로 재구성 대상으로 기록 (롤백되어도 오탐이 조금 늘 뿐)
+            userUniquenessFilter.add(username, email);
+            userUniquenessFilter.recordStale();
+        }
         log.info("User updated successfully");
     }
 
@@ -92,22 +100,29 @@ public class UserService {
     public void deleteUser(Long id) {
         log.info("Deleting user with id: {}", id);
 
-        Optional<User> existing = userMapper.findById(id);
-        if (existing.isEmpty()) {
+        if (userMapper.delete(id) == 0) {
             throw new IllegalArgumentException("User not found with id: " + id);
         }
-
-        userMapper.delete(id);
+        userUniquenessFilter.recordStale();
         log.info("User deleted successfully");
     }
 
+    /**
+     * update가 반영하는 값 (비어 있으면 update가 건너뛰므로 null)
+     */
+    private static String nonEmpty(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+
     /**
      * 계정 활성화/비활성화
      */
     @Transactional
     public void updateActiveStatus(Long id, Boolean active) {
         log.info("Updating active status for user {}: {}", id, active);
-        userMapper.updateActiveStatus(id, active);
+        if (userMapper.updateActiveStatus(id, active) == 0) {
+            throw new IllegalArgumentException("User not found with id: " + id);
+        }
     }
 
     /**
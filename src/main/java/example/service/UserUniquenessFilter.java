@@ -0,0 +1,169 @@
+package example.service;
+
+import example.domain.User;
+import example.mapper.UserMapper;
+import example.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용 중인 사용자명/이메일의 Bloom Filter (회원가입 중복 확인 전 걸러내기)
+ *
+ * - mightContain이 false면 DB에 없다고 보고 중복 확인 쿼리를 생략 (INSERT의 UNIQUE 제약이 최종 확인)
+ * - true면 "있을 수도 있음"이므로 사용자명/이메일을 한 쿼리로 확인
+ * - 사용자를 만들기 직전, 사용자명/이메일을 바꾼 직후(커밋 전)에 add (롤백되어도 오탐이 조금 늘 뿐)
+ * - Bloom Filter는 삭제를 지원하지 않으므로 삭제/변경된 값은 남겨 두고 개수만 세었다가,
+ *   rebuild-interval마다 그런 값이 많거나 예상 크기를 넘었으면 테이블을 다시 읽어 새 필터로 교체
+ *
+ * 필터에 빠진 값(다른 인스턴스에서 만든 사용자, 재구성 중 경합 등)은 쿼리를 생략하게 만들 뿐이고
+ * 중복은 UNIQUE 제약 위반(DuplicateKeyException)으로 잡히므로 결과는 달라지지 않음
+ * 적재 전(기동 직후)에는 모든 값을 "있을 수도 있음"으로 답함
+ */
+@Slf4j
+@Component
+public class UserUniquenessFilter {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    /**
+     * 삭제/변경으로 남은 값이 전체의 이 비율을 넘으면 재구성
+     */
+    private static final double STALE_RATIO = 0.1;
+
+    private final UserMapper userMapper;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile long capacity;
+    private volatile boolean loaded;
+
+    public UserUniquenessFilter(UserMapper userMapper,
+                                @Value("${user.uniqueness-filter.expected-users:1000000}") long expectedUsers,
+                                @Value("${user.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userMapper = userMapper;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = expectedUsers;
+        this.filter = new BloomFilter(expectedUsers * 2, falsePositiveRate);
+    }
+
+    /**
+     * 기동이 끝난 뒤 적재 (ApplicationRunner가 만든 사용자까지 포함)
+     * 실패하면 적재 전 상태(항상 "있을 수도 있음")로 계속 동작하고 다음 rebuild()에서 다시 시도
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Could not load the username/email filter, falling back to database checks: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    /**
+     * 사용자명이 사용 중일 수 있는지 (false면 확실히 없음)
+     */
+    public boolean mightContainUsername(String username) {
+        return !loaded || filter.mightContain(USERNAME_PREFIX + username);
+    }
+
+    /**
+     * 이메일이 사용 중일 수 있는지 (false면 확실히 없음)
+     */
+    public boolean mightContainEmail(String email) {
+        return !loaded || filter.mightContain(EMAIL_PREFIX + email);
+    }
+
+    /**
+     * 사용자명/이메일 추가 (null은 무시)
+     */
+    public void add(String username, String email) {
+        put(filter, username, email);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            put(next, username, email);
+        }
+        entries.incrementAndGet();
+    }
+
+    /**
+     * 사용자 삭제/사용자명 변경 등으로 필터에 더 이상 쓰이지 않는 값이 남았음을 기록
+     */
+    public void recordStale() {
+        stale.incrementAndGet();
+    }
+
+    /**
+     * 남은 값이 많거나 예상 크기를 넘었으면 재구성
+     */
+    @Scheduled(initialDelayString = "${user.uniqueness-filter.rebuild-interval:PT10M}",
+            fixedDelayString = "${user.uniqueness-filter.rebuild-interval:PT10M}")
+    public void rebuildIfNeeded() {
+        if (!loaded) {
+            load();
+            return;
+        }
+        long current = entries.get();
+        if (stale.get() > current * STALE_RATIO || current > capacity) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 테이블 전체를 읽어 새 필터로 교체
+     * 읽는 동안 추가된 값은 새 필터에도 넣으므로 교체 후 빠지지 않음
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long size = Math.max(expectedUsers, entries.get() * 2);
+            BloomFilter next = new BloomFilter(size * 2, falsePositiveRate);
+            rebuilding = next;
+            long staleBefore = stale.get();
+            AtomicLong count = new AtomicLong();
+            long startNanos = System.nanoTime();
+            userMapper.scanUsernamesAndEmails(context -> {
+                User user = context.getResultObject();
+                put(next, user.getUsername(), user.getEmail());
+                count.incrementAndGet();
+            });
+
+            filter = next;
+            capacity = size;
+            entries.set(count.get());
+            stale.addAndGet(-staleBefore);
+            loaded = true;
+            log.info("Loaded {} users into the username/email filter ({} KiB, {} hash functions) in {} ms",
+                    count.get(), next.bitSize() / 8 / 1024, next.hashCount(), (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private static void put(BloomFilter target, String username, String email) {
+        if (username != null) {
+            target.put(USERNAME_PREFIX + username);
+        }
+        if (email != null) {
+            target.put(EMAIL_PREFIX + email);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package example.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom Filter
+ *
+ * - mightContain()이 false면 확실히 없음 (false negative 없음)
+ * - true면 "있을 수도 있음" → 정확한 자료구조로 재확인 필요
+ * - 비트 배열을 AtomicLongArray로 관리하므로 락 없이 여러 스레드에서 put/조회 가능
+ * - 삭제는 지원하지 않으므로 필요 시 새 필터를 만들어 교체
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 삽입 개수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, (m + 63) & ~63L);
+        if (m / 64 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter too large for " + expectedInsertions + " insertions");
+        }
+
+        this.bits = new AtomicLongArray((int) (m / 64));
+        this.bitSize = m;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     */
+    public void put(CharSequence value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = bits.get(index);
+            while ((current & mask) == 0 && !bits.weakCompareAndSetVolatile(index, current, current | mask)) {
+                current = bits.get(index);
+            }
+        }
+    }
+
+    /**
+     * 값이 포함되어 있을 수 있는지 확인
+     *
+     * @return false면 확실히 없음
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 배열 크기 (bit)
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * 값당 해시 함수 개수
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a 64bit + murmur3 finalizer
+     */
+    private static long hash(CharSequence value, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
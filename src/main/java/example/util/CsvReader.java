@@ -0,0 +1,133 @@
+package example.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레코드 단위로 읽는 CSV 파서 (RFC 4180)
+ *
+ * - 입력 전체를 버퍼링하지 않고 레코드 하나만 메모리에 유지 (호출자의 Reader 버퍼 제외)
+ * - 큰따옴표로 감싼 필드 안의 구분자/줄바꿈과 "" 이스케이프 지원, 줄바꿈은 CRLF/LF 모두 허용
+ * - 닫히지 않은 따옴표가 파일 끝까지 삼키지 않도록 레코드 길이를 maxRecordChars로 제한
+ * - 빈 줄은 건너뜀
+ */
+public final class CsvReader {
+
+    private final Reader reader;
+    private final int maxRecordChars;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+
+    /**
+     * 되돌려 둔 문자 (-2: 없음, -1은 입력 끝을 나타내므로 사용할 수 없음)
+     */
+    private int pushback = -2;
+
+    /**
+     * @param reader         입력 (BufferedReader 등 버퍼가 있는 Reader 권장)
+     * @param maxRecordChars 레코드 하나의 최대 문자 수
+     */
+    public CsvReader(Reader reader, int maxRecordChars) {
+        if (maxRecordChars <= 0) {
+            throw new IllegalArgumentException("Max record chars must be positive: " + maxRecordChars);
+        }
+        this.reader = reader;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * 다음 레코드 (입력 끝이면 null)
+     *
+     * @throws IllegalStateException 레코드가 maxRecordChars를 넘거나 따옴표가 닫히지 않은 채 입력이 끝난 경우
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            newline(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        int length = 0;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        field.setLength(0);
+        while (true) {
+            if (++length > maxRecordChars) {
+                throw new IllegalStateException("CSV record at line " + recordLine + " exceeds " + maxRecordChars + " characters");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalStateException("Unterminated quoted field in CSV record at line " + recordLine);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c != -1) {
+                    newline(c);
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.length() == 0 && !afterQuote) {
+                quoted = true;
+            } else {
+                // 닫는 따옴표 뒤의 문자나 필드 중간의 따옴표는 그대로 포함 (관대한 처리)
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 줄바꿈 문자 c 처리 (CR 다음의 LF는 함께 소비)
+     */
+    private void newline(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushback = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,113 @@
+package example.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 항목 수와 항목별 만료 시각으로 제한되는 동시성 캐시
+ *
+ * - 조회 시 만료된 항목은 즉시 제거
+ * - 최대 항목 수에 도달하면 한 스레드만 정리를 수행: 만료 항목 제거 후에도 가득 차 있으면
+ *   임의의 항목(해시 순서) 일부를 제거하여 여유 공간 확보
+ * - 정확한 LRU는 아니지만 락이 없고 put/get 모두 O(1) (정리 비용은 분할 상환)
+ */
+public final class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 저장 (이미 만료된 시각이면 저장하지 않음)
+     *
+     * @param expiresAtMillis 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    /**
+     * 항목 제거
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 전체 제거
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * 용량 부족으로 제거된 항목 수 (만료로 제거된 항목 제외)
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+            // 여전히 가득 차 있으면 10%를 비움
+            int target = maxEntries - Math.max(1, maxEntries / 10);
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,93 @@
+package example.util;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 줄 단위로 읽되 한 줄의 길이를 제한하는 Reader (NDJSON 등)
+ *
+ * - BufferedReader.readLine()은 줄 전체를 메모리에 올린 뒤에야 길이를 알 수 있으므로
+ *   maxLineChars를 넘는 순간 버퍼링을 멈추고 줄 끝까지 건너뜀 (CsvReader와 같은 제한 방식)
+ * - 줄바꿈은 CRLF/LF 모두 허용
+ */
+public final class LineReader {
+
+    private final Reader reader;
+    private final int maxLineChars;
+    private final StringBuilder text = new StringBuilder();
+    private long line;
+    private boolean tooLong;
+
+    /**
+     * 되돌려 둔 문자 (-2: 없음, -1은 입력 끝을 나타내므로 사용할 수 없음)
+     */
+    private int pushback = -2;
+
+    /**
+     * @param reader       입력 (BufferedReader 등 버퍼가 있는 Reader 권장)
+     * @param maxLineChars 한 줄의 최대 문자 수 (줄바꿈 제외)
+     */
+    public LineReader(Reader reader, int maxLineChars) {
+        if (maxLineChars <= 0) {
+            throw new IllegalArgumentException("Max line chars must be positive: " + maxLineChars);
+        }
+        this.reader = reader;
+        this.maxLineChars = maxLineChars;
+    }
+
+    /**
+     * 다음 줄 (입력 끝이면 null)
+     * 줄이 maxLineChars를 넘으면 나머지를 버리고 빈 문자열을 돌려주며 isTooLong()이 true
+     */
+    public String next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        line++;
+        tooLong = false;
+        text.setLength(0);
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (!tooLong) {
+                if (text.length() == maxLineChars) {
+                    tooLong = true;
+                    text.setLength(0);
+                } else {
+                    text.append((char) c);
+                }
+            }
+            c = read();
+        }
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushback = next;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 마지막으로 읽은 줄이 maxLineChars를 넘었는지 여부
+     */
+    public boolean isTooLong() {
+        return tooLong;
+    }
+
+    /**
+     * 마지막으로 읽은 줄 번호 (1부터)
+     */
+    public long line() {
+        return line;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
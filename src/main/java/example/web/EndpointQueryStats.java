@@ -0,0 +1,79 @@
+package example.web;
+
+import example.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트(HTTP 메서드 + URL 패턴)별 요청당 SQL 실행 횟수 통계
+ */
+public class EndpointQueryStats {
+
+    private final String endpoint;
+
+    /**
+     * 요청당 statement 수 분포 (LatencyHistogram을 개수 분포로 사용)
+     */
+    private final LatencyHistogram statementsPerRequest = new LatencyHistogram();
+    private final LongAdder flagged = new LongAdder();
+    private volatile int maxRepeat;
+    private volatile String lastFlagged = "";
+
+    public EndpointQueryStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(int statements, int repeat) {
+        statementsPerRequest.record(statements);
+        if (repeat > maxRepeat) {
+            maxRepeat = repeat;
+        }
+    }
+
+    void flag(String repeatedSummary) {
+        flagged.increment();
+        lastFlagged = repeatedSummary;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long requestCount() {
+        return statementsPerRequest.count();
+    }
+
+    public long flaggedCount() {
+        return flagged.sum();
+    }
+
+    /**
+     * 요청당 평균 statement 수
+     */
+    public double averageStatements() {
+        long requests = statementsPerRequest.count();
+        return requests == 0 ? 0.0 : (double) statementsPerRequest.sum() / requests;
+    }
+
+    /**
+     * 통계 (관리자 메트릭 API용)
+     */
+    public Map<String, Object> stats() {
+        LatencyHistogram.Snapshot snapshot = statementsPerRequest.snapshot();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("endpoint", endpoint);
+        stats.put("requests", snapshot.count());
+        stats.put("statements", statementsPerRequest.sum());
+        stats.put("statementsPerRequest", averageStatements());
+        stats.put("p50StatementsPerRequest", snapshot.p50());
+        stats.put("p99StatementsPerRequest", snapshot.p99());
+        stats.put("maxStatementsPerRequest", snapshot.max());
+        stats.put("maxRepeat", maxRepeat);
+        stats.put("flagged", flaggedCount());
+        stats.put("lastFlagged", lastFlagged);
+        return stats;
+    }
+}
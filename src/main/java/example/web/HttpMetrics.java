@@ -0,0 +1,136 @@
+package example.web;
+
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우트별 HTTP 요청 메트릭 저장소
+ *
+ * - 키는 실제 URI가 아닌 매칭된 URL 패턴(/api/orders/{id})이므로 라우트 수만큼만 늘어남
+ * - HTTP 메서드 -> 라우트 2단계 맵이라 조회 시 키 문자열을 새로 만들지 않음
+ * - 동시 처리 요청 수의 최댓값을 함께 기록 (플랫폼/가상 스레드 모드 비교용, 부하 테스트 워밍업 후 초기화)
+ */
+@Component
+public class HttpMetrics implements MetricsSource {
+
+    /**
+     * 핸들러가 매칭되지 않은 요청 (404, 보안 필터에서 거부된 요청 등)
+     */
+    public static final String UNMAPPED = "UNMAPPED";
+
+    private final Map<String, Map<String, HttpRouteMetrics>> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    /**
+     * 라우트별 메트릭 (없으면 생성)
+     */
+    public HttpRouteMetrics route(String method, String route) {
+        Map<String, HttpRouteMetrics> byRoute = routes.get(method);
+        if (byRoute == null) {
+            byRoute = routes.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        HttpRouteMetrics metrics = byRoute.get(route);
+        return metrics != null ? metrics : byRoute.computeIfAbsent(route, key -> new HttpRouteMetrics(method, key));
+    }
+
+    public void requestStarted() {
+        int now = active.incrementAndGet();
+        // 최댓값이 바뀔 때만 CAS
+        if (now > maxActive.get()) {
+            maxActive.accumulateAndGet(now, Math::max);
+        }
+    }
+
+    public void requestFinished() {
+        active.decrementAndGet();
+    }
+
+    /**
+     * 현재 처리 중인 요청 수
+     */
+    public int activeRequests() {
+        return active.get();
+    }
+
+    /**
+     * 기동(또는 resetMaxActiveRequests) 이후 동시에 처리한 최대 요청 수
+     */
+    public int maxActiveRequests() {
+        return maxActive.get();
+    }
+
+    /**
+     * 최대 동시 처리 요청 수를 현재 값으로 초기화
+     */
+    public void resetMaxActiveRequests() {
+        maxActive.set(active.get());
+    }
+
+    /**
+     * 전체 라우트 메트릭 (메서드, 라우트 순)
+     */
+    public List<HttpRouteMetrics> routes() {
+        return routes.values().stream()
+                .flatMap(byRoute -> byRoute.values().stream())
+                .sorted(Comparator.comparing(HttpRouteMetrics::getRoute).thenComparing(HttpRouteMetrics::getMethod))
+                .toList();
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        List<HttpRouteMetrics> all = routes();
+
+        writer.help("http_server_active_requests", "gauge", "Requests currently being processed");
+        writer.sample("http_server_active_requests", "", active.get());
+        writer.help("http_server_active_requests_max", "gauge", "Highest number of requests processed concurrently");
+        writer.sample("http_server_active_requests_max", "", maxActive.get());
+
+        writer.help("http_server_requests_in_flight", "gauge", "Requests currently being handled per route");
+        for (HttpRouteMetrics metrics : all) {
+            writer.sample("http_server_requests_in_flight", labels(metrics), metrics.inFlight());
+        }
+
+        writer.help("http_server_requests_total", "counter", "Completed requests per route and status class");
+        for (HttpRouteMetrics metrics : all) {
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                long count = metrics.statusCount(statusClass);
+                if (count > 0) {
+                    writer.sample("http_server_requests_total",
+                            PrometheusWriter.labels("method", metrics.getMethod(), "route", metrics.getRoute(),
+                                    "status", statusClass + "xx"),
+                            count);
+                }
+            }
+        }
+
+        writer.help("http_server_requests_seconds", "histogram", "Request latency per route");
+        for (HttpRouteMetrics metrics : all) {
+            writer.histogram("http_server_requests_seconds", labels(metrics), metrics.latency(),
+                    PrometheusWriter.NANOS, PrometheusWriter.LATENCY_BOUNDS);
+        }
+
+        writer.help("http_server_request_size_bytes", "histogram", "Request body size per route");
+        for (HttpRouteMetrics metrics : all) {
+            writer.histogram("http_server_request_size_bytes", labels(metrics), metrics.requestSize(),
+                    1, PrometheusWriter.SIZE_BOUNDS);
+        }
+
+        writer.help("http_server_response_size_bytes", "histogram", "Response body size per route");
+        for (HttpRouteMetrics metrics : all) {
+            writer.histogram("http_server_response_size_bytes", labels(metrics), metrics.responseSize(),
+                    1, PrometheusWriter.SIZE_BOUNDS);
+        }
+    }
+
+    private static String labels(HttpRouteMetrics metrics) {
+        return PrometheusWriter.labels("method", metrics.getMethod(), "route", metrics.getRoute());
+    }
+}
@@ -0,0 +1,55 @@
+package example.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 라우트별 HTTP 요청 메트릭 수집 필터
+ *
+ * - 보안 필터 체인을 포함한 전체 처리 시간, 상태 코드 계열, 요청/응답 본문 크기를 HttpMetrics에 기록
+ * - 라우트는 DispatcherServlet이 매칭한 URL 패턴 (요청 처리 후에 알 수 있으므로 완료 시점에 기록)
+ * - 요청당 비용: System.nanoTime() 2회 + 응답 래퍼 1개 + 맵 조회 2회 + 히스토그램 3개 갱신 (락 없음)
+ *   (HttpMetricsBenchmark 참조)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class HttpMetricsFilter extends OncePerRequestFilter {
+
+    private final HttpMetrics httpMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        httpMetrics.requestStarted();
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, countingResponse);
+            completed = true;
+        } finally {
+            httpMetrics.requestFinished();
+            // 예외가 필터 밖으로 전파되면 컨테이너가 500으로 응답
+            int status = !completed && countingResponse.getStatus() < 400 ? 500 : countingResponse.getStatus();
+            httpMetrics.route(request.getMethod(), routeOf(request))
+                    .record(status, System.nanoTime() - start, request.getContentLengthLong(),
+                            countingResponse.getBytesWritten());
+        }
+    }
+
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : HttpMetrics.UNMAPPED;
+    }
+}
@@ -0,0 +1,38 @@
+package example.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 라우트별 처리 중인 요청 수 집계
+ *
+ * 라우트(URL 패턴)는 핸들러 매칭 후에야 알 수 있으므로 필터 대신 HandlerInterceptor에서 증감
+ * (MetricsConfig.addInterceptors()에서 등록)
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String ROUTE_METRICS = HttpMetricsInterceptor.class.getName() + ".ROUTE_METRICS";
+
+    private final HttpMetrics httpMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpRouteMetrics metrics = httpMetrics.route(request.getMethod(), HttpMetricsFilter.routeOf(request));
+        metrics.started();
+        request.setAttribute(ROUTE_METRICS, metrics);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ROUTE_METRICS) instanceof HttpRouteMetrics metrics) {
+            metrics.finished();
+            request.removeAttribute(ROUTE_METRICS);
+        }
+    }
+}
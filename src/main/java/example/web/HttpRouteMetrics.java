@@ -0,0 +1,85 @@
+package example.web;
+
+import example.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트(HTTP 메서드 + URL 패턴) 하나의 요청 메트릭 (락 없음)
+ *
+ * - 지연 시간 히스토그램 (나노초), 요청/응답 본문 크기 히스토그램 (바이트)
+ * - 상태 코드 계열(1xx ~ 5xx)별 요청 수, 처리 중인 요청 수
+ */
+public class HttpRouteMetrics {
+
+    private final String method;
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram requestSize = new LatencyHistogram();
+    private final LatencyHistogram responseSize = new LatencyHistogram();
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final LongAdder inFlight = new LongAdder();
+
+    public HttpRouteMetrics(String method, String route) {
+        this.method = method;
+        this.route = route;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 완료된 요청 기록
+     *
+     * @param requestBytes 요청 본문 크기 (Content-Length, 모르면 음수)
+     */
+    public void record(int status, long latencyNanos, long requestBytes, long responseBytes) {
+        latency.record(latencyNanos);
+        if (requestBytes >= 0) {
+            requestSize.record(requestBytes);
+        }
+        responseSize.record(responseBytes);
+        statusClasses[Math.min(Math.max(status / 100, 0), 5)].increment();
+    }
+
+    public void started() {
+        inFlight.increment();
+    }
+
+    public void finished() {
+        inFlight.decrement();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public LatencyHistogram requestSize() {
+        return requestSize;
+    }
+
+    public LatencyHistogram responseSize() {
+        return responseSize;
+    }
+
+    /**
+     * 상태 코드 계열별 요청 수
+     *
+     * @param statusClass 1 ~ 5 (2xx면 2)
+     */
+    public long statusCount(int statusClass) {
+        return statusClasses[statusClass].sum();
+    }
+
+    public long inFlight() {
+        return inFlight.sum();
+    }
+}
@@ -0,0 +1,63 @@
+package example.web;
+
+import example.metrics.MetricsSource;
+import example.metrics.PrometheusWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리 포트(metrics.prometheus.port)의 GET /metrics 응답 (Prometheus 텍스트 형식)
+ *
+ * - 관리 포트 요청은 보안 필터 체인과 DispatcherServlet에 전달하지 않음 (/metrics 외에는 404)
+ *   관리 포트는 외부에 노출하지 않는 것을 전제로 하므로 인증 없음
+ * - 애플리케이션 포트의 /metrics는 일반 요청과 같이 처리되어 인증 필요
+ * - MetricsSource는 스크레이프할 때마다 조회 (@Bean 반환 타입이 JwtDecoder인 CachingJwtDecoder도 포함되도록)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PrometheusEndpointFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int port;
+    private final ObjectProvider<MetricsSource> metricsSources;
+
+    public PrometheusEndpointFilter(@Value("${metrics.prometheus.enabled:true}") boolean enabled,
+                                    @Value("${metrics.prometheus.port:9464}") int port,
+                                    ObjectProvider<MetricsSource> metricsSources) {
+        this.enabled = enabled;
+        this.port = port;
+        this.metricsSources = metricsSources;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getLocalPort() != port;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException {
+        if (!"GET".equals(request.getMethod()) || !"/metrics".equals(request.getRequestURI())) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        PrometheusWriter writer = new PrometheusWriter();
+        metricsSources.orderedStream().forEach(source -> source.writeMetrics(writer));
+        byte[] body = writer.toString().getBytes(StandardCharsets.UTF_8);
+
+        response.setContentType(PrometheusWriter.CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
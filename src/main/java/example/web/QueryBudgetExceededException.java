@@ -0,0 +1,33 @@
+package example.web;
+
+/**
+ * 엔드포인트의 SQL 실행 횟수가 허용치(sql.query-count.budgets)를 넘었을 때 발생 (strict 모드)
+ *
+ * 통합 테스트(MockMvc 등)에서 쿼리 수 회귀를 실패로 드러내기 위한 용도
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    private final String endpoint;
+    private final int statements;
+    private final int budget;
+
+    public QueryBudgetExceededException(String endpoint, int statements, int budget, String repeatedSummary) {
+        super(String.format("%s ran %d SQL statements (budget %d)%s", endpoint, statements, budget,
+                repeatedSummary.isEmpty() ? "" : ": " + repeatedSummary));
+        this.endpoint = endpoint;
+        this.statements = statements;
+        this.budget = budget;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+}
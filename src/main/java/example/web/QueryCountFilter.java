@@ -0,0 +1,145 @@
+package example.web;
+
+import example.mybatis.StatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 단위 SQL 실행 횟수 감지 필터 (N+1 감지)
+ *
+ * - 요청마다 StatementCounter로 실행된 statement 수와 같은 statement의 반복 횟수를 집계
+ * - 전체 횟수가 threshold를 넘거나 같은 statement가 repeat-threshold번 이상 반복되면 경고 로그 + flagged 집계
+ * - 엔드포인트(HTTP 메서드 + URL 패턴)별 요약은 /api/admin/metrics/queries로 조회
+ * - strict 모드에서는 budgets에 등록된 허용치를 넘으면 QueryBudgetExceededException을 던져
+ *   통합 테스트가 쿼리 수 회귀로 실패하도록 함 (운영에서는 끄고 사용)
+ *   허용치를 넘은 요청의 본문이 클라이언트에 나가지 않도록 strict 모드에서는 응답을 버퍼링하고
+ *   검사를 통과한 뒤에만 내보냄 (응답 크기만큼 메모리를 더 사용하므로 운영에서 켜지 않음)
+ * - OrderDetailAssembler처럼 다른 스레드에서 실행한 SQL도 StatementCounter.propagate()로 같은 요청에 집계됨
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int repeatThreshold;
+    private final boolean strict;
+    private final Map<String, Integer> budgets;
+    private final ConcurrentHashMap<String, EndpointQueryStats> endpoints = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(@Value("${sql.query-count.enabled:true}") boolean enabled,
+                            @Value("${sql.query-count.threshold:10}") int threshold,
+                            @Value("${sql.query-count.repeat-threshold:3}") int repeatThreshold,
+                            @Value("${sql.query-count.strict:false}") boolean strict,
+                            Environment environment) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.repeatThreshold = repeatThreshold;
+        this.strict = strict;
+        // 키는 "[POST /api/orders]" 형식 (공백과 '/'가 있으므로 대괄호로 감쌈)
+        this.budgets = Map.copyOf(Binder.get(environment)
+                .bind("sql.query-count.budgets", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = strict ? new ContentCachingResponseWrapper(response) : null;
+        StatementCounter.begin();
+        StatementCounter.Counts counts;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            counts = StatementCounter.end();
+            if (counts != null) {
+                record(request, counts);
+            }
+        }
+
+        // 예외 없이 끝난 요청만 검사 (원래 예외를 가리지 않도록)
+        if (buffered != null) {
+            String endpoint = endpointOf(request);
+            Integer budget = budgets.get(endpoint);
+            if (budget != null && counts != null && counts.total() > budget) {
+                // 버퍼링된 본문은 버리고 아직 커밋되지 않은 응답을 초기화한 뒤 예외로 실패 처리
+                if (!response.isCommitted()) {
+                    response.reset();
+                }
+                throw new QueryBudgetExceededException(endpoint, counts.total(), budget, counts.repeatedSummary());
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounter.Counts counts) {
+        if (counts.total() == 0) {
+            return;
+        }
+        String endpoint = endpointOf(request);
+        EndpointQueryStats stats = endpoints.computeIfAbsent(endpoint, EndpointQueryStats::new);
+        int maxRepeat = counts.maxRepeat();
+        stats.record(counts.total(), maxRepeat);
+
+        if (counts.total() > threshold || maxRepeat >= repeatThreshold) {
+            String summary = counts.repeatedSummary();
+            stats.flag(summary);
+            log.warn("{} ran {} SQL statements (max repeat {}): {}", endpoint, counts.total(), maxRepeat, summary);
+        }
+    }
+
+    /**
+     * 엔드포인트 키 (예: "GET /api/orders/{id}")
+     * 경로 변수 값마다 따로 집계되지 않도록 실제 URI 대신 매칭된 URL 패턴 사용
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+    }
+
+    /**
+     * 엔드포인트별 통계 (flagged 횟수, 요청당 평균 statement 수 순)
+     */
+    public List<Map<String, Object>> stats() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparingLong(EndpointQueryStats::flaggedCount)
+                        .thenComparingDouble(EndpointQueryStats::averageStatements)
+                        .reversed())
+                .map(EndpointQueryStats::stats)
+                .toList();
+    }
+
+    /**
+     * 수집된 통계 초기화
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+}
@@ -76,8 +76,22 @@ CREATE TABLE IF NOT EXISTS order_items (
 CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
 CREATE INDEX IF NOT EXISTS idx_order_items_product_id ON order_items(product_id);
 
+-- JWT 폐기 테이블
+-- 로그아웃(jti 단위), 회원탈퇴(사용자 단위) 정보를 재시작 후에도 유지
+CREATE TABLE IF NOT EXISTS token_revocations (
+    revocation_key VARCHAR(100) NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    revoked_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (revocation_key, type)
+);
+
+-- JWT 폐기 테이블 인덱스
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON token_revocations(expires_at);
+
 -- 주석: MyBatis를 사용하여 이 스키마의 테이블들과 상호작용합니다
 -- - users: 사용자 정보 저장
 -- - products: 상품 정보 저장
 -- - orders: 주문 마스터 정보 저장 (user_id로 사용자와 연결)
 -- - order_items: 주문 상세 항목 저장 (order_id로 주문과, product_id로 상품과 연결)
+-- - token_revocations: 폐기된 JWT 정보 저장 (시작 시 메모리로 적재)
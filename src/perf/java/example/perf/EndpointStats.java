@@ -0,0 +1,42 @@
+package example.perf;
+
+import example.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 부하 테스트 결과 (지연 시간 히스토그램, 오류 수)
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @param latencyNanos 요청 지연 시간 (나노초)
+     * @param success      2xx 응답 여부
+     */
+    void record(long latencyNanos, boolean success) {
+        latency.record(latencyNanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long errorCount() {
+        return errors.sum();
+    }
+}
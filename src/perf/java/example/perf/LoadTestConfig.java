@@ -0,0 +1,75 @@
+package example.perf;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadTest.*)
+ *
+ * ./gradlew loadTest -PloadTest.rate=50 -PloadTest.duration=120 처럼 Gradle 프로퍼티로 전달
+ * seed가 같으면 세션 도착 간격과 요청 구성(검색 조건, 주문 상품, 취소 여부)이 실행마다 동일
+ *
+ * @param seed          난수 시드
+ * @param rate          초당 세션 도착 수 (open model, 포아송 도착)
+ * @param duration      측정 시간
+ * @param warmup        워밍업 시간 (측정에서 제외)
+ * @param users         시드 사용자 수
+ * @param products      시드 상품 수
+ * @param orders        시드 주문 수 (기존 주문 이력)
+ * @param maxSearches   세션당 최대 상품 검색 횟수 (1~maxSearches)
+ * @param orderRatio    주문까지 진행하는 세션 비율
+ * @param cancelRatio   주문 후 취소하는 비율
+ * @param maxItems      주문당 최대 상품 수
+ * @param maxInFlight   동시 진행 세션 상한 (초과 시 세션을 버리고 dropped로 집계)
+ * @param outputDir     결과 저장 디렉터리
+ * @param appArgs       애플리케이션에 추가로 전달할 인자 (예: --jwt.cache.enabled=false)
+ */
+public record LoadTestConfig(
+        long seed,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int products,
+        int orders,
+        int maxSearches,
+        double orderRatio,
+        double cancelRatio,
+        int maxItems,
+        int maxInFlight,
+        Path outputDir,
+        List<String> appArgs) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        String appArgs = property("appArgs", "").trim();
+        return new LoadTestConfig(
+                Long.parseLong(property("seed", "42")),
+                Double.parseDouble(property("rate", "20")),
+                Duration.ofSeconds(Long.parseLong(property("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "10"))),
+                Integer.parseInt(property("users", "200")),
+                Integer.parseInt(property("products", "500")),
+                Integer.parseInt(property("orders", "10000")),
+                Integer.parseInt(property("maxSearches", "3")),
+                Double.parseDouble(property("orderRatio", "0.5")),
+                Double.parseDouble(property("cancelRatio", "0.2")),
+                Integer.parseInt(property("maxItems", "3")),
+                Integer.parseInt(property("maxInFlight", "5000")),
+                Path.of(property("outputDir", "build/reports/load-test")),
+                appArgs.isEmpty() ? List.of() : Arrays.asList(appArgs.split("\\s+")));
+    }
+
+    /**
+     * 애플리케이션 인자만 바꾼 설정 (같은 시드로 설정별 비교)
+     */
+    public LoadTestConfig withAppArgs(List<String> appArgs) {
+        return new LoadTestConfig(seed, rate, duration, warmup, users, products, orders, maxSearches,
+                orderRatio, cancelRatio, maxItems, maxInFlight, outputDir, List.copyOf(appArgs));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+}
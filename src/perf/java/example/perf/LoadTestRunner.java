@@ -0,0 +1,348 @@
+package example.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import example.JwtLoginApplication;
+import example.config.VirtualThreadSupport;
+import example.datagen.DataGenerationSpec;
+import example.datasource.StatementReplicator;
+import example.datagen.SyntheticDataGenerator;
+import example.metrics.LatencyHistogram;
+import example.mybatis.MapperCaches;
+import example.web.HttpMetrics;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 종단 간 부하 테스트 (./gradlew loadTest)
+ *
+ * 1. 애플리케이션을 임의 포트로 기동하고 부하 테스트용 사용자/상품/주문을 적재
+ * 2. 세션을 포아송 도착(open model)으로 생성: 응답이 느려져도 도착률은 유지되므로 대기 시간까지 측정됨
+ *    세션 = 로그인 → 상품 검색 1~N회 → (orderRatio) 주문 생성 → (cancelRatio) 주문 취소
+ * 3. 세션은 가상 스레드(Java 21 미만이면 플랫폼 스레드)에서 실행
+ * 4. 엔드포인트별 지연 시간 분포/처리량/오류 수, 서버의 최대 동시 처리 요청 수를 출력하고 outputDir에 저장
+ *
+ * 세션의 첫 요청(로그인) 지연 시간은 예정된 도착 시각부터 측정 (coordinated omission 방지)
+ */
+public final class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final EndpointStats login = new EndpointStats("POST /api/auth/login");
+    private final EndpointStats search = new EndpointStats("POST /api/products/search");
+    private final EndpointStats createOrder = new EndpointStats("POST /api/orders");
+    private final EndpointStats cancelOrder = new EndpointStats("POST /api/orders/{id}/cancel");
+    private final EndpointStats session = new EndpointStats("session");
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder droppedSessions = new LongAdder();
+
+    private SyntheticDataGenerator.GenerationResult data;
+    private String baseUrl;
+    private HttpMetrics httpMetrics;
+    private boolean serverVirtualThreads;
+
+    LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    /**
+     * 부하 테스트 실행 후 결과 저장
+     */
+    Result run() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JwtLoginApplication.class)
+                .properties(
+                        "server.port=0",
+                        // 실행 중인 다른 인스턴스와 관리 포트가 겹치지 않도록 Prometheus 노출은 끔 (수집은 그대로)
+                        "metrics.prometheus.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.example=WARN")
+                .run(config.appArgs().toArray(String[]::new))) {
+
+            seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            httpMetrics = context.getBean(HttpMetrics.class);
+            serverVirtualThreads = Threading.VIRTUAL.isActive(context.getEnvironment());
+
+            System.out.printf("Load test: seed=%d, rate=%.1f sessions/s, warmup=%ds, duration=%ds, virtualThreads=%s, serverThreads=%s%n",
+                    config.seed(), config.rate(), config.warmup().toSeconds(), config.duration().toSeconds(),
+                    VirtualThreadSupport.isAvailable(), threadMode());
+
+            drive();
+            report();
+            return new Result(serverVirtualThreads, httpMetrics.maxActiveRequests(), droppedSessions.sum(),
+                    List.of(login, search, createOrder, cancelOrder, session));
+        }
+    }
+
+    /**
+     * 부하 테스트용 사용자/상품/주문 적재 (SyntheticDataGenerator, 비밀번호 해시는 한 번만 계산)
+     */
+    private void seed(ConfigurableApplicationContext context) {
+        // 로그인/주문이 비활성 계정이나 재고 부족으로 실패하지 않도록 모든 계정 활성, 재고는 넉넉히 설정
+        data = new SyntheticDataGenerator(context.getBean(DataSource.class)).generate(DataGenerationSpec.builder()
+                .users(config.users())
+                .products(config.products())
+                .orders(config.orders())
+                .inactivePercent(0)
+                .minStock(1_000_000_000)
+                .maxStock(1_000_000_000)
+                .seed(config.seed())
+                .passwordHash(context.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD))
+                .build());
+        // 읽기/쓰기 라우팅(datasource.routing.enabled=true)으로 실행하면 적재한 데이터를 레플리카에도 복사
+        context.getBeanProvider(StatementReplicator.class).ifAvailable(StatementReplicator::resync);
+        // MyBatis를 거치지 않은 쓰기이므로 2차 캐시도 비움
+        context.getBean(MapperCaches.class).clear();
+    }
+
+    /**
+     * 포아송 도착으로 세션 생성
+     * 도착 간격과 세션별 난수는 모두 시드에서 순서대로 파생되므로 실행마다 같은 부하
+     */
+    private void drive() throws InterruptedException {
+        SplittableRandom arrivals = new SplittableRandom(config.seed());
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("load");
+
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+        long next = start;
+        boolean warmedUp = false;
+
+        while (true) {
+            next += (long) (-Math.log(1.0 - arrivals.nextDouble()) / config.rate() * 1_000_000_000L);
+            if (next >= end) {
+                break;
+            }
+            SplittableRandom sessionRandom = arrivals.split();
+            long intendedStart = next;
+            boolean measured = intendedStart >= measureStart;
+
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            if (measured && !warmedUp) {
+                // 최대 동시 처리 요청 수는 측정 구간만 집계
+                httpMetrics.resetMaxActiveRequests();
+                warmedUp = true;
+            }
+
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    droppedSessions.increment();
+                }
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    runSession(sessionRandom, intendedStart, measured);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+            System.out.println("Some sessions did not finish in time: " + inFlight.get());
+            executor.shutdownNow();
+        }
+    }
+
+    private void runSession(SplittableRandom random, long intendedStart, boolean measured) {
+        try {
+            // 1. 로그인 (예정 도착 시각부터 측정)
+            String username = "user" + (data.firstUserId() + random.nextInt(data.users()));
+            JsonNode auth = send(login, intendedStart, measured, post("/api/auth/login", null,
+                    Map.of("username", username, "password", SyntheticDataGenerator.PASSWORD)));
+            if (auth == null) {
+                return;
+            }
+            String token = auth.path("token").asText();
+            long userId = auth.path("user").path("id").asLong();
+
+            // 2. 상품 검색 1~maxSearches회
+            int searches = 1 + random.nextInt(config.maxSearches());
+            for (int i = 0; i < searches; i++) {
+                int minCents = random.nextInt(50_000);
+                Map<String, Object> criteria = new LinkedHashMap<>();
+                criteria.put("categories", List.of(SyntheticDataGenerator.CATEGORIES[random.nextInt(SyntheticDataGenerator.CATEGORIES.length)]));
+                criteria.put("minPrice", BigDecimal.valueOf(minCents, 2));
+                criteria.put("maxPrice", BigDecimal.valueOf(minCents + 20_000, 2));
+                criteria.put("inStockOnly", true);
+                send(search, System.nanoTime(), measured, post("/api/products/search", token, criteria));
+            }
+
+            // 3. 주문 생성
+            if (random.nextDouble() >= config.orderRatio()) {
+                return;
+            }
+            int itemCount = 1 + random.nextInt(config.maxItems());
+            List<Map<String, Object>> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(Map.of("productId", data.firstProductId() + random.nextInt(data.products()), "quantity", 1 + random.nextInt(3)));
+            }
+            Map<String, Object> order = new LinkedHashMap<>();
+            order.put("userId", userId);
+            order.put("shippingAddress", "123 Main St, New York, NY 10001");
+            order.put("orderItems", items);
+            JsonNode created = send(createOrder, System.nanoTime(), measured, post("/api/orders", token, order));
+
+            // 4. 주문 취소
+            if (created == null || random.nextDouble() >= config.cancelRatio()) {
+                return;
+            }
+            send(cancelOrder, System.nanoTime(), measured,
+                    post("/api/orders/" + created.path("id").asLong() + "/cancel", token, null));
+        } finally {
+            if (measured) {
+                session.record(System.nanoTime() - intendedStart, true);
+            }
+        }
+    }
+
+    /**
+     * 요청 전송 후 지연 시간 기록
+     *
+     * @return 2xx 응답의 JSON 본문 (본문이 없으면 빈 노드), 실패 시 null
+     */
+    private JsonNode send(EndpointStats stats, long startNanos, boolean measured, HttpRequest request) {
+        boolean success = false;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() / 100 == 2;
+            if (!success) {
+                return null;
+            }
+            return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (measured) {
+                stats.record(System.nanoTime() - startNanos, success);
+            }
+        }
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+
+    /**
+     * 요약(summary.txt)과 히스토그램 버킷(histograms.csv) 저장
+     */
+    private void report() throws IOException {
+        double seconds = config.duration().toNanos() / 1e9;
+        List<EndpointStats> all = List.of(login, search, createOrder, cancelOrder, session);
+
+        StringWriter summary = new StringWriter();
+        PrintWriter out = new PrintWriter(summary);
+        out.printf("seed=%d rate=%.1f/s warmup=%ds duration=%ds users=%d products=%d orders=%d virtualThreads=%s serverThreads=%s appArgs=%s%n",
+                config.seed(), config.rate(), config.warmup().toSeconds(), config.duration().toSeconds(),
+                config.users(), config.products(), config.orders(), VirtualThreadSupport.isAvailable(), threadMode(),
+                config.appArgs());
+        out.printf("dropped sessions: %d%n", droppedSessions.sum());
+        out.printf("max concurrent server requests: %d%n%n", httpMetrics.maxActiveRequests());
+        out.printf("%-30s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (EndpointStats stats : all) {
+            LatencyHistogram.Snapshot s = stats.latency().snapshot();
+            out.printf("%-30s %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.name(), s.count(), stats.errorCount(), s.count() / seconds,
+                    millis(s.p50()), millis(s.p90()), millis(s.p99()), millis(s.p999()), millis(s.max()));
+        }
+        out.flush();
+        System.out.println();
+        System.out.print(summary);
+
+        StringBuilder csv = new StringBuilder("endpoint,upper_bound_ns,count\n");
+        for (EndpointStats stats : all) {
+            stats.latency().forEachBucket((upperBound, count) ->
+                    csv.append('"').append(stats.name()).append("\",").append(upperBound).append(',').append(count).append('\n'));
+        }
+
+        Path dir = config.outputDir().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), summary.toString());
+        Files.writeString(dir.resolve("histograms.csv"), csv);
+        System.out.println("\nResults written to " + dir.toAbsolutePath());
+    }
+
+    private String threadMode() {
+        return serverVirtualThreads ? "virtual" : "platform";
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * 실행 결과 (측정 구간)
+     *
+     * @param serverVirtualThreads 애플리케이션이 가상 스레드로 요청을 처리했는지
+     * @param maxActiveRequests    서버가 동시에 처리한 최대 요청 수
+     * @param droppedSessions      maxInFlight 초과로 버린 세션 수
+     * @param endpoints            엔드포인트별 지연 시간 (마지막은 세션 전체)
+     */
+    record Result(boolean serverVirtualThreads, int maxActiveRequests, long droppedSessions,
+                  List<EndpointStats> endpoints) {
+    }
+}
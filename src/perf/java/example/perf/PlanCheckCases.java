@@ -0,0 +1,140 @@
+package example.perf;
+
+import example.datagen.SyntheticDataGenerator;
+import example.domain.Money;
+import example.domain.Order;
+import example.domain.OrderItem;
+import example.domain.OrderStatus;
+import example.domain.Product;
+import example.domain.TokenRevocation;
+import example.domain.User;
+import example.dto.OrderSearchCriteria;
+import example.dto.ProductSearchCriteria;
+import org.apache.ibatis.reflection.ParamNameResolver;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 계획 검사용 대표 파라미터
+ *
+ * 키: "Mapper.method" 또는 동적 SQL 조건 조합별 "Mapper.method[case]"
+ * 값: Mapper 메서드에 전달되는 형태의 파라미터 (단일 값, 도메인 객체, @Param 이름의 Map)
+ * 새 Mapper 메서드를 추가하면 여기에 대표 파라미터를 추가하고 plan-expectations.txt는 -PplanCheck.update=true로 다시 생성
+ */
+final class PlanCheckCases {
+
+    private PlanCheckCases() {
+    }
+
+    /**
+     * @param userId    존재하는 사용자 ID
+     * @param productId 존재하는 상품 ID
+     * @param orderId   존재하는 주문 ID
+     */
+    static Map<String, Object> create(long userId, long productId, long orderId) {
+        String category = SyntheticDataGenerator.CATEGORIES[0];
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> cases = new LinkedHashMap<>();
+
+        // UserMapper
+        User user = User.builder().id(userId).username("plan-check").password("x").email("plan-check@example.com")
+                .fullName("Plan Check").active(true).role("ROLE_USER").build();
+        cases.put("UserMapper.findAll", null);
+        cases.put("UserMapper.findById", userId);
+        cases.put("UserMapper.findSummaryById", userId);
+        cases.put("UserMapper.findByUsername", "user" + userId);
+        cases.put("UserMapper.findByEmail", "user" + userId + "@example.com");
+        cases.put("UserMapper.findExistingIds", Map.of("ids", List.of(userId, userId + 1)));
+        cases.put("UserMapper.findByUsernamesOrEmails", Map.of(
+                "usernames", List.of("user" + userId, "newuser"),
+                "emails", List.of("user" + userId + "@example.com", "newuser@example.com")));
+        cases.put("UserMapper.scanUsernamesAndEmails", null);
+        cases.put("UserMapper.insert", user);
+        cases.put("UserMapper.insertBatch", ParamNameResolver.wrapToMapIfCollection(List.of(user, user), null));
+        cases.put("UserMapper.update", user);
+        cases.put("UserMapper.delete", userId);
+        cases.put("UserMapper.countActiveUsers", null);
+        cases.put("UserMapper.existsByUsername", "user" + userId);
+        cases.put("UserMapper.updateActiveStatus", Map.of("id", userId, "active", true));
+
+        // ProductMapper
+        Product product = Product.builder().id(productId).name("Plan Check").description("plan check")
+                .price(Money.parse("10.00")).stockQuantity(10).category(category).status("AVAILABLE").build();
+        cases.put("ProductMapper.findAll", null);
+        cases.put("ProductMapper.findById", productId);
+        cases.put("ProductMapper.findSummariesByIds", Map.of("ids", List.of(productId, productId + 1)));
+        cases.put("ProductMapper.findForUpdateByIds", Map.of("ids", List.of(productId, productId + 1)));
+        cases.put("ProductMapper.findExistingIds", Map.of("ids", List.of(productId, productId + 1)));
+        cases.put("ProductMapper.insert", product);
+        cases.put("ProductMapper.update", product);
+        cases.put("ProductMapper.delete", productId);
+        cases.put("ProductMapper.search[none]", ProductSearchCriteria.builder().build());
+        cases.put("ProductMapper.search[name]", ProductSearchCriteria.builder().name("Product").build());
+        cases.put("ProductMapper.search[categories]", ProductSearchCriteria.builder()
+                .categories(List.of(category, SyntheticDataGenerator.CATEGORIES[1])).build());
+        cases.put("ProductMapper.search[price]", ProductSearchCriteria.builder()
+                .minPrice(new BigDecimal("10")).maxPrice(new BigDecimal("50")).inStockOnly(true).build());
+        cases.put("ProductMapper.search[statuses]", ProductSearchCriteria.builder()
+                .statuses(List.of("AVAILABLE")).build());
+        cases.put("ProductMapper.findByCategory", category);
+        cases.put("ProductMapper.updateStock", Map.of("id", productId, "quantity", 1));
+        cases.put("ProductMapper.findLowStockProducts", Map.of("threshold", 10));
+        cases.put("ProductMapper.restoreStockForOrders", Map.of("orderIds", List.of(orderId, orderId + 1)));
+        cases.put("ProductMapper.updatePricesByCategory", Map.of("category", category, "priceMultiplier", BigDecimal.ONE));
+
+        // OrderMapper
+        Order order = Order.builder().id(orderId).userId(userId).status(OrderStatus.PENDING)
+                .totalAmount(Money.parse("10.00")).shippingAddress("Seoul").build();
+        cases.put("OrderMapper.findAll", null);
+        cases.put("OrderMapper.findById", orderId);
+        cases.put("OrderMapper.findHeaderById", orderId);
+        cases.put("OrderMapper.findByUserId", userId);
+        cases.put("OrderMapper.insert", order);
+        cases.put("OrderMapper.insertBatch", ParamNameResolver.wrapToMapIfCollection(List.of(order, order), null));
+        cases.put("OrderMapper.findStatusById", orderId);
+        cases.put("OrderMapper.findIdsForUpdate", Map.of("ids", List.of(orderId, orderId + 1),
+                "statuses", OrderStatus.sourcesOf(OrderStatus.CANCELLED)));
+        cases.put("OrderMapper.updateStatus", Map.of("id", orderId, "status", OrderStatus.SHIPPED,
+                "from", OrderStatus.sourcesOf(OrderStatus.SHIPPED)));
+        cases.put("OrderMapper.updateStatusByIds", Map.of("ids", List.of(orderId, orderId + 1), "status", OrderStatus.SHIPPED,
+                "from", OrderStatus.sourcesOf(OrderStatus.SHIPPED)));
+        cases.put("OrderMapper.delete", orderId);
+        cases.put("OrderMapper.search[none]", OrderSearchCriteria.builder().build());
+        cases.put("OrderMapper.search[user]", OrderSearchCriteria.builder().userId(userId).build());
+        cases.put("OrderMapper.search[userStatus]", OrderSearchCriteria.builder().userId(userId).status(OrderStatus.DELIVERED).build());
+        cases.put("OrderMapper.search[status]", OrderSearchCriteria.builder().status(OrderStatus.PENDING).build());
+        cases.put("OrderMapper.search[dateRange]", OrderSearchCriteria.builder()
+                .startDate(now.minusDays(7)).endDate(now).build());
+        cases.put("OrderMapper.search[amount]", OrderSearchCriteria.builder()
+                .minAmount(new BigDecimal("100")).maxAmount(new BigDecimal("200")).sortBy("total_amount").build());
+        cases.put("OrderMapper.countByDateRange", Map.of("startDate", now.minusDays(7), "endDate", now));
+        cases.put("OrderMapper.getTotalAmountByUserId", userId);
+
+        // OrderItemMapper
+        OrderItem item = OrderItem.builder().id(1L).orderId(orderId).productId(productId).quantity(1)
+                .price(Money.parse("10.00")).subtotal(Money.parse("10.00")).build();
+        cases.put("OrderItemMapper.findByOrderId", orderId);
+        cases.put("OrderItemMapper.findPlainByOrderId", orderId);
+        cases.put("OrderItemMapper.insert", item);
+        // 컬렉션 파라미터는 MyBatis가 "list"/"collection" 키의 Map으로 감싸서 전달
+        cases.put("OrderItemMapper.insertBatch", ParamNameResolver.wrapToMapIfCollection(List.of(item, item), null));
+        cases.put("OrderItemMapper.update", item);
+        cases.put("OrderItemMapper.delete", 1L);
+        cases.put("OrderItemMapper.deleteByOrderId", orderId);
+        cases.put("OrderItemMapper.getTotalSoldQuantity", productId);
+
+        // TokenRevocationMapper
+        Instant instant = Instant.now();
+        cases.put("TokenRevocationMapper.upsert", TokenRevocation.builder().revocationKey("plan-check").type("JTI")
+                .revokedAt(instant).expiresAt(instant.plusSeconds(3600)).build());
+        cases.put("TokenRevocationMapper.findActive", Map.of("now", instant));
+        cases.put("TokenRevocationMapper.deleteExpired", Map.of("now", instant));
+
+        return cases;
+    }
+}
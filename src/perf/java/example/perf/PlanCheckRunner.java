@@ -0,0 +1,285 @@
+package example.perf;
+
+import example.config.MyBatisConfig;
+import example.datagen.DataGenerationSpec;
+import example.datagen.SyntheticDataGenerator;
+import example.mybatis.BoundSqlParameters;
+import org.apache.ibatis.io.ResolverUtil;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mapper statement 실행 계획 회귀 검사 (./gradlew planCheck, check에 포함)
+ *
+ * 1. 인메모리 H2에 스키마와 합성 데이터를 적재하고 ANALYZE로 통계 갱신
+ * 2. 모든 Mapped Statement를 PlanCheckCases의 대표 파라미터로 EXPLAIN
+ * 3. 계획에서 테이블별 접근 방식을 추출해 plan-expectations.txt와 비교
+ *    - "scan orders": 테이블 전체 스캔
+ *    - "orders(user_id)": 인덱스 사용 (H2가 만든 PRIMARY_KEY_xx 같은 이름 대신 테이블(컬럼)으로 표기)
+ *    - "-": 테이블 접근 없음 (INSERT ... VALUES 등)
+ * 4. 기대와 다르거나, 대표 파라미터/기대값이 없는 statement가 있으면 실패
+ *
+ * 인덱스를 추가/변경해 계획이 의도대로 바뀌었으면 -PplanCheck.update=true로 기대값 파일을 다시 생성
+ */
+public final class PlanCheckRunner {
+
+    /**
+     * 계획의 테이블 접근 주석: PUBLIC.IDX_ORDERS_USER_ID: USER_ID = ?1, PUBLIC.ORDERS.tableScan
+     */
+    private static final Pattern ACCESS = Pattern.compile("/\\*\\s*\"?PUBLIC\"?\\.\"?(\\w+)\"?(?:\\.(\\w+))?");
+
+    private static final String NO_ACCESS = "-";
+
+    private final DataSource dataSource;
+    private final Path expectationsFile;
+    private final boolean update;
+
+    private PlanCheckRunner(DataSource dataSource, Path expectationsFile, boolean update) {
+        this.dataSource = dataSource;
+        this.expectationsFile = expectationsFile;
+        this.update = update;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path expectationsFile = Path.of(System.getProperty("planCheck.expectations", "src/perf/resources/plan-expectations.txt"));
+        boolean update = Boolean.parseBoolean(System.getProperty("planCheck.update", "false"));
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:plan-check;DB_CLOSE_DELAY=-1", "sa", "");
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        SyntheticDataGenerator.GenerationResult data = new SyntheticDataGenerator(dataSource).generate(
+                DataGenerationSpec.builder()
+                        .users(Integer.getInteger("planCheck.users", 20_000))
+                        .products(Integer.getInteger("planCheck.products", 5_000))
+                        .orders(Integer.getInteger("planCheck.orders", 100_000))
+                        .passwordHash("{noop}" + SyntheticDataGenerator.PASSWORD)
+                        .build());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // 컬럼별 선택도(selectivity)를 갱신해야 인덱스 선택이 데이터 분포를 반영
+            statement.execute("ANALYZE");
+        }
+
+        Map<String, Object> cases = PlanCheckCases.create(data.firstUserId(), data.firstProductId(), data.firstOrderId());
+        boolean passed = new PlanCheckRunner(dataSource, expectationsFile, update).run(cases);
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    boolean run(Map<String, Object> cases) throws Exception {
+        Configuration configuration = sqlSessionFactory().getConfiguration();
+        Map<String, String> indexes = loadIndexes();
+        Map<String, String> actual = new TreeMap<>();
+        Map<String, String> plans = new HashMap<>();
+        List<String> failures = new ArrayList<>();
+
+        for (String statementId : statementIds(configuration)) {
+            MappedStatement mappedStatement = configuration.getMappedStatement(statementId);
+            String shortId = shortId(statementId);
+            boolean covered = false;
+            for (Map.Entry<String, Object> entry : cases.entrySet()) {
+                String key = entry.getKey();
+                if (!key.equals(shortId) && !key.startsWith(shortId + "[")) {
+                    continue;
+                }
+                covered = true;
+                String plan = explain(configuration, mappedStatement, entry.getValue());
+                plans.put(key, plan);
+                actual.put(key, accesses(plan, indexes));
+            }
+            if (!covered) {
+                failures.add(shortId + ": no representative parameters in PlanCheckCases");
+            }
+        }
+        for (String key : cases.keySet()) {
+            if (!actual.containsKey(key)) {
+                failures.add(key + ": case does not match any mapped statement");
+            }
+        }
+
+        if (update) {
+            writeExpectations(actual);
+            System.out.printf("Plan check: wrote %d expectations to %s%n", actual.size(), expectationsFile);
+            failures.forEach(failure -> System.out.println("  " + failure));
+            return failures.isEmpty();
+        }
+
+        Map<String, String> expected = readExpectations();
+        actual.forEach((key, access) -> {
+            String expectedAccess = expected.get(key);
+            if (expectedAccess == null) {
+                failures.add(key + ": no expectation (actual: " + access + ")");
+            } else if (!expectedAccess.equals(access)) {
+                failures.add(key + ": expected [" + expectedAccess + "] but was [" + access + "]\n      " + plans.get(key));
+            }
+        });
+        expected.keySet().stream()
+                .filter(key -> !actual.containsKey(key))
+                .forEach(key -> failures.add(key + ": expectation for a statement that no longer exists"));
+
+        System.out.printf("Plan check: %d statements checked, %d failures%n", actual.size(), failures.size());
+        failures.forEach(failure -> System.out.println("  " + failure));
+        if (!failures.isEmpty()) {
+            System.out.println("If the new plans are intended, run ./gradlew planCheck -PplanCheck.update=true");
+        }
+        return failures.isEmpty();
+    }
+
+    private SqlSessionFactory sqlSessionFactory() throws Exception {
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(MyBatisConfig.mybatisConfiguration());
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath:mapper/**/*.xml"));
+        factoryBean.setTypeAliasesPackage("example.domain");
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+
+        // XML이 없는 어노테이션 전용 Mapper 등록 (@MapperScan 역할)
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        ResolverUtil<Class<?>> resolver = new ResolverUtil<>();
+        resolver.find(new ResolverUtil.IsA(Object.class), "example.mapper");
+        for (Class<?> type : resolver.getClasses()) {
+            if (type.isInterface() && !configuration.hasMapper(type)) {
+                configuration.addMapper(type);
+            }
+        }
+        return sqlSessionFactory;
+    }
+
+    /**
+     * 전체 이름(example.mapper.UserMapper.findById)으로 등록된 statement id (selectKey 제외)
+     */
+    private static List<String> statementIds(Configuration configuration) {
+        return configuration.getMappedStatementNames().stream()
+                .filter(name -> name.startsWith("example.mapper.") && !name.endsWith("!selectKey"))
+                .sorted()
+                .toList();
+    }
+
+    private static String shortId(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        return statementId.substring(statementId.lastIndexOf('.', method - 1) + 1);
+    }
+
+    /**
+     * 인덱스 이름 -> "테이블(컬럼, ...)" (소문자)
+     */
+    private Map<String, String> loadIndexes() throws SQLException {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        Map<String, String> tables = new HashMap<>();
+        String sql = "SELECT INDEX_NAME, TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                "WHERE INDEX_SCHEMA = 'PUBLIC' ORDER BY INDEX_NAME, ORDINAL_POSITION";
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                String index = rs.getString(1);
+                tables.put(index, rs.getString(2));
+                columns.computeIfAbsent(index, name -> new ArrayList<>()).add(rs.getString(3));
+            }
+        }
+        Map<String, String> indexes = new HashMap<>();
+        columns.forEach((index, names) -> indexes.put(index,
+                (tables.get(index) + "(" + String.join(", ", names) + ")").toLowerCase(Locale.ROOT)));
+        return indexes;
+    }
+
+    private String explain(Configuration configuration, MappedStatement mappedStatement, Object parameter)
+            throws SQLException {
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        List<Object> values = BoundSqlParameters.values(configuration, boundSql, parameter);
+        // 쓰기 statement도 실행하지 않고 계획만 확인 (ANALYZE 없이 EXPLAIN)
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(i + 1, BoundSqlParameters.jdbcValue(values.get(i)));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append(' ');
+                }
+            }
+            return plan.toString().replaceAll("\\s+", " ").trim();
+        }
+    }
+
+    /**
+     * 계획에 나타난 순서대로 테이블 접근 방식 나열
+     */
+    static String accesses(String plan, Map<String, String> indexes) {
+        List<String> accesses = new ArrayList<>();
+        Matcher matcher = ACCESS.matcher(plan);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String detail = matcher.group(2);
+            if ("tableScan".equals(detail)) {
+                accesses.add("scan " + name.toLowerCase(Locale.ROOT));
+            } else {
+                accesses.add(indexes.getOrDefault(name, name.toLowerCase(Locale.ROOT)));
+            }
+        }
+        return accesses.isEmpty() ? NO_ACCESS : String.join(", ", accesses);
+    }
+
+    private Map<String, String> readExpectations() throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        if (!Files.exists(expectationsFile)) {
+            return expected;
+        }
+        for (String line : Files.readAllLines(expectationsFile, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalStateException("Invalid expectation line: " + line);
+            }
+            expected.put(trimmed.substring(0, separator).trim(), trimmed.substring(separator + 1).trim());
+        }
+        return expected;
+    }
+
+    private void writeExpectations(Map<String, String> actual) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Mapper statement별 테이블 접근 방식 (./gradlew planCheck로 검사)");
+        lines.add("# scan <테이블>: 전체 스캔, <테이블>(<컬럼>): 인덱스 사용, -: 테이블 접근 없음");
+        lines.add("# 다시 생성: ./gradlew planCheck -PplanCheck.update=true");
+        String namespace = null;
+        for (Map.Entry<String, String> entry : actual.entrySet()) {
+            String current = entry.getKey().substring(0, entry.getKey().indexOf('.'));
+            if (!current.equals(namespace)) {
+                lines.add("");
+                namespace = current;
+            }
+            lines.add(entry.getKey() + " = " + entry.getValue());
+        }
+        Files.write(expectationsFile, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package example.perf;
+
+import example.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 비교 (./gradlew loadTestThreads)
+ *
+ * 같은 시드의 혼합 부하(로그인 → 검색 → 주문 → 취소)를 두 모드로 차례로 실행하고
+ * 서버의 최대 동시 처리 요청 수와 엔드포인트별 p99를 나란히 출력
+ * - platform: Tomcat 스레드 풀(server.tomcat.threads.max, 기본 200)이 동시 처리 수의 상한
+ * - virtual: spring.threads.virtual.enabled=true (Java 21+, 아니면 결과에 platform으로 표시)
+ *
+ * 부하 설정은 loadTest와 같은 -PloadTest.* 프로퍼티 사용 (도착률을 높여야 차이가 드러남)
+ */
+public final class ThreadModeComparison {
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        List<LoadTestRunner.Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            List<String> appArgs = new ArrayList<>(config.appArgs());
+            appArgs.add("--spring.threads.virtual.enabled=" + virtual);
+            results.add(new LoadTestRunner(config.withAppArgs(appArgs)).run());
+        }
+
+        LoadTestRunner.Result platform = results.get(0);
+        LoadTestRunner.Result virtual = results.get(1);
+        if (!virtual.serverVirtualThreads()) {
+            System.out.println("\nVirtual thread mode was not active (Java 21+ required); both runs used platform threads");
+        }
+
+        System.out.printf("%n%-30s %12s %12s%n", "", "platform", virtual.serverVirtualThreads() ? "virtual" : "platform");
+        System.out.printf("%-30s %12d %12d%n", "max concurrent requests", platform.maxActiveRequests(), virtual.maxActiveRequests());
+        System.out.printf("%-30s %12d %12d%n", "dropped sessions", platform.droppedSessions(), virtual.droppedSessions());
+        for (int i = 0; i < platform.endpoints().size(); i++) {
+            EndpointStats platformStats = platform.endpoints().get(i);
+            EndpointStats virtualStats = virtual.endpoints().get(i);
+            System.out.printf("%-30s %12.2f %12.2f%n", platformStats.name() + " p99(ms)",
+                    p99(platformStats.latency()), p99(virtualStats.latency()));
+            System.out.printf("%-30s %12d %12d%n", platformStats.name() + " errors",
+                    platformStats.errorCount(), virtualStats.errorCount());
+        }
+    }
+
+    private static double p99(LatencyHistogram latency) {
+        return LoadTestRunner.millis(latency.valueAtPercentile(99));
+    }
+}
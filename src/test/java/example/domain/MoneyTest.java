@@ -0,0 +1,114 @@
+package example.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("소수점 둘째 자리까지는 그대로, 뒤쪽 0은 무시하고 생성한다")
+    void createsFromDecimal() {
+        assertThat(Money.of(new BigDecimal("12.5")).minorUnits()).isEqualTo(1250);
+        assertThat(Money.of(new BigDecimal("12.500")).minorUnits()).isEqualTo(1250);
+        assertThat(Money.of(new BigDecimal("1E+3")).minorUnits()).isEqualTo(100000);
+        assertThat(Money.parse("-0.01").minorUnits()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("소수점 둘째 자리 아래가 있으면 반올림하지 않고 ArithmeticException")
+    void rejectsExtraDecimalPlaces() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("12.345")))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessageContaining("decimal places");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E-400")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("long 최소 단위를 벗어나는 크기는 IllegalArgumentException")
+    void rejectsOutOfRange() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+30")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("out of range");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("-1E+1000000000")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("out of range");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Money.of(new BigDecimal("92233720368547758.07")).minorUnits()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("RoundingMode를 지정하면 반올림하고, 범위를 벗어나면 반올림 모드와 관계없이 거부한다")
+    void roundsWithMode() {
+        assertThat(Money.of(new BigDecimal("12.345"), RoundingMode.HALF_UP).minorUnits()).isEqualTo(1235);
+        assertThat(Money.of(new BigDecimal("12.345"), RoundingMode.DOWN).minorUnits()).isEqualTo(1234);
+        assertThat(Money.parse("10.00").times(new BigDecimal("1.155"), RoundingMode.HALF_UP))
+                .isEqualTo(Money.parse("11.55"));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.075"), RoundingMode.UP))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈/뺄셈/수량 곱셈이 넘치면 ArithmeticException")
+    void arithmeticOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThat(Money.parse("12.99").times(3)).isEqualTo(Money.parse("38.97"));
+        assertThat(Money.parse("0.10").plus(Money.parse("0.20"))).isEqualTo(Money.parse("0.30"));
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("toString과 toBigDecimal은 항상 scale 2")
+    void scaleTwoOutput() {
+        assertThat(Money.ofMinor(1250).toString()).isEqualTo("12.50");
+        assertThat(Money.ZERO.toString()).isEqualTo("0.00");
+        assertThat(Money.ofMinor(-5).toBigDecimal()).isEqualTo(new BigDecimal("-0.05"));
+        assertThat(Money.ofMinor(-5).toBigDecimal().scale()).isEqualTo(Money.SCALE);
+    }
+
+    @Test
+    @DisplayName("JSON은 scale 2 숫자로 쓰고, 숫자와 숫자 문자열을 모두 읽는다")
+    void jsonRoundTrip() throws Exception {
+        assertThat(objectMapper.writeValueAsString(Money.ofMinor(1250))).isEqualTo("12.50");
+        assertThat(objectMapper.writeValueAsString(Money.ofMinor(100))).isEqualTo("1.00");
+
+        assertThat(objectMapper.readValue("12.50", Money.class)).isEqualTo(Money.ofMinor(1250));
+        assertThat(objectMapper.readValue("12", Money.class)).isEqualTo(Money.ofMinor(1200));
+        assertThat(objectMapper.readValue("\" 12.5 \"", Money.class)).isEqualTo(Money.ofMinor(1250));
+
+        Money money = Money.parse("1299.99");
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(money), Money.class)).isEqualTo(money);
+    }
+
+    @Test
+    @DisplayName("JSON 입력의 자릿수 초과, 범위 초과, 숫자가 아닌 값은 서로 다른 메시지로 거부한다")
+    void jsonRejectsInvalidAmounts() {
+        assertThatThrownBy(() -> objectMapper.readValue("12.345", Money.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("decimal places");
+        assertThatThrownBy(() -> objectMapper.readValue("\"12.345\"", Money.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("decimal places");
+        assertThatThrownBy(() -> objectMapper.readValue("1e30", Money.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Amount out of range");
+        assertThatThrownBy(() -> objectMapper.readValue("\"abc\"", Money.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Not a valid amount");
+    }
+}
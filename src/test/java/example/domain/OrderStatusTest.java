@@ -0,0 +1,74 @@
+package example.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static example.domain.OrderStatus.CANCELLED;
+import static example.domain.OrderStatus.CONFIRMED;
+import static example.domain.OrderStatus.DELIVERED;
+import static example.domain.OrderStatus.PENDING;
+import static example.domain.OrderStatus.SHIPPED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatusTest {
+
+    @Test
+    @DisplayName("sourcesOf는 모든 상태에 대해 nextStatuses의 역방향과 같다")
+    void sourcesOfInvertsTransitions() {
+        for (OrderStatus target : OrderStatus.values()) {
+            Set<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus from : OrderStatus.values()) {
+                if (from.nextStatuses().contains(target)) {
+                    expected.add(from);
+                }
+            }
+            assertThat(OrderStatus.sourcesOf(target)).as("sourcesOf(%s)", target).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("상태별 이전 상태: PENDING은 빈 집합, CANCELLED는 DELIVERED 이전의 모든 상태")
+    void sourcesOfEachStatus() {
+        assertThat(OrderStatus.sourcesOf(PENDING)).isEmpty();
+        assertThat(OrderStatus.sourcesOf(CONFIRMED)).containsExactly(PENDING);
+        assertThat(OrderStatus.sourcesOf(SHIPPED)).containsExactly(CONFIRMED);
+        assertThat(OrderStatus.sourcesOf(DELIVERED)).containsExactly(SHIPPED);
+        assertThat(OrderStatus.sourcesOf(CANCELLED)).containsExactlyInAnyOrder(PENDING, CONFIRMED, SHIPPED);
+    }
+
+    @Test
+    @DisplayName("canTransitionTo는 정방향 전이와 취소만 허용한다")
+    void canTransitionTo() {
+        assertThat(PENDING.canTransitionTo(CONFIRMED)).isTrue();
+        assertThat(PENDING.canTransitionTo(CANCELLED)).isTrue();
+        assertThat(SHIPPED.canTransitionTo(DELIVERED)).isTrue();
+
+        assertThat(PENDING.canTransitionTo(SHIPPED)).isFalse();
+        assertThat(CONFIRMED.canTransitionTo(PENDING)).isFalse();
+        assertThat(SHIPPED.canTransitionTo(SHIPPED)).isFalse();
+        assertThat(DELIVERED.canTransitionTo(CANCELLED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DELIVERED와 CANCELLED만 최종 상태다")
+    void terminalStatuses() {
+        assertThat(EnumSet.allOf(OrderStatus.class)).filteredOn(OrderStatus::isTerminal)
+                .containsExactlyInAnyOrder(DELIVERED, CANCELLED);
+        assertThat(DELIVERED.nextStatuses()).isEmpty();
+        assertThat(CANCELLED.nextStatuses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반환된 집합은 수정할 수 없다")
+    void returnedSetsAreUnmodifiable() {
+        assertThatThrownBy(() -> PENDING.nextStatuses().add(DELIVERED))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> OrderStatus.sourcesOf(PENDING).add(CANCELLED))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(OrderStatus.sourcesOf(PENDING)).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package example.mapper;
+
+import example.config.MyBatisConfig;
+import example.domain.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderMapper.updateStatus의 guarded UPDATE 검증
+ *
+ * 앱과 같은 SqlSessionFactory(TypeHandler, 2차 캐시, 플러그인)를 쓰도록 MyBatisConfig를 가져옴
+ * 각 테스트는 트랜잭션 안에서 실행되고 끝나면 롤백
+ */
+@MybatisTest
+@Import(MyBatisConfig.class)
+class OrderMapperTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new SimpleJdbcInsert(jdbcTemplate).withTableName("users")
+                .usingColumns("username", "password", "email")
+                .usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(Map.of("username", "order_mapper_test",
+                        "password", "secret", "email", "order_mapper_test@example.com"))
+                .longValue();
+    }
+
+    @Test
+    @DisplayName("현재 상태가 이전 상태 목록에 있으면 전이하고 1을 반환한다")
+    void updatesFromAllowedSource() {
+        long orderId = insertOrder(OrderStatus.PENDING);
+
+        int updated = orderMapper.updateStatus(orderId, OrderStatus.CONFIRMED,
+                OrderStatus.sourcesOf(OrderStatus.CONFIRMED));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(orderId)).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    @DisplayName("현재 상태가 이전 상태 목록에 없으면 변경하지 않고 0을 반환한다")
+    void skipsDisallowedSource() {
+        long orderId = insertOrder(OrderStatus.DELIVERED);
+
+        int updated = orderMapper.updateStatus(orderId, OrderStatus.CANCELLED,
+                OrderStatus.sourcesOf(OrderStatus.CANCELLED));
+
+        assertThat(updated).isZero();
+        assertThat(statusOf(orderId)).isEqualTo("DELIVERED");
+    }
+
+    @Test
+    @DisplayName("이전 상태 목록이 비어 있으면 (PENDING으로의 전이) 어떤 행도 변경하지 않는다")
+    void emptySourcesMatchNothing() {
+        long orderId = insertOrder(OrderStatus.CONFIRMED);
+
+        assertThat(orderMapper.updateStatus(orderId, OrderStatus.PENDING,
+                OrderStatus.sourcesOf(OrderStatus.PENDING))).isZero();
+        assertThat(orderMapper.updateStatus(orderId, OrderStatus.PENDING, List.of())).isZero();
+        assertThat(statusOf(orderId)).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문이면 0을 반환한다")
+    void missingOrder() {
+        int updated = orderMapper.updateStatus(-1L, OrderStatus.CANCELLED,
+                EnumSet.allOf(OrderStatus.class));
+
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("두 번째 전이 시도는 첫 번째 전이로 상태가 바뀌었으므로 0을 반환한다")
+    void secondTransitionLoses() {
+        long orderId = insertOrder(OrderStatus.PENDING);
+
+        assertThat(orderMapper.updateStatus(orderId, OrderStatus.CONFIRMED,
+                OrderStatus.sourcesOf(OrderStatus.CONFIRMED))).isEqualTo(1);
+        assertThat(orderMapper.updateStatus(orderId, OrderStatus.CONFIRMED,
+                OrderStatus.sourcesOf(OrderStatus.CONFIRMED))).isZero();
+    }
+
+    private long insertOrder(OrderStatus status) {
+        return new SimpleJdbcInsert(jdbcTemplate).withTableName("orders")
+                .usingColumns("user_id", "status", "total_amount")
+                .usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(Map.of("user_id", userId, "status", status.name(), "total_amount", 0))
+                .longValue();
+    }
+
+    private String statusOf(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId);
+    }
+}
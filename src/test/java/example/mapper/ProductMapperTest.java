@@ -0,0 +1,115 @@
+package example.mapper;
+
+import example.config.MyBatisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductMapper.restoreStockForOrders(MERGE) 검증
+ *
+ * 재고는 2차 캐시를 거치지 않도록 JdbcTemplate으로 직접 조회
+ * 각 테스트는 트랜잭션 안에서 실행되고 끝나면 롤백
+ */
+@MybatisTest
+@Import(MyBatisConfig.class)
+class ProductMapperTest {
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long laptop;
+    private long mouse;
+    private long cable;
+
+    @BeforeEach
+    void setUp() {
+        userId = insert("users", Map.of("username", "product_mapper_test",
+                "password", "secret", "email", "product_mapper_test@example.com"));
+        laptop = insertProduct("laptop", 10);
+        mouse = insertProduct("mouse", 20);
+        cable = insertProduct("cable", 30);
+    }
+
+    @Test
+    @DisplayName("여러 주문에 같은 상품이 있으면 수량을 합쳐 한 번만 더한다")
+    void sumsQuantitiesAcrossOrders() {
+        long first = insertOrder();
+        insertItem(first, laptop, 1);
+        insertItem(first, mouse, 2);
+        long second = insertOrder();
+        insertItem(second, laptop, 3);
+        insertItem(second, mouse, 4);
+
+        int updated = productMapper.restoreStockForOrders(List.of(first, second));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(stockOf(laptop)).isEqualTo(10 + 1 + 3);
+        assertThat(stockOf(mouse)).isEqualTo(20 + 2 + 4);
+    }
+
+    @Test
+    @DisplayName("목록에 없는 주문의 항목과 주문에 없는 상품의 재고는 바뀌지 않는다")
+    void leavesOtherProductsUntouched() {
+        long restored = insertOrder();
+        insertItem(restored, laptop, 2);
+        long other = insertOrder();
+        insertItem(other, laptop, 5);
+        insertItem(other, cable, 7);
+
+        int updated = productMapper.restoreStockForOrders(List.of(restored));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(stockOf(laptop)).isEqualTo(10 + 2);
+        assertThat(stockOf(mouse)).isEqualTo(20);
+        assertThat(stockOf(cable)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("항목이 없는 주문만 있으면 어떤 상품도 변경하지 않는다")
+    void ordersWithoutItems() {
+        long empty = insertOrder();
+
+        assertThat(productMapper.restoreStockForOrders(List.of(empty, -1L))).isZero();
+        assertThat(stockOf(laptop)).isEqualTo(10);
+    }
+
+    private long insertProduct(String name, int stock) {
+        return insert("products", Map.of("name", name, "price", 1, "stock_quantity", stock));
+    }
+
+    private long insertOrder() {
+        return insert("orders", Map.of("user_id", userId, "status", "CANCELLED", "total_amount", 0));
+    }
+
+    private void insertItem(long orderId, long productId, int quantity) {
+        insert("order_items", Map.of("order_id", orderId, "product_id", productId,
+                "quantity", quantity, "price", 1, "subtotal", quantity));
+    }
+
+    private long insert(String table, Map<String, ?> values) {
+        return new SimpleJdbcInsert(jdbcTemplate).withTableName(table)
+                .usingColumns(values.keySet().toArray(String[]::new))
+                .usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(values)
+                .longValue();
+    }
+
+    private int stockOf(long productId) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+    }
+}
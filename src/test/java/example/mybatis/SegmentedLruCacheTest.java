@@ -0,0 +1,125 @@
+package example.mybatis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentedLruCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("다시 조회된 항목은 protected로 승격되어 한 번만 조회된 항목보다 늦게 제거된다")
+    void promotedEntrySurvivesProbationEviction() {
+        SegmentedLruCache cache = new SegmentedLruCache("test", 5, Long.MAX_VALUE, TTL);
+        for (int i = 1; i <= 5; i++) {
+            cache.putObject(i, "v" + i);
+        }
+        cache.getObject(1);
+
+        cache.putObject(6, "v6");
+
+        assertThat(cache.getSize()).isEqualTo(5);
+        assertThat(cache.getObject(1)).isEqualTo("v1");
+        assertThat(cache.getObject(2)).isNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("protected가 가득 차면 가장 오래 조회되지 않은 항목이 probation으로 강등되어 먼저 제거된다")
+    void protectedOverflowDemotesLeastRecentlyUsed() {
+        // protected 용량 = 5 * 0.8 = 4
+        SegmentedLruCache cache = new SegmentedLruCache("test", 5, Long.MAX_VALUE, TTL);
+        for (int i = 1; i <= 5; i++) {
+            cache.putObject(i, "v" + i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            cache.getObject(i);
+        }
+
+        cache.putObject(6, "v6");
+
+        assertThat(cache.getObject(1)).isNull();
+        for (int i = 2; i <= 6; i++) {
+            assertThat(cache.getObject(i)).isEqualTo("v" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 조회 시 제거되고 미스로 집계된다")
+    void expiredEntryIsRemovedOnRead() throws InterruptedException {
+        SegmentedLruCache cache = new SegmentedLruCache("test", 10, Long.MAX_VALUE, Duration.ofMillis(20));
+        cache.putObject(1, "v1");
+
+        Thread.sleep(50);
+
+        assertThat(cache.getObject(1)).isNull();
+        assertThat(cache.getSize()).isZero();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("추정 바이트 수가 maxBytes를 넘으면 LRU부터 제거하고, 혼자서 넘는 항목은 저장하지 않는다")
+    void byteBoundEvictsAndRejects() {
+        long entryBytes = ObjectSizeEstimator.estimate(1) + ObjectSizeEstimator.estimate("x".repeat(50));
+        SegmentedLruCache cache = new SegmentedLruCache("test", 100, entryBytes * 2, TTL);
+
+        cache.putObject(1, "x".repeat(50));
+        cache.putObject(2, "y".repeat(50));
+        cache.putObject(3, "z".repeat(50));
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.estimatedBytes()).isLessThanOrEqualTo(entryBytes * 2);
+        assertThat(cache.getObject(1)).isNull();
+
+        cache.putObject(4, "w".repeat(1000));
+        assertThat(cache.getObject(4)).isNull();
+        assertThat(cache.stats()).containsEntry("rejections", 1L);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 넣으면 값과 바이트 수가 교체된다")
+    void replacingValueUpdatesBytes() {
+        SegmentedLruCache cache = new SegmentedLruCache("test", 10, Long.MAX_VALUE, TTL);
+        cache.putObject(1, "x".repeat(10));
+        long before = cache.estimatedBytes();
+
+        cache.putObject(1, "x".repeat(30));
+
+        assertThat(cache.getSize()).isEqualTo(1);
+        assertThat(cache.estimatedBytes()).isEqualTo(before + 20);
+        assertThat(cache.getObject(1)).isEqualTo("x".repeat(30));
+    }
+
+    @Test
+    @DisplayName("removeObject와 clear는 항목과 바이트 수를 함께 정리한다")
+    void removeAndClear() {
+        SegmentedLruCache cache = new SegmentedLruCache("test", 10, Long.MAX_VALUE, TTL);
+        cache.putObject(1, "v1");
+        cache.putObject(2, "v2");
+        cache.getObject(2);
+
+        assertThat(cache.removeObject(2)).isEqualTo("v2");
+        assertThat(cache.getSize()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.getSize()).isZero();
+        assertThat(cache.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기와 ttl은 양수여야 한다")
+    void rejectsInvalidLimits() {
+        assertThatThrownBy(() -> new SegmentedLruCache("test", 0, 1, TTL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SegmentedLruCache("test", 1, 0, TTL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SegmentedLruCache("test", 1, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
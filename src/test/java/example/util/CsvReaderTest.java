@@ -0,0 +1,72 @@
+package example.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("따옴표 안의 구분자, 줄바꿈, \"\" 이스케이프를 필드 값으로 읽는다")
+    void readsQuotedFields() throws IOException {
+        CsvReader reader = reader("id,name\n1,\"a, \"\"b\"\"\nc\"\n2,d\n");
+
+        assertThat(reader.next()).containsExactly("id", "name");
+        assertThat(reader.next()).containsExactly("1", "a, \"b\"\nc");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("2", "d");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("CRLF/LF를 모두 줄바꿈으로 보고 빈 줄은 건너뛴다")
+    void handlesLineEndingsAndBlankLines() throws IOException {
+        CsvReader reader = reader("a,b\r\n\r\n\nc,\r\n,d");
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("c", "");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).containsExactly("", "d");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("레코드가 maxRecordChars를 넘으면 예외")
+    void rejectsRecordOverLimit() throws IOException {
+        CsvReader reader = reader("ab,c\n" + "x".repeat(20) + "\n", 10);
+
+        assertThat(reader.next()).containsExactly("ab", "c");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 파일 끝까지 삼키지 않고 제한에서 멈춘다")
+    void unterminatedQuoteStopsAtLimit() {
+        CsvReader limited = reader("\"abc\n" + "x\n".repeat(100), 16);
+        assertThatThrownBy(limited::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("exceeds 16 characters");
+
+        CsvReader unlimited = reader("\"abc\ndef", 1000);
+        assertThatThrownBy(unlimited::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unterminated");
+    }
+
+    private static CsvReader reader(String text) {
+        return reader(text, 1 << 20);
+    }
+
+    private static CsvReader reader(String text, int maxRecordChars) {
+        return new CsvReader(new StringReader(text), maxRecordChars);
+    }
+}
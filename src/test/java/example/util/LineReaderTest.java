@@ -0,0 +1,43 @@
+package example.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineReaderTest {
+
+    @Test
+    @DisplayName("CRLF/LF/CR을 줄바꿈으로 보고 줄 번호를 센다")
+    void readsLines() throws IOException {
+        LineReader reader = new LineReader(new StringReader("a\r\nb\n\nc\rd"), 100);
+
+        assertThat(reader.next()).isEqualTo("a");
+        assertThat(reader.next()).isEqualTo("b");
+        assertThat(reader.next()).isEmpty();
+        assertThat(reader.next()).isEqualTo("c");
+        assertThat(reader.next()).isEqualTo("d");
+        assertThat(reader.line()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("maxLineChars를 넘는 줄은 버리고 표시한 뒤 다음 줄부터 계속 읽는다")
+    void skipsLineOverLimit() throws IOException {
+        LineReader reader = new LineReader(new StringReader("abcd\n" + "x".repeat(10_000) + "\nef"), 4);
+
+        assertThat(reader.next()).isEqualTo("abcd");
+        assertThat(reader.isTooLong()).isFalse();
+
+        assertThat(reader.next()).isEmpty();
+        assertThat(reader.isTooLong()).isTrue();
+        assertThat(reader.line()).isEqualTo(2);
+
+        assertThat(reader.next()).isEqualTo("ef");
+        assertThat(reader.isTooLong()).isFalse();
+        assertThat(reader.line()).isEqualTo(3);
+    }
+}